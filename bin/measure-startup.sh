@@ -0,0 +1,37 @@
+#!/usr/bin/env bash
+# Compares time to first HTTP response and JVM resident set size (VmRSS) of the plain fat-jar image with
+# the layered AppCDS image. Both run with the h2 profile so no database is needed.
+#
+# Usage: bin/measure-startup.sh [runs]
+set -euo pipefail
+
+RUNS=${1:-5}
+PORT=4000
+
+docker build --target plain -t test-backend:plain .
+docker build -t test-backend:cds .
+
+measure() {
+  local image=$1
+  local container
+  container=$(docker run -d -p "${PORT}:4000" -e SPRING_PROFILES_ACTIVE=h2 "${image}")
+  local start
+  start=$(date +%s%N)
+  # Tomcat only accepts connections once the context has refreshed; any status code counts as ready
+  until [ "$(curl -s -o /dev/null -w '%{http_code}' "http://localhost:${PORT}/" || true)" != "000" ]; do
+    sleep 0.05
+  done
+  local ready_ms=$(( ($(date +%s%N) - start) / 1000000 ))
+  sleep 2
+  # Resident set of the JVM itself; docker stats reports cgroup memory, which also counts page cache
+  local rss_kb
+  rss_kb=$(docker exec "${container}" grep VmRSS /proc/1/status | awk '{print $2}')
+  docker rm -f "${container}" > /dev/null
+  echo "${image} ready_ms=${ready_ms} rss_kb=${rss_kb}"
+}
+
+for image in test-backend:plain test-backend:cds; do
+  for run in $(seq "${RUNS}"); do
+    measure "${image}"
+  done
+done
@@ -12,14 +12,18 @@ import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 import uk.gov.hmcts.reform.dev.dto.CaseRequest;
 import uk.gov.hmcts.reform.dev.dto.CaseResponse;
+import uk.gov.hmcts.reform.dev.dto.PendingCaseResponse;
 import uk.gov.hmcts.reform.dev.enums.CaseStatus;
 import uk.gov.hmcts.reform.dev.exceptions.CaseNotFoundException;
 import uk.gov.hmcts.reform.dev.exceptions.DuplicateCaseException;
 import uk.gov.hmcts.reform.dev.security.JwtUtil;
+import uk.gov.hmcts.reform.dev.services.CaseReadCoalescer.LoadedCase;
 import uk.gov.hmcts.reform.dev.services.CaseService;
+import uk.gov.hmcts.reform.dev.services.CaseWriteBehindService;
 
 import java.time.LocalDateTime;
 import java.util.Collections;
+import java.util.Optional;
 
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
@@ -27,6 +31,7 @@ import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
@@ -41,6 +46,9 @@ class CaseControllerTest {
     @Autowired
     private CaseService caseService;
 
+    @Autowired
+    private CaseWriteBehindService caseWriteBehindService;
+
     @Autowired
     private JwtUtil jwtUtil;
 
@@ -82,7 +90,7 @@ class CaseControllerTest {
             .createdDate(LocalDateTime.now())
             .build();
 
-        when(caseService.getCaseById(eq(1L))).thenReturn(mockCase);
+        when(caseService.getCaseByIdForCache(eq(1L))).thenReturn(new LoadedCase(mockCase, 0L));
 
         mockMvc.perform(get("/cases/1")
                             .contentType(MediaType.APPLICATION_JSON))
@@ -118,6 +126,31 @@ class CaseControllerTest {
             .andExpect(jsonPath("$.status").value(CaseStatus.NEW.name()));
     }
 
+    @Test
+    void shouldAcceptCaseAsynchronouslyWhenPreferred() throws Exception {
+        CaseRequest request = new CaseRequest();
+        request.setCaseNumber("ASYNC1");
+        request.setTitle("Async Case");
+        request.setStatus(CaseStatus.NEW);
+
+        PendingCaseResponse pending = PendingCaseResponse.builder()
+            .id(42L)
+            .caseNumber("ASYNC1")
+            .state(PendingCaseResponse.State.PENDING)
+            .acceptedDate(LocalDateTime.now())
+            .build();
+
+        when(caseWriteBehindService.submit(any(CaseRequest.class))).thenReturn(Optional.of(pending));
+
+        mockMvc.perform(post("/cases")
+                            .header("Prefer", "respond-async")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(request)))
+            .andExpect(status().isAccepted())
+            .andExpect(header().string("Location", "/cases/pending/42"))
+            .andExpect(jsonPath("$.state").value("PENDING"));
+    }
+
     @Test
     void shouldUpdateCase() throws Exception {
         CaseRequest request = new CaseRequest();
@@ -165,7 +198,7 @@ class CaseControllerTest {
 
     @Test
     void shouldReturnNotFoundForNonExistentCase() throws Exception {
-        when(caseService.getCaseById(999L))
+        when(caseService.getCaseByIdForCache(999L))
             .thenThrow(new CaseNotFoundException(999L));
 
         mockMvc.perform(get("/cases/999")
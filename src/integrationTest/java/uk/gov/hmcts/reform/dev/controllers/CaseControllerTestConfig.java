@@ -6,10 +6,19 @@ import org.springframework.context.annotation.Primary;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
+import uk.gov.hmcts.reform.dev.diagnostics.HotKeyTracker;
 import uk.gov.hmcts.reform.dev.security.JwtAuthFilter;
 import uk.gov.hmcts.reform.dev.security.JwtUtil;
+import uk.gov.hmcts.reform.dev.services.CaseBulkService;
+import uk.gov.hmcts.reform.dev.services.CaseListSnapshotService;
+import uk.gov.hmcts.reform.dev.services.CaseResponseCache;
+import uk.gov.hmcts.reform.dev.services.CaseLookupService;
 import uk.gov.hmcts.reform.dev.services.CaseService;
+import uk.gov.hmcts.reform.dev.services.CaseSyncService;
+import uk.gov.hmcts.reform.dev.services.CaseWriteBehindService;
+import uk.gov.hmcts.reform.dev.services.IdempotencyService;
 import uk.gov.hmcts.reform.dev.repositories.CaseRepository;
+import uk.gov.hmcts.reform.dev.tracing.Tracer;
 
 import static org.mockito.Mockito.mock;
 
@@ -28,12 +37,66 @@ public class CaseControllerTestConfig {
         return mock(CaseService.class);
     }
 
+    @Bean
+    @Primary
+    public CaseSyncService caseSyncService() {
+        return mock(CaseSyncService.class);
+    }
+
+    @Bean
+    @Primary
+    public CaseLookupService caseLookupService() {
+        return mock(CaseLookupService.class);
+    }
+
+    @Bean
+    @Primary
+    public CaseBulkService caseBulkService() {
+        return mock(CaseBulkService.class);
+    }
+
+    @Bean
+    @Primary
+    public CaseWriteBehindService caseWriteBehindService() {
+        return mock(CaseWriteBehindService.class);
+    }
+
+    @Bean
+    @Primary
+    public IdempotencyService idempotencyService() {
+        return mock(IdempotencyService.class);
+    }
+
+    @Bean
+    @Primary
+    public CaseListSnapshotService caseListSnapshotService() {
+        return mock(CaseListSnapshotService.class);
+    }
+
+    @Bean
+    @Primary
+    public CaseResponseCache caseResponseCache() {
+        return mock(CaseResponseCache.class);
+    }
+
+    @Bean
+    @Primary
+    public HotKeyTracker hotKeyTracker() {
+        return mock(HotKeyTracker.class);
+    }
+
     @Bean
     @Primary
     public CaseRepository caseRepository() {
         return mock(CaseRepository.class);
     }
 
+    @Bean
+    @Primary
+    public Tracer tracer() {
+        return mock(Tracer.class);
+    }
+
     @Bean
     @Primary
     public JwtUtil jwtUtil() {
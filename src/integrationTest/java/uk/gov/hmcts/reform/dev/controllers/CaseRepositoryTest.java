@@ -3,12 +3,17 @@ package uk.gov.hmcts.reform.dev.controllers;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import uk.gov.hmcts.reform.dev.dto.CaseSearchCriteria;
 import uk.gov.hmcts.reform.dev.enums.CaseStatus;
 import uk.gov.hmcts.reform.dev.models.Case;
 import uk.gov.hmcts.reform.dev.repositories.CaseRepository;
+import uk.gov.hmcts.reform.dev.repositories.CaseSpecifications;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.assertNotNull;
@@ -96,6 +101,120 @@ class CaseRepositoryTest {
         assertTrue(deletedCase.isEmpty());
     }
 
+    @Test
+    void shouldReportDeletedRowCount() {
+        // Given
+        Case savedCase = caseRepository.save(createTestCase("DELETE456", CaseStatus.NEW));
+
+        // When & Then
+        assertEquals(1, caseRepository.deleteCaseById(savedCase.getId()));
+        assertEquals(0, caseRepository.deleteCaseById(savedCase.getId()));
+        assertTrue(caseRepository.findById(savedCase.getId()).isEmpty());
+    }
+
+    @Test
+    void shouldFindArchivableCasesAfterCheckpoint() {
+        // Given
+        Case oldClosed = createTestCase("OLD1", CaseStatus.CLOSED);
+        oldClosed.setClosedDate(LocalDateTime.now().minusDays(200));
+        Case oldResolved = createTestCase("OLD2", CaseStatus.RESOLVED);
+        oldResolved.setClosedDate(LocalDateTime.now().minusDays(100));
+        Case recentlyClosed = createTestCase("RECENT1", CaseStatus.CLOSED);
+        recentlyClosed.setClosedDate(LocalDateTime.now());
+        Case open = createTestCase("OPEN1", CaseStatus.IN_PROGRESS);
+        caseRepository.saveAll(List.of(oldClosed, oldResolved, recentlyClosed, open));
+
+        // When
+        LocalDateTime cutoff = LocalDateTime.now().minusDays(90);
+        List<CaseStatus> terminal = List.of(CaseStatus.RESOLVED, CaseStatus.CLOSED);
+        List<Case> all = caseRepository.findArchivable(terminal, cutoff, 0L, PageRequest.of(0, 10));
+        List<Case> afterFirst = caseRepository.findArchivable(
+            terminal, cutoff, oldClosed.getId(), PageRequest.of(0, 10));
+
+        // Then
+        assertEquals(List.of("OLD1", "OLD2"), all.stream().map(Case::getCaseNumber).toList());
+        assertEquals(List.of("OLD2"), afterFirst.stream().map(Case::getCaseNumber).toList());
+    }
+
+    @Test
+    void shouldFilterAndSortWithSpecification() {
+        // Given
+        LocalDateTime now = LocalDateTime.now();
+        Case match1 = createTestCase("ABC1", CaseStatus.NEW);
+        match1.setCreatedDate(now.minusDays(2));
+        Case match2 = createTestCase("ABC2", CaseStatus.IN_PROGRESS);
+        match2.setCreatedDate(now.minusDays(1));
+        Case wrongStatus = createTestCase("ABC3", CaseStatus.CLOSED);
+        Case wrongPrefix = createTestCase("XYZ1", CaseStatus.NEW);
+        Case tooOld = createTestCase("ABC4", CaseStatus.NEW);
+        tooOld.setCreatedDate(now.minusDays(30));
+        caseRepository.saveAll(List.of(match1, match2, wrongStatus, wrongPrefix, tooOld));
+
+        CaseSearchCriteria criteria = new CaseSearchCriteria();
+        criteria.setStatus(List.of(CaseStatus.NEW, CaseStatus.IN_PROGRESS));
+        criteria.setCreatedFrom(now.minusDays(7));
+        criteria.setCaseNumberPrefix("ABC");
+        Sort sort = CaseSpecifications.toSort(List.of("-createdDate"));
+
+        // When
+        List<Case> cases = caseRepository.findBy(
+            CaseSpecifications.matching(criteria), query -> query.sortBy(sort).limit(10).all());
+        List<Case> limited = caseRepository.findBy(
+            CaseSpecifications.matching(criteria), query -> query.sortBy(sort).limit(1).all());
+
+        // Then
+        assertEquals(List.of("ABC2", "ABC1"), cases.stream().map(Case::getCaseNumber).toList());
+        assertEquals(List.of("ABC2"), limited.stream().map(Case::getCaseNumber).toList());
+    }
+
+    @Test
+    void shouldTransitionMatchingIdsInOneStatement() {
+        // Given
+        Case resolved = createTestCase("BULK1", CaseStatus.RESOLVED);
+        resolved.setClosedDate(LocalDateTime.now().minusDays(40));
+        Case open = createTestCase("BULK2", CaseStatus.IN_PROGRESS);
+        Case alreadyClosed = createTestCase("BULK3", CaseStatus.CLOSED);
+        caseRepository.saveAll(List.of(resolved, open, alreadyClosed));
+
+        // When
+        List<Long> ids = caseRepository.findIdsMatching(
+            CaseSpecifications.hasStatusOtherThan(CaseStatus.CLOSED), 0L, 10);
+        int updated = caseRepository.transitionToTerminal(ids, CaseStatus.CLOSED, LocalDateTime.now(), 42L);
+
+        // Then
+        assertEquals(List.of(resolved.getId(), open.getId()), ids);
+        assertEquals(2, updated);
+        Case reloadedResolved = caseRepository.findById(resolved.getId()).orElseThrow();
+        Case reloadedOpen = caseRepository.findById(open.getId()).orElseThrow();
+        assertEquals(CaseStatus.CLOSED, reloadedResolved.getStatus());
+        assertEquals(42L, reloadedResolved.getChangeSeq());
+        assertTrue(reloadedResolved.getClosedDate().isBefore(LocalDateTime.now().minusDays(39)));
+        assertNotNull(reloadedOpen.getClosedDate());
+    }
+
+    @Test
+    void shouldSelectOnlyRequestedFields() {
+        // Given
+        Case open = createTestCase("FIELDS1", CaseStatus.NEW);
+        open.setDescription("Long description that should not be read");
+        Case closed = createTestCase("FIELDS2", CaseStatus.CLOSED);
+        caseRepository.saveAll(List.of(open, closed));
+
+        CaseSearchCriteria criteria = new CaseSearchCriteria();
+        criteria.setStatus(List.of(CaseStatus.NEW));
+        List<String> fields = CaseSpecifications.toFields(List.of("caseNumber", "id", "caseNumber"));
+
+        // When
+        List<Map<String, Object>> rows = caseRepository.findFieldsMatching(
+            CaseSpecifications.matching(criteria), CaseSpecifications.toSort(null), 10, fields);
+
+        // Then
+        assertEquals(1, rows.size());
+        assertEquals(List.of("caseNumber", "id"), List.copyOf(rows.get(0).keySet()));
+        assertEquals("FIELDS1", rows.get(0).get("caseNumber"));
+        assertEquals(open.getId(), rows.get(0).get("id"));
+    }
+
     private Case createTestCase(String caseNumber, CaseStatus status) {
         Case testCase = new Case();
         testCase.setCaseNumber(caseNumber);
@@ -8,6 +8,10 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springdoc.core.annotations.ParameterObject;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.validation.annotation.Validated;
@@ -19,11 +23,32 @@ import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestParam;
+import uk.gov.hmcts.reform.dev.dto.BulkOperationResponse;
+import uk.gov.hmcts.reform.dev.dto.CaseChangesResponse;
+import uk.gov.hmcts.reform.dev.dto.CaseLookupRequest;
+import uk.gov.hmcts.reform.dev.dto.CaseLookupResult;
 import uk.gov.hmcts.reform.dev.dto.CaseRequest;
 import uk.gov.hmcts.reform.dev.dto.CaseResponse;
+import uk.gov.hmcts.reform.dev.dto.CaseSearchCriteria;
+import uk.gov.hmcts.reform.dev.dto.PendingCaseResponse;
+import uk.gov.hmcts.reform.dev.diagnostics.HotKeyTracker;
+import uk.gov.hmcts.reform.dev.dto.StatusTransitionRequest;
+import uk.gov.hmcts.reform.dev.services.CaseBulkService;
+import uk.gov.hmcts.reform.dev.services.CaseListSnapshotService;
+import uk.gov.hmcts.reform.dev.services.CaseReadCoalescer.LoadedCase;
+import uk.gov.hmcts.reform.dev.services.CaseResponseCache;
+import uk.gov.hmcts.reform.dev.services.CaseResponseCache.CachedCaseJson;
+import uk.gov.hmcts.reform.dev.services.CaseLookupService;
 import uk.gov.hmcts.reform.dev.services.CaseService;
+import uk.gov.hmcts.reform.dev.services.CaseSyncService;
+import uk.gov.hmcts.reform.dev.services.CaseWriteBehindService;
+import uk.gov.hmcts.reform.dev.services.IdempotencyService;
 
+import java.net.URI;
 import java.util.List;
+import java.util.Optional;
 
 @RestController
 @RequestMapping("/cases")
@@ -33,7 +58,20 @@ import java.util.List;
 @Validated
 public class CaseController {
 
+    private static final String PREFER = "Prefer";
+    private static final String RESPOND_ASYNC = "respond-async";
+    private static final String PREFERENCE_APPLIED = "Preference-Applied";
+    private static final String IDEMPOTENCY_KEY = "Idempotency-Key";
+
     private final CaseService caseService;
+    private final CaseSyncService caseSyncService;
+    private final CaseLookupService caseLookupService;
+    private final CaseBulkService caseBulkService;
+    private final CaseWriteBehindService caseWriteBehindService;
+    private final IdempotencyService idempotencyService;
+    private final CaseListSnapshotService caseListSnapshotService;
+    private final CaseResponseCache caseResponseCache;
+    private final HotKeyTracker hotKeyTracker;
 
     @GetMapping("/{id}")
     @Operation(summary = "Get case by ID", description = "Retrieves a specific case by its ID")
@@ -43,34 +81,223 @@ public class CaseController {
         @ApiResponse(responseCode = "403", description = "Not authorized")
     })
     @PreAuthorize("hasAnyRole('ADMIN')")
-    public ResponseEntity<CaseResponse> getCaseById(
-        @Parameter(description = "ID of the case", required = true) @PathVariable Long id) {
+    public ResponseEntity<?> getCaseById(
+        @Parameter(description = "ID of the case", required = true) @PathVariable Long id,
+        @Parameter(description = "Only return these properties of the case", example = "id,caseNumber,status")
+        @RequestParam(required = false) List<String> fields,
+        @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
         log.debug("Received request to get case with id: {}", id);
-        return ResponseEntity.ok(caseService.getCaseById(id));
+        hotKeyTracker.recordCaseAccess(id);
+        if (fields != null && !fields.isEmpty()) {
+            return ResponseEntity.ok(caseService.getCaseFields(id, fields));
+        }
+        CachedCaseJson cached = caseResponseCache.get(id);
+        if (cached == null) {
+            // Cached under the epoch taken before the query, which may be another request's shared load
+            LoadedCase loaded = caseService.getCaseByIdForCache(id);
+            cached = caseResponseCache.put(id, loaded.response(), loaded.cacheEpoch());
+            if (cached == null) {
+                return ResponseEntity.ok(loaded.response());
+            }
+        }
+        // Written as-is by the byte array converter, skipping mapping, Jackson and compression
+        ResponseEntity.BodyBuilder builder = ResponseEntity.ok()
+            .contentType(MediaType.APPLICATION_JSON)
+            .header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        if (acceptEncoding != null && acceptEncoding.contains("gzip")) {
+            return builder.header(HttpHeaders.CONTENT_ENCODING, "gzip").body(cached.gzip());
+        }
+        return builder.body(cached.json());
     }
 
     @GetMapping
-    @Operation(summary = "Get all cases", description = "Retrieves all cases")
+    @Operation(summary = "Get all cases",
+        description = "Retrieves all cases, or with any filter, sort or limit given, up to limit matching cases")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Cases returned"),
+        @ApiResponse(responseCode = "400", description = "Invalid filter or sort"),
+        @ApiResponse(responseCode = "403", description = "Not authorized")
+    })
+    @PreAuthorize("hasAnyRole('USER', 'ADMIN')")
+    public ResponseEntity<?> getAllCases(@Valid @ParameterObject CaseSearchCriteria criteria) {
+        if (criteria.getFields() != null && !criteria.getFields().isEmpty()) {
+            log.debug("Received request to search case fields: {}", criteria);
+            return ResponseEntity.ok(caseService.searchCaseFields(criteria));
+        }
+        if (criteria.isUnfiltered()) {
+            log.debug("Received request to get all cases");
+            byte[] snapshot = caseListSnapshotService.getSnapshot();
+            if (snapshot != null) {
+                return ResponseEntity.ok().contentType(MediaType.APPLICATION_JSON).body(snapshot);
+            }
+            return ResponseEntity.ok(caseService.getAllCases());
+        }
+        log.debug("Received request to search cases: {}", criteria);
+        return ResponseEntity.ok(caseService.searchCases(criteria));
+    }
+
+    @GetMapping("/by-number/{caseNumber}")
+    @Operation(summary = "Get case by case number", description = "Retrieves a case by its case number")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Case found"),
+        @ApiResponse(responseCode = "404", description = "Case not found"),
+        @ApiResponse(responseCode = "403", description = "Not authorized")
+    })
+    @PreAuthorize("hasAnyRole('USER', 'ADMIN')")
+    public ResponseEntity<CaseResponse> getCaseByNumber(
+        @Parameter(description = "Case number of the case to retrieve", required = true)
+        @PathVariable String caseNumber) {
+        log.debug("Received request to get case with case number: {}", caseNumber);
+        return ResponseEntity.ok(caseLookupService.getCaseByNumber(caseNumber));
+    }
+
+    @GetMapping(params = "ids")
+    @Operation(summary = "Get cases by ids",
+        description = "Retrieves many cases in one call, in the order requested, marking ids that were not found")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Lookup results returned"),
+        @ApiResponse(responseCode = "400", description = "Too many or blank ids"),
+        @ApiResponse(responseCode = "403", description = "Not authorized")
+    })
+    @PreAuthorize("hasAnyRole('USER', 'ADMIN')")
+    public ResponseEntity<List<CaseLookupResult>> getCasesByIds(
+        @Parameter(description = "Comma separated case ids", required = true) @RequestParam List<Long> ids) {
+        log.debug("Received request to get {} cases by id", ids.size());
+        return ResponseEntity.ok(caseLookupService.lookupByIds(ids));
+    }
+
+    @PostMapping("/lookup")
+    @Operation(summary = "Look up cases",
+        description = "Retrieves many cases by ids or case numbers, in the order requested, marking misses")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Lookup results returned"),
+        @ApiResponse(responseCode = "400", description = "Invalid input"),
+        @ApiResponse(responseCode = "403", description = "Not authorized")
+    })
+    @PreAuthorize("hasAnyRole('USER', 'ADMIN')")
+    public ResponseEntity<List<CaseLookupResult>> lookupCases(@RequestBody CaseLookupRequest lookupRequest) {
+        log.debug("Received case lookup request");
+        return ResponseEntity.ok(caseLookupService.lookup(lookupRequest));
+    }
+
+    @GetMapping("/changes")
+    @Operation(summary = "Get case changes",
+        description = "Returns cases created, updated, deleted or archived since the given sync token, oldest first")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Changes returned"),
+        @ApiResponse(responseCode = "400", description = "Invalid token or limit"),
+        @ApiResponse(responseCode = "403", description = "Not authorized")
+    })
     @PreAuthorize("hasAnyRole('USER', 'ADMIN')")
-    public ResponseEntity<List<CaseResponse>> getAllCases() {
-        log.debug("Received request to get all cases");
-        return ResponseEntity.ok(caseService.getAllCases());
+    public ResponseEntity<CaseChangesResponse> getChanges(
+        @Parameter(description = "nextToken from a previous response; omit for a full sync")
+        @RequestParam(required = false) String since,
+        @Parameter(description = "Maximum number of changes to return (1-1000)")
+        @RequestParam(defaultValue = "100") int limit) {
+        log.debug("Received request to get case changes since: {}", since);
+        return ResponseEntity.ok(caseSyncService.getChangesSince(since, limit));
     }
 
     @PostMapping
     @Operation(summary = "Create new case", description = "Creates a new case")
     @ApiResponses(value = {
         @ApiResponse(responseCode = "200", description = "Case created successfully"),
-        @ApiResponse(responseCode = "409", description = "Case number already exists"),
+        @ApiResponse(responseCode = "202", description = "Case accepted for asynchronous creation"),
+        @ApiResponse(responseCode = "409", description = "Case number already exists or Idempotency-Key reused"),
         @ApiResponse(responseCode = "400", description = "Invalid input"),
         @ApiResponse(responseCode = "403", description = "Not authorized")
     })
     @PreAuthorize("hasAnyRole('USER', 'ADMIN')")
-    public ResponseEntity<CaseResponse> createCase(@Valid @RequestBody CaseRequest caseRequest) {
+    public ResponseEntity<?> createCase(
+        @Valid @RequestBody CaseRequest caseRequest,
+        @Parameter(description = "respond-async to queue the create and get 202 with a status URL")
+        @RequestHeader(value = PREFER, required = false) String prefer,
+        @Parameter(description = "Client-chosen key that makes retries of this create return the first result")
+        @RequestHeader(value = IDEMPOTENCY_KEY, required = false) String idempotencyKey) {
         log.debug("Received request to create case with number: {}", caseRequest.getCaseNumber());
+        if (idempotencyKey != null) {
+            return idempotencyService.execute(
+                idempotencyKey, "POST /cases", caseRequest, () -> doCreateCase(caseRequest, prefer));
+        }
+        return doCreateCase(caseRequest, prefer);
+    }
+
+    private ResponseEntity<?> doCreateCase(CaseRequest caseRequest, String prefer) {
+        if (prefersAsync(prefer)) {
+            Optional<PendingCaseResponse> pending = caseWriteBehindService.submit(caseRequest);
+            if (pending.isPresent()) {
+                return ResponseEntity.accepted()
+                    .location(URI.create("/cases/pending/" + pending.get().getId()))
+                    .header(PREFERENCE_APPLIED, RESPOND_ASYNC)
+                    .body(pending.get());
+            }
+            // Queue full or write-behind unavailable: fall back to a normal synchronous create
+        }
         return ResponseEntity.ok(caseService.createCase(caseRequest));
     }
 
+    @GetMapping("/pending/{id}")
+    @Operation(summary = "Get pending case status",
+        description = "Status of a case accepted with Prefer: respond-async; redirects to the case once created")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Case still pending or failed"),
+        @ApiResponse(responseCode = "303", description = "Case created"),
+        @ApiResponse(responseCode = "404", description = "No such pending case"),
+        @ApiResponse(responseCode = "403", description = "Not authorized")
+    })
+    @PreAuthorize("hasAnyRole('USER', 'ADMIN')")
+    public ResponseEntity<PendingCaseResponse> getPendingCase(
+        @Parameter(description = "ID returned when the case was accepted", required = true) @PathVariable Long id) {
+        PendingCaseResponse status = caseWriteBehindService.getStatus(id);
+        if (status.getState() == PendingCaseResponse.State.CREATED) {
+            return ResponseEntity.status(HttpStatus.SEE_OTHER).location(URI.create("/cases/" + id)).body(status);
+        }
+        return ResponseEntity.ok(status);
+    }
+
+    private static boolean prefersAsync(String prefer) {
+        if (prefer == null) {
+            return false;
+        }
+        for (String preference : prefer.split(",")) {
+            if (preference.trim().equalsIgnoreCase(RESPOND_ASYNC)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @PostMapping("/status-transitions")
+    @Operation(summary = "Bulk status transition",
+        description = "Moves every case matching the filters to the target status without loading each case")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Transition applied, returns the number of cases moved"),
+        @ApiResponse(responseCode = "400", description = "Invalid input"),
+        @ApiResponse(responseCode = "403", description = "Not authorized")
+    })
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<BulkOperationResponse> transitionStatus(
+        @Valid @RequestBody StatusTransitionRequest transitionRequest) {
+        log.debug("Received request to move cases to status: {}", transitionRequest.getTargetStatus());
+        return ResponseEntity.ok(caseBulkService.transitionStatus(transitionRequest));
+    }
+
+    @DeleteMapping
+    @Operation(summary = "Bulk delete cases",
+        description = "Deletes every case matching the given ids and filters, in chunks")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Cases deleted, returns the number removed"),
+        @ApiResponse(responseCode = "400", description = "No ids or filter given"),
+        @ApiResponse(responseCode = "403", description = "Not authorized")
+    })
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<BulkOperationResponse> deleteCases(
+        @Parameter(description = "Comma separated case ids") @RequestParam(required = false) List<Long> ids,
+        @Valid @ParameterObject CaseSearchCriteria criteria) {
+        log.debug("Received request to bulk delete cases");
+        return ResponseEntity.ok(caseBulkService.deleteCases(ids, criteria));
+    }
+
     @DeleteMapping("/{id}")
     @Operation(summary = "Delete case", description = "Deletes an existing case")
     @ApiResponses(value = {
@@ -91,15 +318,22 @@ public class CaseController {
     @ApiResponses(value = {
         @ApiResponse(responseCode = "200", description = "Case updated successfully"),
         @ApiResponse(responseCode = "404", description = "Case not found"),
-        @ApiResponse(responseCode = "409", description = "Case number already exists"),
+        @ApiResponse(responseCode = "409", description = "Case number already exists or Idempotency-Key reused"),
         @ApiResponse(responseCode = "400", description = "Invalid input"),
         @ApiResponse(responseCode = "403", description = "Not authorized")
     })
     @PreAuthorize("hasRole('ADMIN')")
-    public ResponseEntity<CaseResponse> updateCase(
+    public ResponseEntity<?> updateCase(
         @Parameter(description = "ID of the case to update", required = true) @PathVariable Long id,
-        @Valid @RequestBody CaseRequest caseRequest) {
+        @Valid @RequestBody CaseRequest caseRequest,
+        @Parameter(description = "Client-chosen key that makes retries of this update return the first result")
+        @RequestHeader(value = IDEMPOTENCY_KEY, required = false) String idempotencyKey) {
         log.debug("Received request to update case with id: {}", id);
+        hotKeyTracker.recordCaseAccess(id);
+        if (idempotencyKey != null) {
+            return idempotencyService.execute(idempotencyKey, "PUT /cases/" + id, caseRequest,
+                () -> ResponseEntity.ok(caseService.updateCase(id, caseRequest)));
+        }
         return ResponseEntity.ok(caseService.updateCase(id, caseRequest));
     }
 }
@@ -0,0 +1,37 @@
+package uk.gov.hmcts.reform.dev.controllers;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.MediaType;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import uk.gov.hmcts.reform.dev.services.CaseEventStreamService;
+
+@RestController
+@RequestMapping("/cases")
+@RequiredArgsConstructor
+@Slf4j
+@Tag(name = "Case Management", description = "APIs for managing legal cases")
+public class CaseEventController {
+
+    private final CaseEventStreamService caseEventStreamService;
+
+    @GetMapping(value = "/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @Operation(summary = "Stream case changes",
+        description = "Server-sent events for case creates, updates and deletes. Reconnect with "
+            + "Last-Event-ID to resume; a 'reset' event means the client should reload all cases")
+    @PreAuthorize("hasAnyRole('USER', 'ADMIN')")
+    public SseEmitter streamEvents(
+        @Parameter(description = "Id of the last event received before reconnecting")
+        @RequestHeader(value = "Last-Event-ID", required = false) Long lastEventId) {
+        log.debug("Received request to stream case events from id: {}", lastEventId);
+        return caseEventStreamService.subscribe(lastEventId);
+    }
+}
@@ -0,0 +1,37 @@
+package uk.gov.hmcts.reform.dev.controllers;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import uk.gov.hmcts.reform.dev.dto.CaseHistoryEntry;
+import uk.gov.hmcts.reform.dev.history.CaseHistoryStore;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/cases")
+@RequiredArgsConstructor
+@Slf4j
+@Tag(name = "Case Management", description = "APIs for managing legal cases")
+public class CaseHistoryController {
+
+    private final CaseHistoryStore caseHistoryStore;
+
+    @GetMapping("/{id}/history")
+    @Operation(summary = "Get case history",
+        description = "Retrieves every recorded change to a case, oldest first, with who made it and when")
+    @PreAuthorize("hasAnyRole('ADMIN')")
+    public ResponseEntity<List<CaseHistoryEntry>> getCaseHistory(
+        @Parameter(description = "ID of the case", required = true) @PathVariable Long id) {
+        log.debug("Received request to get history for case with id: {}", id);
+        return ResponseEntity.ok(caseHistoryStore.getHistory(id));
+    }
+}
@@ -0,0 +1,65 @@
+package uk.gov.hmcts.reform.dev.controllers;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import uk.gov.hmcts.reform.dev.dto.CaseImportStatusResponse;
+import uk.gov.hmcts.reform.dev.services.CaseImportService;
+
+import java.io.IOException;
+import java.net.URI;
+
+@RestController
+@RequestMapping("/cases/import")
+@RequiredArgsConstructor
+@Slf4j
+@Tag(name = "Case Management", description = "APIs for managing legal cases")
+public class CaseImportController {
+
+    private final CaseImportService caseImportService;
+
+    @PostMapping(consumes = {"text/csv", "text/plain", "application/gzip", "application/octet-stream"})
+    @Operation(summary = "Import cases from CSV",
+        description = "Queues an import of a CSV file with columns caseNumber, title, description and status. "
+            + "The body may be gzip compressed. Returns a job whose progress is at the Location URL")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "202", description = "Import queued"),
+        @ApiResponse(responseCode = "403", description = "Not authorized"),
+        @ApiResponse(responseCode = "413", description = "File larger than cases.import.max-bytes"),
+        @ApiResponse(responseCode = "503", description = "Too many imports in progress")
+    })
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<CaseImportStatusResponse> importCases(HttpServletRequest request) throws IOException {
+        log.debug("Received case import of {} bytes", request.getContentLengthLong());
+        CaseImportStatusResponse status = caseImportService.startImport(request.getInputStream());
+        return ResponseEntity.accepted()
+            .location(URI.create("/cases/import/" + status.getJobId()))
+            .body(status);
+    }
+
+    @GetMapping("/{jobId}")
+    @Operation(summary = "Get import progress", description = "Returns progress counts and row errors of an import")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Import status returned"),
+        @ApiResponse(responseCode = "404", description = "Import job not found"),
+        @ApiResponse(responseCode = "403", description = "Not authorized")
+    })
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<CaseImportStatusResponse> getImportStatus(
+        @Parameter(description = "Job id returned when the import was queued", required = true)
+        @PathVariable String jobId) {
+        return ResponseEntity.ok(caseImportService.getStatus(jobId));
+    }
+}
@@ -0,0 +1,70 @@
+package uk.gov.hmcts.reform.dev.controllers;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import uk.gov.hmcts.reform.dev.dto.WebhookRequest;
+import uk.gov.hmcts.reform.dev.dto.WebhookResponse;
+import uk.gov.hmcts.reform.dev.services.WebhookService;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/webhooks")
+@RequiredArgsConstructor
+@Slf4j
+@Tag(name = "Webhooks", description = "APIs for registering partner webhooks notified of case changes")
+public class WebhookController {
+
+    private final WebhookService webhookService;
+
+    @GetMapping
+    @Operation(summary = "Get all webhooks", description = "Retrieves all registered webhooks")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<List<WebhookResponse>> getAllWebhooks() {
+        log.debug("Received request to get all webhooks");
+        return ResponseEntity.ok(webhookService.getAllWebhooks());
+    }
+
+    @PostMapping
+    @Operation(summary = "Register webhook", description = "Registers a URL to receive case change notifications")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Webhook registered successfully"),
+        @ApiResponse(responseCode = "400", description = "Invalid input"),
+        @ApiResponse(responseCode = "403", description = "Not authorized")
+    })
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<WebhookResponse> registerWebhook(@Valid @RequestBody WebhookRequest request) {
+        log.debug("Received request to register webhook: {}", request.getUrl());
+        return ResponseEntity.ok(webhookService.registerWebhook(request));
+    }
+
+    @DeleteMapping("/{id}")
+    @Operation(summary = "Delete webhook", description = "Stops notifications to a registered webhook")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "204", description = "Webhook deleted successfully"),
+        @ApiResponse(responseCode = "404", description = "Webhook not found"),
+        @ApiResponse(responseCode = "403", description = "Not authorized")
+    })
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<Void> deleteWebhook(
+        @Parameter(description = "ID of the webhook to delete", required = true) @PathVariable Long id) {
+        log.debug("Received request to delete webhook with id: {}", id);
+        webhookService.deleteWebhook(id);
+        return ResponseEntity.noContent().build();
+    }
+}
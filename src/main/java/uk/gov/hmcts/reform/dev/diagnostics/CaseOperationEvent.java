@@ -0,0 +1,41 @@
+package uk.gov.hmcts.reform.dev.diagnostics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import lombok.Setter;
+
+/**
+ * JFR event for one {@code CaseService} call, so GC and lock pauses in a recording can be lined up with
+ * the case operations they hit. Committed by {@link CaseOperationEventAspect}.
+ */
+@Name("uk.gov.hmcts.reform.dev.CaseOperation")
+@Label("Case Operation")
+@Category({"HMCTS", "Cases"})
+@Description("A CaseService call with the case it touched and its outcome")
+@StackTrace(false)
+@Setter
+public class CaseOperationEvent extends Event {
+
+    @Label("Operation")
+    private String operation;
+
+    @Label("Case Id")
+    @Description("Id of the case operated on, 0 for list operations")
+    private long caseId;
+
+    @Label("Status")
+    @Description("Status of the returned case, if one was returned")
+    private String status;
+
+    @Label("Rows")
+    @Description("Number of cases returned")
+    private int rows;
+
+    @Label("Outcome")
+    @Description("OK, or the simple name of the exception thrown")
+    private String outcome;
+}
@@ -0,0 +1,52 @@
+package uk.gov.hmcts.reform.dev.diagnostics;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.stereotype.Component;
+import uk.gov.hmcts.reform.dev.dto.CaseResponse;
+
+import java.util.Collection;
+import java.util.Map;
+
+/**
+ * Emits a {@link CaseOperationEvent} per public {@code CaseService} call. When no recording has the event
+ * enabled this is one flag check.
+ */
+@Aspect
+@Component
+public class CaseOperationEventAspect {
+
+    @Around("execution(public * uk.gov.hmcts.reform.dev.services.CaseService.*(..))")
+    public Object record(ProceedingJoinPoint joinPoint) throws Throwable {
+        CaseOperationEvent event = new CaseOperationEvent();
+        if (!event.isEnabled()) {
+            return joinPoint.proceed();
+        }
+        event.begin();
+        event.setOperation(joinPoint.getSignature().getName());
+        Object[] args = joinPoint.getArgs();
+        if (args.length > 0 && args[0] instanceof Long id) {
+            event.setCaseId(id);
+        }
+        try {
+            Object result = joinPoint.proceed();
+            if (result instanceof CaseResponse response) {
+                event.setCaseId(response.getId() == null ? 0 : response.getId());
+                event.setStatus(response.getStatus() == null ? null : response.getStatus().name());
+                event.setRows(1);
+            } else if (result instanceof Collection<?> rows) {
+                event.setRows(rows.size());
+            } else if (result instanceof Map<?, ?>) {
+                event.setRows(1);
+            }
+            event.setOutcome("OK");
+            return result;
+        } catch (Throwable e) {
+            event.setOutcome(e.getClass().getSimpleName());
+            throw e;
+        } finally {
+            event.commit();
+        }
+    }
+}
@@ -0,0 +1,58 @@
+package uk.gov.hmcts.reform.dev.diagnostics;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import uk.gov.hmcts.reform.dev.utils.CountMinSketch;
+import uk.gov.hmcts.reform.dev.utils.HeavyHitters;
+
+import java.util.List;
+
+/**
+ * Approximate access counts for case ids and authenticated callers, to show how skewed the load is and
+ * which clients drive it. Counts are halved every {@code diagnostics.hot-keys.decay-interval-ms}, so the
+ * ranking follows recent traffic. Read through the admin-only {@link HotKeysEndpoint}.
+ */
+@Component
+public class HotKeyTracker {
+
+    private final boolean enabled;
+    private final HeavyHitters<Long> cases;
+    private final HeavyHitters<String> callers;
+
+    public HotKeyTracker(
+        @Value("${diagnostics.hot-keys.enabled:true}") boolean enabled,
+        @Value("${diagnostics.hot-keys.sketch-width:4096}") int sketchWidth,
+        @Value("${diagnostics.hot-keys.sketch-depth:4}") int sketchDepth,
+        @Value("${diagnostics.hot-keys.top-k:50}") int topK) {
+        this.enabled = enabled;
+        this.cases = new HeavyHitters<>(new CountMinSketch(sketchWidth, sketchDepth), topK);
+        this.callers = new HeavyHitters<>(new CountMinSketch(sketchWidth, sketchDepth), topK);
+    }
+
+    public void recordCaseAccess(Long caseId) {
+        if (enabled && caseId != null) {
+            cases.record(caseId);
+        }
+    }
+
+    public void recordCaller(String username) {
+        if (enabled && username != null) {
+            callers.record(username);
+        }
+    }
+
+    public List<HeavyHitters.Entry<Long>> hottestCases(int limit) {
+        return cases.top(limit);
+    }
+
+    public List<HeavyHitters.Entry<String>> hottestCallers(int limit) {
+        return callers.top(limit);
+    }
+
+    @Scheduled(fixedRateString = "${diagnostics.hot-keys.decay-interval-ms:60000}")
+    public void decay() {
+        cases.decay();
+        callers.decay();
+    }
+}
@@ -0,0 +1,33 @@
+package uk.gov.hmcts.reform.dev.diagnostics;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+import uk.gov.hmcts.reform.dev.utils.HeavyHitters;
+
+import java.util.List;
+
+/**
+ * Admin-only {@code GET /hotkeys}: the most read and updated case ids and the busiest callers, with their
+ * decayed approximate request counts.
+ */
+@Component
+@Endpoint(id = "hotkeys")
+@RequiredArgsConstructor
+public class HotKeysEndpoint {
+
+    private static final int DEFAULT_LIMIT = 20;
+
+    private final HotKeyTracker hotKeyTracker;
+
+    @ReadOperation
+    public HotKeys hotKeys(@Nullable Integer limit) {
+        int size = limit == null || limit <= 0 ? DEFAULT_LIMIT : limit;
+        return new HotKeys(hotKeyTracker.hottestCases(size), hotKeyTracker.hottestCallers(size));
+    }
+
+    public record HotKeys(List<HeavyHitters.Entry<Long>> cases, List<HeavyHitters.Entry<String>> callers) {
+    }
+}
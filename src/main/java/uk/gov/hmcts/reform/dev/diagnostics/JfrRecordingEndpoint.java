@@ -0,0 +1,185 @@
+package uk.gov.hmcts.reform.dev.diagnostics;
+
+import jakarta.annotation.PreDestroy;
+import jdk.jfr.Configuration;
+import jdk.jfr.Recording;
+import jdk.jfr.RecordingState;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.actuate.endpoint.InvalidEndpointRequestException;
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Selector;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.core.io.InputStreamResource;
+import org.springframework.core.io.Resource;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.text.ParseException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Admin-only actuator endpoint for time-boxed JFR recordings, so a profile of the running service can be
+ * taken without shell access to the pod. {@code POST /jfr} starts a recording, {@code GET /jfr} lists them,
+ * {@code GET /jfr/{id}} downloads one and {@code DELETE /jfr/{id}} stops and discards it. Recordings
+ * always stop on their own after at most {@code diagnostics.jfr.max-duration}, and only
+ * {@code diagnostics.jfr.max-recordings} are kept, the oldest finished one making way for a new one.
+ */
+@Component
+@Endpoint(id = "jfr")
+@Slf4j
+public class JfrRecordingEndpoint {
+
+    private static final String NAME_PREFIX = "jfr-endpoint-";
+    private static final List<String> SETTINGS = List.of("default", "profile");
+
+    private final Duration defaultDuration;
+    private final Duration maxDuration;
+    private final long maxSizeBytes;
+    private final int maxRecordings;
+
+    private final Map<Long, Recording> recordings = new ConcurrentHashMap<>();
+
+    public JfrRecordingEndpoint(
+        @Value("${diagnostics.jfr.default-duration:60s}") Duration defaultDuration,
+        @Value("${diagnostics.jfr.max-duration:10m}") Duration maxDuration,
+        @Value("${diagnostics.jfr.max-size:256MB}") DataSize maxSize,
+        @Value("${diagnostics.jfr.max-recordings:3}") int maxRecordings) {
+        this.defaultDuration = defaultDuration;
+        this.maxDuration = maxDuration;
+        this.maxSizeBytes = maxSize.toBytes();
+        this.maxRecordings = maxRecordings;
+    }
+
+    @ReadOperation
+    public List<RecordingDescriptor> recordings() {
+        return recordings.values().stream()
+            .sorted(Comparator.comparingLong(Recording::getId))
+            .map(RecordingDescriptor::of)
+            .toList();
+    }
+
+    /**
+     * Starts a recording with the JDK's {@code default} (low overhead) or {@code profile} settings.
+     */
+    @WriteOperation
+    public synchronized RecordingDescriptor start(@Nullable Long durationSeconds, @Nullable String settings) {
+        Duration duration = durationSeconds == null ? defaultDuration : Duration.ofSeconds(durationSeconds);
+        if (duration.isNegative() || duration.isZero()) {
+            throw new InvalidEndpointRequestException("durationSeconds must be positive", "Bad duration");
+        }
+        if (duration.compareTo(maxDuration) > 0) {
+            duration = maxDuration;
+        }
+        String settingsName = settings == null ? "default" : settings;
+        if (!SETTINGS.contains(settingsName)) {
+            throw new InvalidEndpointRequestException(
+                "settings must be one of " + SETTINGS, "Unknown settings: " + settingsName);
+        }
+        makeRoom();
+
+        Recording recording = new Recording(loadConfiguration(settingsName));
+        recording.setName(NAME_PREFIX + Instant.now());
+        recording.setDuration(duration);
+        recording.setMaxSize(maxSizeBytes);
+        recording.setToDisk(true);
+        recording.start();
+        recordings.put(recording.getId(), recording);
+        log.info("Started JFR recording {} with {} settings for {}", recording.getId(), settingsName, duration);
+        return RecordingDescriptor.of(recording);
+    }
+
+    /**
+     * The recording's data so far as a {@code .jfr} file; a running recording can be downloaded without
+     * stopping it.
+     */
+    @ReadOperation(produces = "application/octet-stream")
+    public Resource download(@Selector long id) {
+        Recording recording = recordings.get(id);
+        if (recording == null) {
+            return null;
+        }
+        Path file = null;
+        try {
+            // dump() snapshots a running recording; the temp file goes away once the response is written
+            file = Files.createTempFile(NAME_PREFIX + id + "-", ".jfr");
+            recording.dump(file);
+            return new InputStreamResource(Files.newInputStream(file, StandardOpenOption.DELETE_ON_CLOSE));
+        } catch (IOException e) {
+            deleteQuietly(file);
+            throw new UncheckedIOException("Failed to read JFR recording " + id, e);
+        }
+    }
+
+    @DeleteOperation
+    public RecordingDescriptor discard(@Selector long id) {
+        Recording recording = recordings.remove(id);
+        if (recording == null) {
+            return null;
+        }
+        RecordingDescriptor descriptor = RecordingDescriptor.of(recording);
+        recording.close();
+        log.info("Closed JFR recording {}", id);
+        return descriptor;
+    }
+
+    @PreDestroy
+    public void closeAll() {
+        recordings.values().forEach(Recording::close);
+        recordings.clear();
+    }
+
+    private void makeRoom() {
+        if (recordings.size() < maxRecordings) {
+            return;
+        }
+        Recording oldestFinished = recordings.values().stream()
+            .filter(recording -> recording.getState() != RecordingState.RUNNING
+                && recording.getState() != RecordingState.DELAYED)
+            .min(Comparator.comparingLong(Recording::getId))
+            .orElseThrow(() -> new InvalidEndpointRequestException(
+                maxRecordings + " recordings are already running", "Too many recordings"));
+        discard(oldestFinished.getId());
+    }
+
+    private static void deleteQuietly(Path file) {
+        if (file == null) {
+            return;
+        }
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            log.warn("Failed to delete {}: {}", file, e.getMessage());
+        }
+    }
+
+    private static Configuration loadConfiguration(String name) {
+        try {
+            return Configuration.getConfiguration(name);
+        } catch (IOException | ParseException e) {
+            throw new IllegalStateException("Failed to load JFR settings " + name, e);
+        }
+    }
+
+    public record RecordingDescriptor(long id, String name, String state, Instant startTime, Duration duration,
+                                      long size) {
+
+        static RecordingDescriptor of(Recording recording) {
+            return new RecordingDescriptor(recording.getId(), recording.getName(), recording.getState().name(),
+                                           recording.getStartTime(), recording.getDuration(), recording.getSize());
+        }
+    }
+}
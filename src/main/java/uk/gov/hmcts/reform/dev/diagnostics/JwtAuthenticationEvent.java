@@ -0,0 +1,29 @@
+package uk.gov.hmcts.reform.dev.diagnostics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+import lombok.Setter;
+
+/**
+ * JFR event for authenticating one request's bearer token in {@code JwtAuthFilter}.
+ */
+@Name("uk.gov.hmcts.reform.dev.JwtAuthentication")
+@Label("JWT Authentication")
+@Category({"HMCTS", "Security"})
+@Description("Bearer token parsing, user lookup and validation for one request")
+@StackTrace(false)
+@Setter
+public class JwtAuthenticationEvent extends Event {
+
+    @Label("Token Parse Time")
+    @Timespan(Timespan.NANOSECONDS)
+    private long tokenParseNanos;
+
+    @Label("Authenticated")
+    private boolean authenticated;
+}
@@ -0,0 +1,29 @@
+package uk.gov.hmcts.reform.dev.diagnostics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import lombok.Setter;
+
+/**
+ * JFR event for one BCrypt hash, on signup or login. BCrypt is deliberately slow, so these show up as
+ * CPU hot spots under login load.
+ */
+@Name("uk.gov.hmcts.reform.dev.PasswordHash")
+@Label("Password Hash")
+@Category({"HMCTS", "Security"})
+@Description("A password encode or match")
+@StackTrace(false)
+@Setter
+public class PasswordHashEvent extends Event {
+
+    @Label("Operation")
+    @Description("encode or matches")
+    private String operation;
+
+    @Label("Matched")
+    private boolean matched;
+}
@@ -0,0 +1,124 @@
+package uk.gov.hmcts.reform.dev.diagnostics;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.security.web.util.OnCommittedResponseWrapper;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Counts and times the SQL each request runs, reports it in a {@code Server-Timing} header, and logs a
+ * per-statement breakdown only for requests slower than {@code diagnostics.slow-request-threshold}.
+ * Requests that repeat one statement {@code diagnostics.n-plus-one-threshold} times or more are logged as
+ * a likely N+1 load. Runs ahead of Spring Security so the user lookup behind authentication is counted.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+@Slf4j
+public class RequestDiagnosticsFilter extends OncePerRequestFilter {
+
+    static final String SERVER_TIMING = "Server-Timing";
+
+    // Distinct statements written to the slow request log
+    private static final int MAX_LOGGED_STATEMENTS = 20;
+
+    private final long slowRequestNanos;
+    private final int nPlusOneThreshold;
+
+    public RequestDiagnosticsFilter(
+        @Value("${diagnostics.slow-request-threshold:500ms}") Duration slowRequestThreshold,
+        @Value("${diagnostics.n-plus-one-threshold:5}") int nPlusOneThreshold) {
+        this.slowRequestNanos = slowRequestThreshold.toNanos();
+        this.nPlusOneThreshold = nPlusOneThreshold;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+        throws ServletException, IOException {
+        long start = System.nanoTime();
+        RequestSqlStats stats = RequestSqlStats.begin();
+        ServerTimingResponse timedResponse = new ServerTimingResponse(response, stats, start);
+        try {
+            chain.doFilter(request, timedResponse);
+        } finally {
+            RequestSqlStats.end();
+            // Bodiless responses are only committed by the container after this returns
+            timedResponse.addServerTiming();
+            report(request, response.getStatus(), System.nanoTime() - start, stats);
+        }
+    }
+
+    private void report(HttpServletRequest request, int status, long elapsedNanos, RequestSqlStats stats) {
+        List<RequestSqlStats.StatementStats> repeated = stats.getRepeatedStatements(nPlusOneThreshold);
+        for (RequestSqlStats.StatementStats statement : repeated) {
+            log.warn("Possible N+1 in {} {}: {} executions of [{}]",
+                     request.getMethod(), request.getRequestURI(), statement.getCount(), statement.getSql());
+        }
+        if (elapsedNanos < slowRequestNanos) {
+            return;
+        }
+        StringBuilder breakdown = new StringBuilder();
+        List<RequestSqlStats.StatementStats> statements = stats.getStatements();
+        statements.stream().limit(MAX_LOGGED_STATEMENTS).forEach(statement -> breakdown
+            .append(System.lineSeparator())
+            .append(String.format(Locale.ROOT, "  %4d x %8.2f ms  %s",
+                                  statement.getCount(), millis(statement.getNanos()), statement.getSql())));
+        if (statements.size() > MAX_LOGGED_STATEMENTS) {
+            breakdown.append(System.lineSeparator())
+                .append("  ... ").append(statements.size() - MAX_LOGGED_STATEMENTS).append(" more statements");
+        }
+        log.warn("Slow request {} {} -> {} in {} ms, {} statements, {} ms in database{}",
+                 request.getMethod(), request.getRequestURI(), status,
+                 format(elapsedNanos), stats.getStatementCount(), format(stats.getDbNanos()), breakdown);
+    }
+
+    private static double millis(long nanos) {
+        return nanos / 1_000_000.0;
+    }
+
+    private static String format(long nanos) {
+        return String.format(Locale.ROOT, "%.2f", millis(nanos));
+    }
+
+    /**
+     * Adds the header at the last moment it can still be sent, so it covers as much of the request as
+     * possible.
+     */
+    private static final class ServerTimingResponse extends OnCommittedResponseWrapper {
+        private final RequestSqlStats stats;
+        private final long start;
+        private boolean added;
+
+        private ServerTimingResponse(HttpServletResponse response, RequestSqlStats stats, long start) {
+            super(response);
+            this.stats = stats;
+            this.start = start;
+        }
+
+        @Override
+        protected void onResponseCommitted() {
+            addServerTiming();
+        }
+
+        void addServerTiming() {
+            if (added || isCommitted()) {
+                return;
+            }
+            added = true;
+            addHeader(SERVER_TIMING, String.format(
+                Locale.ROOT, "db;dur=%s;desc=\"%d statements\", app;dur=%s",
+                format(stats.getDbNanos()), stats.getStatementCount(), format(System.nanoTime() - start)));
+        }
+    }
+}
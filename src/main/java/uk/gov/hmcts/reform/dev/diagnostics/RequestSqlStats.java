@@ -0,0 +1,98 @@
+package uk.gov.hmcts.reform.dev.diagnostics;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Statements run on the current request thread, bound by {@link RequestDiagnosticsFilter} for the length
+ * of one request. Only ever touched by that thread, so it is not synchronised. Work handed to other
+ * threads, such as write-behind or import jobs, is not attributed to the request.
+ */
+public final class RequestSqlStats {
+
+    // Distinct statements tracked per request; dynamic SQL beyond this is still counted and timed
+    static final int MAX_DISTINCT_STATEMENTS = 200;
+
+    private static final ThreadLocal<RequestSqlStats> CURRENT = new ThreadLocal<>();
+
+    private final Map<String, StatementStats> bySql = new HashMap<>();
+    private int statementCount;
+    private long dbNanos;
+
+    public static RequestSqlStats begin() {
+        RequestSqlStats stats = new RequestSqlStats();
+        CURRENT.set(stats);
+        return stats;
+    }
+
+    public static RequestSqlStats current() {
+        return CURRENT.get();
+    }
+
+    public static void end() {
+        CURRENT.remove();
+    }
+
+    void record(String sql, long nanos) {
+        statementCount++;
+        dbNanos += nanos;
+        StatementStats stats = bySql.get(sql);
+        if (stats == null && bySql.size() < MAX_DISTINCT_STATEMENTS) {
+            stats = new StatementStats(sql);
+            bySql.put(sql, stats);
+        }
+        if (stats != null) {
+            stats.count++;
+            stats.nanos += nanos;
+        }
+    }
+
+    public int getStatementCount() {
+        return statementCount;
+    }
+
+    public long getDbNanos() {
+        return dbNanos;
+    }
+
+    /**
+     * Distinct statements, slowest in total first.
+     */
+    public List<StatementStats> getStatements() {
+        List<StatementStats> statements = new ArrayList<>(bySql.values());
+        statements.sort(Comparator.comparingLong(StatementStats::getNanos).reversed());
+        return statements;
+    }
+
+    /**
+     * Statements repeated at least {@code threshold} times in the request, the usual shape of an N+1 load.
+     */
+    public List<StatementStats> getRepeatedStatements(int threshold) {
+        return getStatements().stream().filter(stats -> stats.count >= threshold).toList();
+    }
+
+    public static final class StatementStats {
+        private final String sql;
+        private int count;
+        private long nanos;
+
+        private StatementStats(String sql) {
+            this.sql = sql;
+        }
+
+        public String getSql() {
+            return sql;
+        }
+
+        public int getCount() {
+            return count;
+        }
+
+        public long getNanos() {
+            return nanos;
+        }
+    }
+}
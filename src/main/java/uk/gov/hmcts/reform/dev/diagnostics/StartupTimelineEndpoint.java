@@ -0,0 +1,79 @@
+package uk.gov.hmcts.reform.dev.diagnostics;
+
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.context.metrics.buffering.BufferingApplicationStartup;
+import org.springframework.boot.context.metrics.buffering.StartupTimeline;
+import org.springframework.core.metrics.ApplicationStartup;
+import org.springframework.core.metrics.StartupStep;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Admin-only {@code GET /startuptimeline}: the steps recorded while the application started (bean
+ * creation, Hibernate and springdoc initialisation, repository setup and so on), in start order with
+ * their offsets from startup, plus the slowest steps. Unlike the built-in {@code startup} endpoint this
+ * does not drain the buffer, so it can be read repeatedly. Steps are only recorded when the application
+ * is launched through {@code Application.main}, which installs a {@link BufferingApplicationStartup}.
+ */
+@Component
+@Endpoint(id = "startuptimeline")
+public class StartupTimelineEndpoint {
+
+    private static final int DEFAULT_SLOWEST = 20;
+
+    private final ApplicationStartup applicationStartup;
+
+    public StartupTimelineEndpoint(ApplicationStartup applicationStartup) {
+        this.applicationStartup = applicationStartup;
+    }
+
+    /**
+     * Steps shorter than {@code minMillis} are left out of the timeline but still count towards the
+     * slowest; {@code slowest} sets how many of those to list.
+     */
+    @ReadOperation
+    public Timeline timeline(@Nullable Long minMillis, @Nullable Integer slowest) {
+        if (!(applicationStartup instanceof BufferingApplicationStartup buffering)) {
+            return new Timeline(null, List.of(), List.of());
+        }
+        StartupTimeline timeline = buffering.getBufferedTimeline();
+        Instant start = timeline.getStartTime();
+        List<Step> steps = timeline.getEvents().stream()
+            .map(event -> Step.of(start, event))
+            .sorted(Comparator.comparingLong(Step::startOffsetMillis).thenComparingLong(Step::id))
+            .toList();
+        long threshold = minMillis == null ? 0 : minMillis;
+        int slowestLimit = slowest == null || slowest <= 0 ? DEFAULT_SLOWEST : slowest;
+        return new Timeline(
+            start,
+            steps.stream().filter(step -> step.durationMillis() >= threshold).toList(),
+            steps.stream()
+                .sorted(Comparator.comparingLong(Step::durationMillis).reversed())
+                .limit(slowestLimit)
+                .toList());
+    }
+
+    public record Timeline(Instant startTime, List<Step> steps, List<Step> slowest) {
+    }
+
+    public record Step(long id, Long parentId, String name, Map<String, String> tags, long startOffsetMillis,
+                       long durationMillis) {
+
+        static Step of(Instant applicationStart, StartupTimeline.TimelineEvent event) {
+            StartupStep step = event.getStartupStep();
+            Map<String, String> tags = new LinkedHashMap<>();
+            step.getTags().forEach(tag -> tags.put(tag.getKey(), tag.getValue()));
+            return new Step(step.getId(), step.getParentId(), step.getName(), tags,
+                            Duration.between(applicationStart, event.getStartTime()).toMillis(),
+                            event.getDuration().toMillis());
+        }
+    }
+}
@@ -0,0 +1,164 @@
+package uk.gov.hmcts.reform.dev.diagnostics;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.stereotype.Component;
+import uk.gov.hmcts.reform.dev.tracing.Span;
+import uk.gov.hmcts.reform.dev.tracing.SpanKind;
+import uk.gov.hmcts.reform.dev.tracing.Tracer;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.Statement;
+import java.util.function.Supplier;
+import javax.sql.DataSource;
+
+/**
+ * Wraps every {@link DataSource} so statements executed on a request thread are counted and timed into
+ * that request's {@link RequestSqlStats}, and traced as a child span when the request is sampled. This sits
+ * below Hibernate, so it sees JdbcTemplate work and collection loads too. Outside a request it only adds a
+ * couple of thread-local lookups per execution.
+ */
+@Component
+public class StatementTimingDataSourcePostProcessor implements BeanPostProcessor, SmartInitializingSingleton {
+
+    private final ObjectProvider<Tracer> tracerProvider;
+    private volatile Tracer tracer;
+
+    public StatementTimingDataSourcePostProcessor(ObjectProvider<Tracer> tracerProvider) {
+        this.tracerProvider = tracerProvider;
+    }
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        if (bean instanceof DataSource dataSource && !(bean instanceof TimingProxy)) {
+            return wrap(dataSource, this::tracer);
+        }
+        return bean;
+    }
+
+    public static DataSource wrap(DataSource dataSource) {
+        return wrap(dataSource, () -> null);
+    }
+
+    private static DataSource wrap(DataSource dataSource, Supplier<Tracer> tracer) {
+        // Keep close() reachable so the pool is still shut down with the context
+        Class<?>[] interfaces = dataSource instanceof AutoCloseable
+            ? new Class<?>[] {DataSource.class, AutoCloseable.class, TimingProxy.class}
+            : new Class<?>[] {DataSource.class, TimingProxy.class};
+        return proxy(DataSource.class, interfaces, dataSource, null, tracer);
+    }
+
+    // The DataSource is created, and used for schema updates, before the tracer exists
+    @Override
+    public void afterSingletonsInstantiated() {
+        tracer = tracerProvider.getIfAvailable();
+    }
+
+    private Tracer tracer() {
+        return tracer;
+    }
+
+    private static <T> T proxy(Class<T> type, T target, String sql, Supplier<Tracer> tracer) {
+        return proxy(type, new Class<?>[] {type}, target, sql, tracer);
+    }
+
+    private static <T> T proxy(Class<T> type, Class<?>[] interfaces, T target, String sql,
+                               Supplier<Tracer> tracer) {
+        Object proxy = Proxy.newProxyInstance(
+            StatementTimingDataSourcePostProcessor.class.getClassLoader(), interfaces,
+            new Handler(target, sql, tracer));
+        return type.cast(proxy);
+    }
+
+    /**
+     * Marker so a DataSource is never wrapped twice.
+     */
+    interface TimingProxy {
+    }
+
+    private static final class Handler implements InvocationHandler {
+        private final Object target;
+
+        // SQL of a prepared or callable statement, null for plain statements and everything else
+        private final String sql;
+        private final Supplier<Tracer> tracer;
+
+        private Handler(Object target, String sql, Supplier<Tracer> tracer) {
+            this.target = target;
+            this.sql = sql;
+            this.tracer = tracer;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            String name = method.getName();
+            if ("equals".equals(name) && args != null && args.length == 1) {
+                return proxy == args[0];
+            }
+            if ("hashCode".equals(name) && args == null) {
+                return System.identityHashCode(proxy);
+            }
+            if (target instanceof Statement && name.startsWith("execute")) {
+                return timed(method, args);
+            }
+            Object result = call(method, args);
+            if (target instanceof DataSource && result instanceof Connection connection) {
+                return proxy(Connection.class, connection, null, tracer);
+            }
+            if (target instanceof Connection) {
+                if (result instanceof CallableStatement statement) {
+                    return proxy(CallableStatement.class, statement, (String) args[0], tracer);
+                }
+                if (result instanceof PreparedStatement statement) {
+                    return proxy(PreparedStatement.class, statement, (String) args[0], tracer);
+                }
+                if (result instanceof Statement statement) {
+                    return proxy(Statement.class, statement, null, tracer);
+                }
+            }
+            return result;
+        }
+
+        private Object timed(Method method, Object[] args) throws Throwable {
+            RequestSqlStats stats = RequestSqlStats.current();
+            Tracer activeTracer = tracer.get();
+            Span span = activeTracer == null ? Span.NOOP : activeTracer.startSpan("jdbc", SpanKind.CLIENT);
+            if (stats == null && !span.isRecording()) {
+                return call(method, args);
+            }
+            String statementSql = sql;
+            if (statementSql == null) {
+                // Plain statements pass their SQL to execute; a plain executeBatch has none to report
+                statementSql = args != null && args[0] instanceof String text ? text : "(batch)";
+            }
+            span.setAttribute("db.statement", statementSql).setAttribute("db.operation", method.getName());
+            long start = System.nanoTime();
+            try {
+                return call(method, args);
+            } catch (Throwable e) {
+                span.recordError(e);
+                throw e;
+            } finally {
+                if (stats != null) {
+                    stats.record(statementSql, System.nanoTime() - start);
+                }
+                span.end();
+            }
+        }
+
+        private Object call(Method method, Object[] args) throws Throwable {
+            try {
+                return method.invoke(target, args);
+            } catch (InvocationTargetException e) {
+                throw e.getCause();
+            }
+        }
+    }
+}
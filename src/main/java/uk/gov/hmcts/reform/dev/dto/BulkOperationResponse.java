@@ -0,0 +1,10 @@
+package uk.gov.hmcts.reform.dev.dto;
+
+import lombok.Builder;
+import lombok.Data;
+
+@Data
+@Builder
+public class BulkOperationResponse {
+    private long affectedCount;
+}
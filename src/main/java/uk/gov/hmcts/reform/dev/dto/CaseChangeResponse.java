@@ -0,0 +1,20 @@
+package uk.gov.hmcts.reform.dev.dto;
+
+import lombok.Builder;
+import lombok.Data;
+
+@Data
+@Builder
+public class CaseChangeResponse {
+
+    public enum ChangeType {
+        UPSERTED,
+        DELETED
+    }
+
+    private ChangeType changeType;
+    private Long caseId;
+    private Long changeSeq;
+    // Null for DELETED
+    private CaseResponse caseDetails;
+}
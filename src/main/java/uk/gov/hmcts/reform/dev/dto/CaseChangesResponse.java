@@ -0,0 +1,15 @@
+package uk.gov.hmcts.reform.dev.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+@AllArgsConstructor
+public class CaseChangesResponse {
+    private List<CaseChangeResponse> changes;
+    // Pass back as ?since= to get the next page or later changes
+    private String nextToken;
+    private boolean hasMore;
+}
@@ -0,0 +1,14 @@
+package uk.gov.hmcts.reform.dev.dto;
+
+import lombok.Builder;
+import lombok.Data;
+import uk.gov.hmcts.reform.dev.events.CaseChangedEvent;
+
+@Data
+@Builder
+public class CaseEventResponse {
+    private CaseChangedEvent.Type type;
+    private Long caseId;
+    // Null for DELETED and for bulk changes
+    private CaseResponse caseDetails;
+}
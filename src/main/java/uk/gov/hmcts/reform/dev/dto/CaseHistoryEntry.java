@@ -0,0 +1,29 @@
+package uk.gov.hmcts.reform.dev.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import uk.gov.hmcts.reform.dev.events.CaseChangedEvent;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Data
+@Builder
+public class CaseHistoryEntry {
+    private Long caseId;
+    private LocalDateTime timestamp;
+    private CaseChangedEvent.Type type;
+    private String actor;
+    private List<FieldChange> changes;
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class FieldChange {
+        private String field;
+        private String oldValue;
+        private String newValue;
+    }
+}
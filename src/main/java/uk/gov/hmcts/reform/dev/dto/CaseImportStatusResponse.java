@@ -0,0 +1,34 @@
+package uk.gov.hmcts.reform.dev.dto;
+
+import lombok.Builder;
+import lombok.Data;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Data
+@Builder
+public class CaseImportStatusResponse {
+
+    public enum State {
+        QUEUED,
+        RUNNING,
+        COMPLETED,
+        FAILED
+    }
+
+    private String jobId;
+    private State state;
+    private LocalDateTime submittedDate;
+    private LocalDateTime startedDate;
+    private LocalDateTime finishedDate;
+    private long rowsRead;
+    private long imported;
+    private long duplicates;
+    private long rejected;
+    // Only the first cases.import.max-errors row errors are kept
+    private List<ImportRowError> errors;
+    private boolean errorsTruncated;
+    // Set when the job as a whole failed, for example on an unreadable file
+    private String failureReason;
+}
@@ -0,0 +1,17 @@
+package uk.gov.hmcts.reform.dev.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+@Schema(description = "Cases to fetch, by either ids or case numbers but not both")
+public class CaseLookupRequest {
+
+    @Schema(description = "Case ids to fetch", example = "[1, 2, 3]")
+    private List<Long> ids;
+
+    @Schema(description = "Case numbers to fetch", example = "[\"ABC123\", \"XYZ789\"]")
+    private List<String> caseNumbers;
+}
@@ -0,0 +1,16 @@
+package uk.gov.hmcts.reform.dev.dto;
+
+import lombok.Builder;
+import lombok.Data;
+
+@Data
+@Builder
+public class CaseLookupResult {
+
+    // Echoes whichever key the case was requested by
+    private Long id;
+    private String caseNumber;
+    private boolean found;
+    // Null when not found
+    private CaseResponse caseDetails;
+}
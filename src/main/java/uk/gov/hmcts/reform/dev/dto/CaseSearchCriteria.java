@@ -0,0 +1,57 @@
+package uk.gov.hmcts.reform.dev.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.Pattern;
+import lombok.Data;
+import org.springframework.format.annotation.DateTimeFormat;
+import uk.gov.hmcts.reform.dev.enums.CaseStatus;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Data
+@Schema(description = "Query parameters for filtering and sorting the case list")
+public class CaseSearchCriteria {
+
+    @Schema(description = "Only cases in one of these statuses", example = "IN_PROGRESS")
+    private List<CaseStatus> status;
+
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+    @Schema(description = "Only cases created at or after this time", example = "2026-10-01T00:00:00")
+    private LocalDateTime createdFrom;
+
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+    @Schema(description = "Only cases created before this time", example = "2026-11-01T00:00:00")
+    private LocalDateTime createdTo;
+
+    @Pattern(regexp = "^[A-Z0-9]{1,20}$", message = "Case number prefix must be 1-20 uppercase letters or numbers")
+    @Schema(description = "Only cases whose case number starts with this", example = "ABC")
+    private String caseNumberPrefix;
+
+    @Schema(description = "Sort fields, prefix with '-' for descending; defaults to -createdDate",
+        example = "-createdDate")
+    private List<String> sort;
+
+    @Min(value = 1, message = "Limit must be between 1 and 1000")
+    @Max(value = 1000, message = "Limit must be between 1 and 1000")
+    @Schema(description = "Maximum number of cases to return, defaults to 100", example = "100")
+    private Integer limit;
+
+    @Schema(description = "Only return these properties of each case; unrequested columns are not read",
+        example = "id,caseNumber,status")
+    private List<String> fields;
+
+    /**
+     * True when nothing narrows or orders the list. {@code fields} only shapes each case, so is not counted.
+     */
+    public boolean isUnfiltered() {
+        return (status == null || status.isEmpty())
+            && createdFrom == null
+            && createdTo == null
+            && caseNumberPrefix == null
+            && (sort == null || sort.isEmpty())
+            && limit == null;
+    }
+}
@@ -0,0 +1,15 @@
+package uk.gov.hmcts.reform.dev.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ImportRowError {
+    // CSV record number, the header being record 1
+    private long row;
+    private String caseNumber;
+    private String message;
+}
@@ -0,0 +1,24 @@
+package uk.gov.hmcts.reform.dev.dto;
+
+import lombok.Builder;
+import lombok.Data;
+
+import java.time.LocalDateTime;
+
+@Data
+@Builder
+public class PendingCaseResponse {
+
+    public enum State {
+        PENDING,
+        CREATED,
+        FAILED
+    }
+
+    private Long id;
+    private String caseNumber;
+    private State state;
+    private LocalDateTime acceptedDate;
+    // Set when state is FAILED
+    private String failureReason;
+}
@@ -0,0 +1,29 @@
+package uk.gov.hmcts.reform.dev.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import lombok.Data;
+import uk.gov.hmcts.reform.dev.enums.CaseStatus;
+
+import java.util.List;
+
+@Data
+@Schema(description = "Moves every case matching all given filters to the target status; "
+    + "at least one of currentStatus or ids is required")
+public class StatusTransitionRequest {
+
+    @Schema(description = "Only cases currently in one of these statuses", example = "[\"RESOLVED\"]")
+    private List<CaseStatus> currentStatus;
+
+    @Min(value = 1, message = "notModifiedForDays must be at least 1")
+    @Schema(description = "Only cases not modified for at least this many days", example = "30")
+    private Integer notModifiedForDays;
+
+    @Schema(description = "Only cases with these ids", example = "[1, 2, 3]")
+    private List<Long> ids;
+
+    @NotNull(message = "Target status is required")
+    @Schema(description = "Status to move the matching cases to", example = "CLOSED")
+    private CaseStatus targetStatus;
+}
@@ -0,0 +1,17 @@
+package uk.gov.hmcts.reform.dev.dto;
+
+import lombok.Builder;
+import lombok.Data;
+import uk.gov.hmcts.reform.dev.events.CaseChangedEvent;
+
+import java.time.LocalDateTime;
+
+@Data
+@Builder
+public class WebhookNotification {
+    private CaseChangedEvent.Type eventType;
+    private Long caseId;
+    // Latest state at delivery time, null for DELETED
+    private CaseResponse caseDetails;
+    private LocalDateTime occurredAt;
+}
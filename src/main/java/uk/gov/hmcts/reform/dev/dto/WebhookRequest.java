@@ -0,0 +1,19 @@
+package uk.gov.hmcts.reform.dev.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Pattern;
+import jakarta.validation.constraints.Size;
+import lombok.Data;
+
+@Data
+@Schema(description = "Request object for registering a webhook")
+public class WebhookRequest {
+
+    @NotBlank(message = "URL is required")
+    @Size(max = 500, message = "URL cannot exceed 500 characters")
+    @Pattern(regexp = "^https?://\\S+$", message = "URL must be an absolute http or https URL")
+    @Schema(description = "Endpoint that case change notifications are POSTed to",
+        example = "https://partner.example.com/hooks/cases")
+    private String url;
+}
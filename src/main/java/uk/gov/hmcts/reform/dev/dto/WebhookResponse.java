@@ -0,0 +1,15 @@
+package uk.gov.hmcts.reform.dev.dto;
+
+import lombok.Builder;
+import lombok.Data;
+
+import java.time.LocalDateTime;
+
+@Data
+@Builder
+public class WebhookResponse {
+    private Long id;
+    private String url;
+    private boolean active;
+    private LocalDateTime createdDate;
+}
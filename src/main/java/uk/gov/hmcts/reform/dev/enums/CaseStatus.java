@@ -15,4 +15,11 @@ public enum CaseStatus {
             return false;
         }
     }
+
+    /**
+     * Whether a case in this status is finished with and eligible for archival.
+     */
+    public boolean isTerminal() {
+        return this == RESOLVED || this == CLOSED;
+    }
 }
@@ -0,0 +1,26 @@
+package uk.gov.hmcts.reform.dev.events;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import uk.gov.hmcts.reform.dev.enums.CaseStatus;
+
+import java.util.List;
+
+/**
+ * Published once per chunk by set-based bulk operations, which change rows without loading them and so
+ * cannot describe each case's before and after state the way {@link CaseChangedEvent} does.
+ */
+@Getter
+@RequiredArgsConstructor
+public class CaseBulkChangeEvent {
+
+    // UPDATED for status transitions, DELETED for bulk deletes
+    private final CaseChangedEvent.Type type;
+    private final List<Long> caseIds;
+
+    // Status the cases were moved to, null for DELETED
+    private final CaseStatus targetStatus;
+
+    // Username of the caller that made the change, null for system changes
+    private final String actor;
+}
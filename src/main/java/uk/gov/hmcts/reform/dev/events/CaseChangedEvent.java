@@ -0,0 +1,32 @@
+package uk.gov.hmcts.reform.dev.events;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import uk.gov.hmcts.reform.dev.dto.CaseResponse;
+
+/**
+ * Published by {@code CaseService} inside the write transaction. Listeners that only care about
+ * committed data should use {@code @TransactionalEventListener}.
+ */
+@Getter
+@RequiredArgsConstructor
+public class CaseChangedEvent {
+
+    public enum Type {
+        CREATED,
+        UPDATED,
+        DELETED
+    }
+
+    private final Type type;
+    private final Long caseId;
+
+    // State before the change, null for CREATED and when the deleted case was not loaded
+    private final CaseResponse previous;
+
+    // State after the change, null for DELETED
+    private final CaseResponse current;
+
+    // Username of the caller that made the change, null for system changes
+    private final String actor;
+}
@@ -0,0 +1,19 @@
+package uk.gov.hmcts.reform.dev.events;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Published once per chunk by the archival job. Archived cases leave {@code legal_case} but are still
+ * readable by id, so this is deliberately not a {@link CaseBulkChangeEvent} DELETED: only views of the hot
+ * table, such as the case list snapshot, need to react to it. Delta sync is covered separately, as the
+ * job tombstones archived ids in the same transaction.
+ */
+@Getter
+@RequiredArgsConstructor
+public class CasesArchivedEvent {
+
+    private final List<Long> caseIds;
+}
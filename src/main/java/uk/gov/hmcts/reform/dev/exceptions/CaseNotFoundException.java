@@ -3,13 +3,17 @@ package uk.gov.hmcts.reform.dev.exceptions;
 import org.springframework.http.HttpStatus;
 import org.springframework.web.bind.annotation.ResponseStatus;
 
+/**
+ * An expected outcome rather than a fault, so no stack trace is captured: filling one in is most of the
+ * cost of a 404 and nobody reads it.
+ */
 @ResponseStatus(HttpStatus.NOT_FOUND)
 public class CaseNotFoundException extends RuntimeException {
     public CaseNotFoundException(Long id) {
-        super("Case not found with id: " + id);
+        this("Case not found with id: " + id);
     }
 
     public CaseNotFoundException(String message) {
-        super(message);
+        super(message, null, false, false);
     }
 }
@@ -3,9 +3,12 @@ package uk.gov.hmcts.reform.dev.exceptions;
 import org.springframework.http.HttpStatus;
 import org.springframework.web.bind.annotation.ResponseStatus;
 
+/**
+ * An expected outcome rather than a fault, so no stack trace is captured.
+ */
 @ResponseStatus(HttpStatus.CONFLICT)
 public class DuplicateCaseException extends RuntimeException {
     public DuplicateCaseException(String message) {
-        super(message);
+        super(message, null, false, false);
     }
 }
@@ -0,0 +1,11 @@
+package uk.gov.hmcts.reform.dev.exceptions;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+@ResponseStatus(HttpStatus.NOT_FOUND)
+public class WebhookNotFoundException extends RuntimeException {
+    public WebhookNotFoundException(Long id) {
+        super("Webhook not found with id: " + id);
+    }
+}
@@ -0,0 +1,79 @@
+package uk.gov.hmcts.reform.dev.history;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import uk.gov.hmcts.reform.dev.dto.CaseHistoryEntry;
+import uk.gov.hmcts.reform.dev.dto.CaseResponse;
+import uk.gov.hmcts.reform.dev.events.CaseBulkChangeEvent;
+import uk.gov.hmcts.reform.dev.events.CaseChangedEvent;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Function;
+
+/**
+ * Turns committed case changes into field-level history entries.
+ */
+@Component
+@RequiredArgsConstructor
+public class CaseHistoryListener {
+
+    private static final List<Field> FIELDS = List.of(
+        new Field("caseNumber", CaseResponse::getCaseNumber),
+        new Field("title", CaseResponse::getTitle),
+        new Field("description", CaseResponse::getDescription),
+        new Field("status", response -> response.getStatus() == null ? null : response.getStatus().name())
+    );
+
+    private final CaseHistoryStore caseHistoryStore;
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onCaseChanged(CaseChangedEvent event) {
+        caseHistoryStore.append(CaseHistoryEntry.builder()
+            .caseId(event.getCaseId())
+            .timestamp(LocalDateTime.now())
+            .type(event.getType())
+            .actor(event.getActor())
+            .changes(diff(event.getPrevious(), event.getCurrent()))
+            .build());
+    }
+
+    // Bulk statements do not load the rows, so the previous status is not known
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onCaseBulkChanged(CaseBulkChangeEvent event) {
+        LocalDateTime now = LocalDateTime.now();
+        List<CaseHistoryEntry.FieldChange> changes = event.getTargetStatus() == null ? List.of()
+            : List.of(new CaseHistoryEntry.FieldChange("status", null, event.getTargetStatus().name()));
+        for (Long caseId : event.getCaseIds()) {
+            caseHistoryStore.append(CaseHistoryEntry.builder()
+                .caseId(caseId)
+                .timestamp(now)
+                .type(event.getType())
+                .actor(event.getActor())
+                .changes(changes)
+                .build());
+        }
+    }
+
+    static List<CaseHistoryEntry.FieldChange> diff(CaseResponse before, CaseResponse after) {
+        List<CaseHistoryEntry.FieldChange> changes = new ArrayList<>();
+        if (after == null) {
+            return changes;
+        }
+        for (Field field : FIELDS) {
+            String oldValue = before == null ? null : field.getter().apply(before);
+            String newValue = field.getter().apply(after);
+            if (!Objects.equals(oldValue, newValue)) {
+                changes.add(new CaseHistoryEntry.FieldChange(field.name(), oldValue, newValue));
+            }
+        }
+        return changes;
+    }
+
+    private record Field(String name, Function<CaseResponse, String> getter) {
+    }
+}
@@ -0,0 +1,297 @@
+package uk.gov.hmcts.reform.dev.history;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+import uk.gov.hmcts.reform.dev.dto.CaseHistoryEntry;
+import uk.gov.hmcts.reform.dev.events.CaseChangedEvent;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Case change history kept outside Postgres in memory-mapped log segments.
+ *
+ * <p>Callers hand entries to a lock-free ring buffer and return straight away; one writer thread
+ * appends them to the log. Each record points back to the previous record for the same case, so
+ * the in-memory index only needs the latest address per case. The index is snapshotted
+ * periodically and on shutdown; on start-up the snapshot is loaded and any records written after
+ * it are replayed from the log.
+ */
+@Component
+@Slf4j
+public class CaseHistoryStore {
+
+    private static final String SNAPSHOT_FILE = "index.snapshot";
+    private static final long NO_RECORD = -1L;
+    private static final long IDLE_PARK_NANOS = TimeUnit.MICROSECONDS.toNanos(200);
+    private static final CaseChangedEvent.Type[] TYPES = CaseChangedEvent.Type.values();
+
+    private final boolean enabled;
+    private final Path directory;
+    private final int segmentSize;
+    private final Duration snapshotInterval;
+    private final Duration offerTimeout;
+    private final MpscRingBuffer<CaseHistoryEntry> ringBuffer;
+
+    // caseId -> address of that case's most recent record
+    private final Map<Long, Long> latestRecord = new ConcurrentHashMap<>();
+    private final AtomicLong dropped = new AtomicLong();
+
+    private SegmentedLog segmentedLog;
+    private Thread writer;
+    private volatile boolean running;
+    private long lastSnapshotNanos;
+
+    public CaseHistoryStore(@Value("${cases.history.enabled:true}") boolean enabled,
+                            @Value("${cases.history.directory:data/case-history}") String directory,
+                            @Value("${cases.history.segment-size:16MB}") DataSize segmentSize,
+                            @Value("${cases.history.ring-size:8192}") int ringSize,
+                            @Value("${cases.history.snapshot-interval:60s}") Duration snapshotInterval,
+                            @Value("${cases.history.offer-timeout:100ms}") Duration offerTimeout) {
+        this.enabled = enabled;
+        this.directory = Paths.get(directory);
+        this.segmentSize = Math.toIntExact(segmentSize.toBytes());
+        this.snapshotInterval = snapshotInterval;
+        this.offerTimeout = offerTimeout;
+        this.ringBuffer = new MpscRingBuffer<>(ringSize);
+    }
+
+    @PostConstruct
+    public void start() throws IOException {
+        if (!enabled) {
+            return;
+        }
+        segmentedLog = new SegmentedLog(directory, segmentSize);
+        long replayFrom = loadSnapshot();
+        segmentedLog.recover(replayFrom, (address, payload) -> latestRecord.put(payload.getLong(Long.BYTES), address));
+        log.info("Case history store opened at {} with {} cases indexed", directory, latestRecord.size());
+
+        running = true;
+        lastSnapshotNanos = System.nanoTime();
+        writer = new Thread(this::writeLoop, "case-history-writer");
+        writer.setDaemon(true);
+        writer.start();
+    }
+
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        if (writer == null) {
+            return;
+        }
+        running = false;
+        writer.join(TimeUnit.SECONDS.toMillis(10));
+        writer = null;
+    }
+
+    /**
+     * Queues an entry for writing. Waits briefly if the ring buffer is full, then drops the entry
+     * rather than hold up the caller's request.
+     */
+    public boolean append(CaseHistoryEntry entry) {
+        if (!enabled) {
+            return false;
+        }
+        long deadline = System.nanoTime() + offerTimeout.toNanos();
+        while (!ringBuffer.offer(entry)) {
+            if (System.nanoTime() > deadline) {
+                log.error("Case history buffer full, dropped {} entry for case {} ({} dropped so far)",
+                          entry.getType(), entry.getCaseId(), dropped.incrementAndGet());
+                return false;
+            }
+            LockSupport.parkNanos(IDLE_PARK_NANOS);
+        }
+        return true;
+    }
+
+    // Oldest first
+    public List<CaseHistoryEntry> getHistory(Long caseId) {
+        if (!enabled) {
+            return List.of();
+        }
+        List<CaseHistoryEntry> history = new ArrayList<>();
+        Long address = latestRecord.get(caseId);
+        try {
+            while (address != null && address != NO_RECORD) {
+                ByteBuffer record = segmentedLog.read(address);
+                address = record.getLong(0);
+                history.add(decode(record));
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to read history for case " + caseId, e);
+        }
+        Collections.reverse(history);
+        return history;
+    }
+
+    public long getDroppedCount() {
+        return dropped.get();
+    }
+
+    private void writeLoop() {
+        while (running || !ringBuffer.isEmpty()) {
+            CaseHistoryEntry entry = ringBuffer.poll();
+            if (entry == null) {
+                if (System.nanoTime() - lastSnapshotNanos > snapshotInterval.toNanos()) {
+                    snapshot();
+                }
+                LockSupport.parkNanos(IDLE_PARK_NANOS);
+                continue;
+            }
+            write(entry);
+        }
+        snapshot();
+    }
+
+    private void write(CaseHistoryEntry entry) {
+        try {
+            byte[] payload = encode(entry, latestRecord.getOrDefault(entry.getCaseId(), NO_RECORD));
+            if (payload.length > segmentedLog.maxPayloadSize()) {
+                log.error("Case history entry for case {} is too large to store", entry.getCaseId());
+                return;
+            }
+            long address = segmentedLog.append(payload);
+            // Publishing the address after the bytes are written is what makes them visible to readers
+            latestRecord.put(entry.getCaseId(), address);
+        } catch (IOException | RuntimeException e) {
+            log.error("Failed to write history entry for case {}: {}", entry.getCaseId(), e.getMessage());
+        }
+    }
+
+    private void snapshot() {
+        lastSnapshotNanos = System.nanoTime();
+        Path target = directory.resolve(SNAPSHOT_FILE);
+        Path temp = directory.resolve(SNAPSHOT_FILE + ".tmp");
+        try {
+            segmentedLog.force();
+            try (DataOutputStream out = new DataOutputStream(Files.newOutputStream(temp))) {
+                out.writeLong(segmentedLog.writeAddress());
+                out.writeInt(latestRecord.size());
+                for (Map.Entry<Long, Long> entry : latestRecord.entrySet()) {
+                    out.writeLong(entry.getKey());
+                    out.writeLong(entry.getValue());
+                }
+            }
+            Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            log.warn("Failed to snapshot case history index: {}", e.getMessage());
+        }
+    }
+
+    // Returns the log address the snapshot covers up to
+    private long loadSnapshot() {
+        Path snapshot = directory.resolve(SNAPSHOT_FILE);
+        if (!Files.exists(snapshot)) {
+            return 0;
+        }
+        try (DataInputStream in = new DataInputStream(Files.newInputStream(snapshot))) {
+            long coveredUpTo = in.readLong();
+            int count = in.readInt();
+            for (int i = 0; i < count; i++) {
+                latestRecord.put(in.readLong(), in.readLong());
+            }
+            return coveredUpTo;
+        } catch (IOException e) {
+            log.warn("Ignoring unreadable case history snapshot, rebuilding from the log: {}", e.getMessage());
+            latestRecord.clear();
+            return 0;
+        }
+    }
+
+    // Layout: prevAddress, caseId, epochMillis, type, actor, change count, (field, old, new)*
+    private static byte[] encode(CaseHistoryEntry entry, long previousAddress) {
+        List<CaseHistoryEntry.FieldChange> changes = entry.getChanges() == null ? List.of() : entry.getChanges();
+        byte[][] strings = new byte[1 + changes.size() * 3][];
+        strings[0] = utf8(entry.getActor());
+        int size = Long.BYTES * 3 + 1 + Integer.BYTES * 2;
+        for (int i = 0; i < changes.size(); i++) {
+            CaseHistoryEntry.FieldChange change = changes.get(i);
+            strings[1 + i * 3] = utf8(change.getField());
+            strings[2 + i * 3] = utf8(change.getOldValue());
+            strings[3 + i * 3] = utf8(change.getNewValue());
+            size += Integer.BYTES * 3;
+        }
+        for (byte[] string : strings) {
+            size += string == null ? 0 : string.length;
+        }
+
+        ByteBuffer buffer = ByteBuffer.allocate(size);
+        buffer.putLong(previousAddress);
+        buffer.putLong(entry.getCaseId());
+        buffer.putLong(entry.getTimestamp().atZone(ZoneId.systemDefault()).toInstant().toEpochMilli());
+        buffer.put((byte) entry.getType().ordinal());
+        putString(buffer, strings[0]);
+        buffer.putInt(changes.size());
+        for (int i = 1; i < strings.length; i++) {
+            putString(buffer, strings[i]);
+        }
+        return buffer.array();
+    }
+
+    private static CaseHistoryEntry decode(ByteBuffer record) {
+        ByteBuffer buffer = record.duplicate();
+        buffer.position(Long.BYTES); // skip prevAddress
+        long caseId = buffer.getLong();
+        long epochMillis = buffer.getLong();
+        CaseChangedEvent.Type type = TYPES[buffer.get()];
+        String actor = getString(buffer);
+        int changeCount = buffer.getInt();
+        List<CaseHistoryEntry.FieldChange> changes = new ArrayList<>(changeCount);
+        for (int i = 0; i < changeCount; i++) {
+            changes.add(new CaseHistoryEntry.FieldChange(getString(buffer), getString(buffer), getString(buffer)));
+        }
+        return CaseHistoryEntry.builder()
+            .caseId(caseId)
+            .timestamp(LocalDateTime.ofInstant(Instant.ofEpochMilli(epochMillis), ZoneId.systemDefault()))
+            .type(type)
+            .actor(actor)
+            .changes(changes)
+            .build();
+    }
+
+    private static byte[] utf8(String value) {
+        return value == null ? null : value.getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static void putString(ByteBuffer buffer, byte[] value) {
+        if (value == null) {
+            buffer.putInt(-1);
+            return;
+        }
+        buffer.putInt(value.length);
+        buffer.put(value);
+    }
+
+    private static String getString(ByteBuffer buffer) {
+        int length = buffer.getInt();
+        if (length < 0) {
+            return null;
+        }
+        byte[] bytes = new byte[length];
+        buffer.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+}
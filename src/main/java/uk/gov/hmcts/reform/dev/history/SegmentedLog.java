@@ -0,0 +1,133 @@
+package uk.gov.hmcts.reform.dev.history;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Append-only log split into fixed-size memory-mapped segment files.
+ *
+ * <p>A record is a 4-byte length followed by its payload and never spans two segments. Addresses
+ * are global: {@code segmentIndex * segmentSize + offset}. Only one thread may append; any thread
+ * may read an address it has been handed after the append returned.
+ */
+final class SegmentedLog {
+
+    private static final int LENGTH_BYTES = Integer.BYTES;
+
+    private final Path directory;
+    private final int segmentSize;
+    private final Map<Long, MappedByteBuffer> segments = new ConcurrentHashMap<>();
+
+    private long writeAddress;
+
+    SegmentedLog(Path directory, int segmentSize) throws IOException {
+        this.directory = Files.createDirectories(directory);
+        this.segmentSize = segmentSize;
+    }
+
+    int maxPayloadSize() {
+        return segmentSize - LENGTH_BYTES;
+    }
+
+    long writeAddress() {
+        return writeAddress;
+    }
+
+    long append(byte[] payload) throws IOException {
+        if (payload.length == 0 || payload.length > maxPayloadSize()) {
+            throw new IllegalArgumentException("Record size " + payload.length + " does not fit in a segment");
+        }
+        int offset = offset(writeAddress);
+        if (offset + LENGTH_BYTES + payload.length > segmentSize) {
+            writeAddress = (segmentIndex(writeAddress) + 1) * segmentSize;
+            offset = 0;
+        }
+        MappedByteBuffer segment = segment(segmentIndex(writeAddress), true);
+        long address = writeAddress;
+        segment.put(offset + LENGTH_BYTES, payload);
+        // Length goes in last: a zero length marks the end of the data in a segment
+        segment.putInt(offset, payload.length);
+        writeAddress += LENGTH_BYTES + payload.length;
+        return address;
+    }
+
+    ByteBuffer read(long address) throws IOException {
+        MappedByteBuffer segment = segment(segmentIndex(address), false);
+        int offset = offset(address);
+        int length = segment.getInt(offset);
+        return segment.slice(offset + LENGTH_BYTES, length);
+    }
+
+    /**
+     * Walks records from {@code from} to the end of the log, then leaves the log positioned to
+     * append after the last one found.
+     */
+    void recover(long from, RecordVisitor visitor) throws IOException {
+        long address = from;
+        while (true) {
+            long index = segmentIndex(address);
+            if (!Files.exists(segmentPath(index))) {
+                break;
+            }
+            MappedByteBuffer segment = segment(index, false);
+            int offset = offset(address);
+            int length = offset + LENGTH_BYTES > segmentSize ? 0 : segment.getInt(offset);
+            if (length <= 0 || offset + LENGTH_BYTES + length > segmentSize) {
+                if (!Files.exists(segmentPath(index + 1))) {
+                    break;
+                }
+                address = (index + 1) * segmentSize;
+                continue;
+            }
+            visitor.visit(address, segment.slice(offset + LENGTH_BYTES, length));
+            address += LENGTH_BYTES + length;
+        }
+        writeAddress = address;
+    }
+
+    void force() {
+        segments.values().forEach(MappedByteBuffer::force);
+    }
+
+    private MappedByteBuffer segment(long index, boolean create) throws IOException {
+        MappedByteBuffer segment = segments.get(index);
+        if (segment != null) {
+            return segment;
+        }
+        Path path = segmentPath(index);
+        if (!create && !Files.exists(path)) {
+            throw new IOException("Missing history segment " + path);
+        }
+        // The mapping stays valid after the channel is closed
+        try (FileChannel channel = FileChannel.open(
+            path, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            segment = channel.map(FileChannel.MapMode.READ_WRITE, 0, segmentSize);
+        }
+        MappedByteBuffer existing = segments.putIfAbsent(index, segment);
+        return existing != null ? existing : segment;
+    }
+
+    private Path segmentPath(long index) {
+        return directory.resolve(String.format("%020d.seg", index));
+    }
+
+    private long segmentIndex(long address) {
+        return address / segmentSize;
+    }
+
+    private int offset(long address) {
+        return (int) (address % segmentSize);
+    }
+
+    @FunctionalInterface
+    interface RecordVisitor {
+        void visit(long address, ByteBuffer payload);
+    }
+}
@@ -0,0 +1,32 @@
+package uk.gov.hmcts.reform.dev.logging;
+
+import ch.qos.logback.classic.AsyncAppender;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * {@link AsyncAppender} that counts the events it drops, either because they were discardable while the
+ * queue was past its discarding threshold or because the queue was full and {@code neverBlock} is set.
+ * The count is published as the {@code logging.events.dropped} meter by {@link LoggingMetrics}.
+ */
+public class CountingAsyncAppender extends AsyncAppender {
+
+    private final LongAdder dropped = new LongAdder();
+
+    @Override
+    protected void append(ILoggingEvent event) {
+        int remaining = getRemainingCapacity();
+        // Mirrors the checks in AsyncAppenderBase, whose drop paths are private; a consumer freeing a slot
+        // in between can make this overcount by one
+        if (remaining < getDiscardingThreshold() && isDiscardable(event)
+            || remaining == 0 && isNeverBlock()) {
+            dropped.increment();
+        }
+        super.append(event);
+    }
+
+    public long getDroppedCount() {
+        return dropped.sum();
+    }
+}
@@ -0,0 +1,56 @@
+package uk.gov.hmcts.reform.dev.logging;
+
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.classic.turbo.TurboFilter;
+import ch.qos.logback.core.Appender;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.Set;
+
+/**
+ * Publishes drop and queue figures for each {@link CountingAsyncAppender}, and the number of events
+ * denied by {@link RateLimitingTurboFilter}, configured in {@code logback-spring.xml}.
+ */
+@Component
+public class LoggingMetrics implements MeterBinder {
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        if (!(LoggerFactory.getILoggerFactory() instanceof LoggerContext context)) {
+            return;
+        }
+        Set<String> bound = new HashSet<>();
+        for (Logger logger : context.getLoggerList()) {
+            Iterator<Appender<ILoggingEvent>> appenders = logger.iteratorForAppenders();
+            while (appenders.hasNext()) {
+                if (appenders.next() instanceof CountingAsyncAppender appender && bound.add(appender.getName())) {
+                    FunctionCounter.builder("logging.events.dropped", appender, CountingAsyncAppender::getDroppedCount)
+                        .description("Log events dropped because the async appender's queue was full")
+                        .tag("appender", appender.getName())
+                        .register(registry);
+                    Gauge.builder("logging.queue.remaining", appender, CountingAsyncAppender::getRemainingCapacity)
+                        .description("Free slots in the async appender's queue")
+                        .tag("appender", appender.getName())
+                        .register(registry);
+                }
+            }
+        }
+        for (TurboFilter filter : context.getTurboFilterList()) {
+            if (filter instanceof RateLimitingTurboFilter rateLimiter) {
+                FunctionCounter.builder("logging.events.suppressed", rateLimiter,
+                                        RateLimitingTurboFilter::getSuppressedCount)
+                    .description("Hot-path log events sampled out by the rate limit")
+                    .register(registry);
+            }
+        }
+    }
+}
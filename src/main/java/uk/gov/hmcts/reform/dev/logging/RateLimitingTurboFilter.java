@@ -0,0 +1,102 @@
+package uk.gov.hmcts.reform.dev.logging;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.turbo.TurboFilter;
+import ch.qos.logback.core.spi.FilterReply;
+import org.slf4j.Marker;
+
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Lets through at most {@code maxPerInterval} INFO and lower events per message pattern per logger in
+ * each {@code intervalMillis}, for the loggers named in {@code loggers} and their children. Repetitive
+ * hot-path messages such as "Retrieving case with id" are sampled this way instead of costing a queue
+ * slot each; WARN and ERROR always pass. Denied events are counted as {@code logging.events.suppressed}.
+ */
+public class RateLimitingTurboFilter extends TurboFilter {
+
+    // Distinct patterns tracked per logger; past this the logger's windows are reset
+    static final int MAX_TRACKED_PATTERNS = 1_000;
+
+    private volatile List<String> loggers = List.of();
+    private int maxPerInterval = 100;
+    private long intervalNanos = TimeUnit.SECONDS.toNanos(1);
+
+    private final ConcurrentMap<String, ConcurrentMap<String, Window>> windows = new ConcurrentHashMap<>();
+    private final LongAdder suppressed = new LongAdder();
+
+    public void setLoggers(String loggers) {
+        this.loggers = List.of(loggers.trim().split("\\s*,\\s*"));
+    }
+
+    public void setMaxPerInterval(int maxPerInterval) {
+        this.maxPerInterval = maxPerInterval;
+    }
+
+    public void setIntervalMillis(long intervalMillis) {
+        this.intervalNanos = TimeUnit.MILLISECONDS.toNanos(intervalMillis);
+    }
+
+    public long getSuppressedCount() {
+        return suppressed.sum();
+    }
+
+    @Override
+    public FilterReply decide(Marker marker, Logger logger, Level level, String format, Object[] params,
+                              Throwable t) {
+        // The effective level is checked here because disabled calls reach turbo filters too
+        if (!isStarted() || format == null || level.isGreaterOrEqual(Level.WARN)
+            || !level.isGreaterOrEqual(logger.getEffectiveLevel()) || !isSampled(logger.getName())) {
+            return FilterReply.NEUTRAL;
+        }
+        ConcurrentMap<String, Window> loggerWindows = windows.computeIfAbsent(
+            logger.getName(), name -> new ConcurrentHashMap<>());
+        Window window = loggerWindows.get(format);
+        if (window == null) {
+            if (loggerWindows.size() >= MAX_TRACKED_PATTERNS) {
+                loggerWindows.clear();
+            }
+            window = loggerWindows.computeIfAbsent(format, pattern -> new Window(System.nanoTime()));
+        }
+        if (window.tryAcquire(System.nanoTime(), intervalNanos, maxPerInterval)) {
+            return FilterReply.NEUTRAL;
+        }
+        suppressed.increment();
+        return FilterReply.DENY;
+    }
+
+    private boolean isSampled(String loggerName) {
+        for (String prefix : loggers) {
+            if (loggerName.startsWith(prefix)
+                && (loggerName.length() == prefix.length() || loggerName.charAt(prefix.length()) == '.')) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static final class Window {
+
+        private final AtomicLong start;
+        private final AtomicInteger count = new AtomicInteger();
+
+        Window(long start) {
+            this.start = new AtomicLong(start);
+        }
+
+        boolean tryAcquire(long now, long intervalNanos, int max) {
+            long windowStart = start.get();
+            if (now - windowStart >= intervalNanos && start.compareAndSet(windowStart, now)) {
+                count.set(0);
+            }
+            return count.incrementAndGet() <= max;
+        }
+    }
+}
@@ -0,0 +1,27 @@
+package uk.gov.hmcts.reform.dev.models;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "case_archive_checkpoint")
+@NoArgsConstructor
+@AllArgsConstructor
+@Getter
+@Setter
+public class ArchiveCheckpoint {
+    @Id
+    private String jobName;
+
+    // Highest legal_case id already handled in the current pass, 0 when a pass starts
+    private Long lastCaseId;
+
+    private LocalDateTime updatedDate;
+}
@@ -0,0 +1,62 @@
+package uk.gov.hmcts.reform.dev.models;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.PostLoad;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.Table;
+import jakarta.persistence.Transient;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.springframework.data.domain.Persistable;
+import uk.gov.hmcts.reform.dev.enums.CaseStatus;
+
+import java.time.LocalDateTime;
+
+/**
+ * A closed case moved out of {@code legal_case} by the archival job. It keeps the original id so
+ * look-ups by id keep working after the move.
+ */
+@Entity
+@Table(name = "legal_case_archive", indexes = {
+    @Index(name = "idx_legal_case_archive_case_number", columnList = "caseNumber")
+})
+@NoArgsConstructor
+@Getter
+@Setter
+public class ArchivedCase implements Persistable<Long> {
+    @Id
+    private Long id;
+    private String caseNumber;
+    private String title;
+    private String description;
+
+    @Enumerated(EnumType.STRING)
+    private CaseStatus status;
+
+    private LocalDateTime createdDate;
+    private LocalDateTime closedDate;
+    private LocalDateTime archivedDate;
+
+    // Ids are assigned, so tell Spring Data to insert rather than merge (which would select first)
+    @Transient
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    private boolean newEntity = true;
+
+    @Override
+    public boolean isNew() {
+        return newEntity;
+    }
+
+    @PostLoad
+    @PostPersist
+    void markNotNew() {
+        this.newEntity = false;
+    }
+}
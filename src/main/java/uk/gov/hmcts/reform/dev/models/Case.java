@@ -3,6 +3,7 @@ package uk.gov.hmcts.reform.dev.models;
 import jakarta.persistence.Entity;
 import jakarta.persistence.Table;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.Enumerated;
 import jakarta.persistence.GenerationType;
@@ -16,7 +17,13 @@ import uk.gov.hmcts.reform.dev.enums.CaseStatus;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "legal_case")
+@Table(name = "legal_case", indexes = {
+    @Index(name = "idx_legal_case_status_closed_date", columnList = "status, closedDate"),
+    @Index(name = "idx_legal_case_change_seq", columnList = "changeSeq, id"),
+    @Index(name = "idx_legal_case_status_created_date", columnList = "status, createdDate"),
+    @Index(name = "idx_legal_case_created_date", columnList = "createdDate"),
+    @Index(name = "uk_legal_case_case_number", columnList = "caseNumber", unique = true)
+})
 @NoArgsConstructor
 @AllArgsConstructor
 @Getter
@@ -33,4 +40,12 @@ public class Case {
     private CaseStatus status;
 
     private LocalDateTime createdDate;
+
+    // Set when the case enters RESOLVED or CLOSED, cleared if it is reopened
+    private LocalDateTime closedDate;
+
+    private LocalDateTime lastModified;
+
+    // Position in the change stream used by GET /cases/changes, bumped on every write
+    private Long changeSeq;
 }
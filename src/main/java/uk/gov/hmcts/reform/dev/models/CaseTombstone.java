@@ -0,0 +1,34 @@
+package uk.gov.hmcts.reform.dev.models;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+
+/**
+ * Records that a case was deleted or archived so delta sync clients can drop it.
+ */
+@Entity
+@Table(name = "legal_case_tombstone", indexes = {
+    @Index(name = "idx_legal_case_tombstone_change_seq", columnList = "changeSeq, id")
+})
+@NoArgsConstructor
+@AllArgsConstructor
+@Getter
+@Setter
+public class CaseTombstone {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+    private Long caseId;
+    private Long changeSeq;
+    private LocalDateTime deletedDate;
+}
@@ -0,0 +1,21 @@
+package uk.gov.hmcts.reform.dev.models;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Entity
+@Table(name = "case_change_sequence")
+@NoArgsConstructor
+@AllArgsConstructor
+@Getter
+@Setter
+public class ChangeSequence {
+    @Id
+    private String name;
+    private Long currentValue;
+}
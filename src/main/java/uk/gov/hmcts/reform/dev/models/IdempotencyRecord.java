@@ -0,0 +1,46 @@
+package uk.gov.hmcts.reform.dev.models;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+
+/**
+ * The stored outcome of a write sent with an {@code Idempotency-Key} header, replayed to retries of it.
+ */
+@Entity
+@Table(name = "idempotency_record", indexes = {
+    @Index(name = "idx_idempotency_record_expires_date", columnList = "expiresDate")
+})
+@NoArgsConstructor
+@AllArgsConstructor
+@Getter
+@Setter
+public class IdempotencyRecord {
+    // Caller's username and the key they sent, so two users can never see each other's responses
+    @Id
+    @Column(length = 400)
+    private String scopedKey;
+
+    // Hash of the operation and request body, so a key reused for a different request is rejected
+    private String fingerprint;
+
+    private int statusCode;
+
+    // JSON object of header name to values, everything but the content headers
+    @Column(columnDefinition = "TEXT")
+    private String responseHeaders;
+
+    @Column(columnDefinition = "TEXT")
+    private String responseBody;
+
+    private LocalDateTime createdDate;
+    private LocalDateTime expiresDate;
+}
@@ -0,0 +1,38 @@
+package uk.gov.hmcts.reform.dev.models;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import uk.gov.hmcts.reform.dev.events.CaseChangedEvent;
+
+import java.time.LocalDateTime;
+
+/**
+ * A case change waiting to be sent to webhook subscribers, written in the same transaction as the
+ * change itself.
+ */
+@Entity
+@Table(name = "case_outbox")
+@NoArgsConstructor
+@AllArgsConstructor
+@Getter
+@Setter
+public class OutboxEvent {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+    private Long caseId;
+
+    @Enumerated(EnumType.STRING)
+    private CaseChangedEvent.Type eventType;
+
+    private LocalDateTime createdDate;
+}
@@ -0,0 +1,45 @@
+package uk.gov.hmcts.reform.dev.models;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+
+/**
+ * A webhook notification one subscriber has not yet accepted, retried on later dispatcher runs. Once it
+ * has failed {@code webhooks.max-attempts} times it is kept as dead-lettered rather than deleted.
+ */
+@Entity
+@Table(name = "webhook_delivery", indexes = {
+    @Index(name = "idx_webhook_delivery_due", columnList = "deadLettered, nextAttemptDate")
+})
+@NoArgsConstructor
+@Getter
+@Setter
+public class WebhookDelivery {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+    private Long subscriptionId;
+    private String url;
+
+    @Column(columnDefinition = "TEXT")
+    private String payload;
+
+    private int attempts;
+    private LocalDateTime nextAttemptDate;
+
+    @Column(length = 500)
+    private String lastError;
+
+    private boolean deadLettered;
+    private LocalDateTime createdDate;
+}
@@ -0,0 +1,22 @@
+package uk.gov.hmcts.reform.dev.repositories;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import uk.gov.hmcts.reform.dev.models.ArchivedCase;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+public interface CaseArchiveRepository extends JpaRepository<ArchivedCase, Long> {
+
+    Optional<ArchivedCase> findFirstByCaseNumber(String caseNumber);
+
+    boolean existsByCaseNumber(String caseNumber);
+
+    @Query("select a.caseNumber from ArchivedCase a where a.caseNumber in :caseNumbers")
+    List<String> findExistingCaseNumbers(@Param("caseNumbers") Collection<String> caseNumbers);
+
+    List<ArchivedCase> findByCaseNumberIn(Collection<String> caseNumbers);
+}
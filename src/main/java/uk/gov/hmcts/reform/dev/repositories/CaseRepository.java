@@ -1,14 +1,74 @@
 package uk.gov.hmcts.reform.dev.repositories;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import uk.gov.hmcts.reform.dev.models.Case;
 import uk.gov.hmcts.reform.dev.enums.CaseStatus;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
-public interface CaseRepository extends JpaRepository<Case, Long> {
+public interface CaseRepository extends JpaRepository<Case, Long>, JpaSpecificationExecutor<Case>,
+    CaseRepositoryCustom {
 
     boolean existsByCaseNumber(String caseNumber);
 
+    Optional<Case> findByCaseNumber(String caseNumber);
+
+    List<Case> findByCaseNumberIn(Collection<String> caseNumbers);
+
+    @Query("select c.id from Case c where c.id in :ids")
+    List<Long> findExistingIds(@Param("ids") Collection<Long> ids);
+
+    @Query("select c.caseNumber from Case c where c.caseNumber in :caseNumbers")
+    List<String> findExistingCaseNumbers(@Param("caseNumbers") Collection<String> caseNumbers);
+
     List<Case> findByStatus(CaseStatus status);
 
+    // Cases closed before the cutoff; rows closed before closedDate existed fall back to createdDate
+    @Query("select c from Case c where c.status in :statuses and c.id > :afterId"
+        + " and coalesce(c.closedDate, c.createdDate) < :cutoff order by c.id")
+    List<Case> findArchivable(@Param("statuses") Collection<CaseStatus> statuses,
+                              @Param("cutoff") LocalDateTime cutoff,
+                              @Param("afterId") Long afterId,
+                              Pageable pageable);
+
+    // Keyset page of the change stream, ordered by (changeSeq, id); backed by idx_legal_case_change_seq
+    @Query("select c from Case c where c.changeSeq > :changeSeq"
+        + " or (c.changeSeq = :changeSeq and c.id > :afterId) order by c.changeSeq, c.id")
+    List<Case> findChangedSince(@Param("changeSeq") long changeSeq,
+                                @Param("afterId") long afterId,
+                                Pageable pageable);
+
+    @Modifying
+    @Query("update Case c set c.changeSeq = 0, c.lastModified = c.createdDate where c.changeSeq is null")
+    int backfillChangeSeq();
+
+    // Moving into RESOLVED/CLOSED keeps an existing closedDate, matching CaseMapper.updateEntityFromRequest
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update Case c set c.status = :status, c.lastModified = :now, c.changeSeq = :changeSeq,"
+        + " c.closedDate = coalesce(c.closedDate, :now) where c.id in :ids and c.status <> :status")
+    int transitionToTerminal(@Param("ids") Collection<Long> ids, @Param("status") CaseStatus status,
+                             @Param("now") LocalDateTime now, @Param("changeSeq") long changeSeq);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update Case c set c.status = :status, c.lastModified = :now, c.changeSeq = :changeSeq,"
+        + " c.closedDate = null where c.id in :ids and c.status <> :status")
+    int transitionToOpen(@Param("ids") Collection<Long> ids, @Param("status") CaseStatus status,
+                         @Param("now") LocalDateTime now, @Param("changeSeq") long changeSeq);
+
+    // A single statement whose row count tells the caller whether the case existed
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("delete from Case c where c.id = :id")
+    int deleteCaseById(@Param("id") Long id);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("delete from Case c where c.id in :ids")
+    int deleteCasesByIds(@Param("ids") Collection<Long> ids);
 }
@@ -0,0 +1,24 @@
+package uk.gov.hmcts.reform.dev.repositories;
+
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import uk.gov.hmcts.reform.dev.models.Case;
+
+import java.util.List;
+import java.util.Map;
+
+public interface CaseRepositoryCustom {
+
+    /**
+     * Ids of cases matching the specification with an id above {@code afterId}, in id order, without
+     * loading the entities. Used to walk large result sets in keyset chunks for bulk statements.
+     */
+    List<Long> findIdsMatching(Specification<Case> specification, long afterId, int limit);
+
+    /**
+     * Only the named attributes of matching cases, one map per case keyed in {@code fields} order. The
+     * select list is built from {@code fields}, so other columns are never read. {@code limit} may be null.
+     */
+    List<Map<String, Object>> findFieldsMatching(Specification<Case> specification, Sort sort, Integer limit,
+                                                 List<String> fields);
+}
@@ -0,0 +1,70 @@
+package uk.gov.hmcts.reform.dev.repositories;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.TypedQuery;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Selection;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+import uk.gov.hmcts.reform.dev.models.Case;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+public class CaseRepositoryCustomImpl implements CaseRepositoryCustom {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public List<Long> findIdsMatching(Specification<Case> specification, long afterId, int limit) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Long> query = cb.createQuery(Long.class);
+        Root<Case> root = query.from(Case.class);
+
+        Predicate afterIdPredicate = cb.greaterThan(root.get("id"), afterId);
+        Predicate matching = specification.toPredicate(root, query, cb);
+        query.select(root.get("id"))
+            .where(matching == null ? afterIdPredicate : cb.and(matching, afterIdPredicate))
+            .orderBy(cb.asc(root.get("id")));
+
+        return entityManager.createQuery(query).setMaxResults(limit).getResultList();
+    }
+
+    @Override
+    public List<Map<String, Object>> findFieldsMatching(Specification<Case> specification, Sort sort,
+                                                        Integer limit, List<String> fields) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Tuple> query = cb.createTupleQuery();
+        Root<Case> root = query.from(Case.class);
+
+        List<Selection<?>> selections = fields.stream()
+            .<Selection<?>>map(field -> root.get(field).alias(field))
+            .toList();
+        query.multiselect(selections);
+        Predicate matching = specification.toPredicate(root, query, cb);
+        if (matching != null) {
+            query.where(matching);
+        }
+        query.orderBy(QueryUtils.toOrders(sort, root, cb));
+
+        TypedQuery<Tuple> typedQuery = entityManager.createQuery(query);
+        if (limit != null) {
+            typedQuery.setMaxResults(limit);
+        }
+        return typedQuery.getResultList().stream()
+            .map(tuple -> {
+                Map<String, Object> row = new LinkedHashMap<>();
+                fields.forEach(field -> row.put(field, tuple.get(field)));
+                return row;
+            })
+            .toList();
+    }
+}
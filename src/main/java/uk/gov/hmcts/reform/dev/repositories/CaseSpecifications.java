@@ -0,0 +1,118 @@
+package uk.gov.hmcts.reform.dev.repositories;
+
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import uk.gov.hmcts.reform.dev.dto.CaseSearchCriteria;
+import uk.gov.hmcts.reform.dev.enums.CaseStatus;
+import uk.gov.hmcts.reform.dev.models.Case;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+public final class CaseSpecifications {
+
+    private static final Set<String> SORTABLE_FIELDS = Set.of("id", "caseNumber", "title", "status", "createdDate");
+    private static final Sort DEFAULT_SORT = Sort.by(Sort.Direction.DESC, "createdDate");
+
+    // Properties of CaseResponse, which are also Case attributes of the same name
+    private static final List<String> SELECTABLE_FIELDS =
+        List.of("id", "caseNumber", "title", "description", "status", "createdDate");
+
+    private CaseSpecifications() {
+        // Private constructor to prevent instantiation
+    }
+
+    public static Specification<Case> matching(CaseSearchCriteria criteria) {
+        List<Specification<Case>> specifications = new ArrayList<>();
+        if (criteria.getStatus() != null && !criteria.getStatus().isEmpty()) {
+            specifications.add(hasStatusIn(criteria.getStatus()));
+        }
+        if (criteria.getCreatedFrom() != null) {
+            specifications.add(createdOnOrAfter(criteria.getCreatedFrom()));
+        }
+        if (criteria.getCreatedTo() != null) {
+            specifications.add(createdBefore(criteria.getCreatedTo()));
+        }
+        if (criteria.getCaseNumberPrefix() != null) {
+            specifications.add(caseNumberStartsWith(criteria.getCaseNumberPrefix()));
+        }
+        return Specification.allOf(specifications);
+    }
+
+    public static Specification<Case> hasStatusIn(Collection<CaseStatus> statuses) {
+        return (root, query, cb) -> root.get("status").in(statuses);
+    }
+
+    public static Specification<Case> createdOnOrAfter(LocalDateTime from) {
+        return (root, query, cb) -> cb.greaterThanOrEqualTo(root.get("createdDate"), from);
+    }
+
+    public static Specification<Case> createdBefore(LocalDateTime to) {
+        return (root, query, cb) -> cb.lessThan(root.get("createdDate"), to);
+    }
+
+    public static Specification<Case> hasStatusOtherThan(CaseStatus status) {
+        return (root, query, cb) -> cb.notEqual(root.get("status"), status);
+    }
+
+    public static Specification<Case> hasIdIn(Collection<Long> ids) {
+        return (root, query, cb) -> root.get("id").in(ids);
+    }
+
+    // Cases written before lastModified existed count from their creation
+    public static Specification<Case> notModifiedSince(LocalDateTime cutoff) {
+        return (root, query, cb) -> cb.lessThan(
+            cb.coalesce(root.<LocalDateTime>get("lastModified"), root.<LocalDateTime>get("createdDate")), cutoff);
+    }
+
+    // Prefix is validated as [A-Z0-9]+ so there are no LIKE wildcards to escape
+    public static Specification<Case> caseNumberStartsWith(String prefix) {
+        return (root, query, cb) -> cb.like(root.get("caseNumber"), prefix + "%");
+    }
+
+    /**
+     * Builds a sort from fields such as {@code -createdDate} (descending) or {@code caseNumber}.
+     * The id is always appended so ties come back in a stable order.
+     */
+    public static Sort toSort(List<String> fields) {
+        Sort sort = Sort.unsorted();
+        if (fields != null) {
+            for (String field : fields) {
+                boolean descending = field.startsWith("-");
+                String property = descending ? field.substring(1) : field;
+                if (!SORTABLE_FIELDS.contains(property)) {
+                    throw new IllegalArgumentException("Cannot sort by '" + property + "', expected one of "
+                                                           + SORTABLE_FIELDS);
+                }
+                sort = sort.and(Sort.by(descending ? Sort.Direction.DESC : Sort.Direction.ASC, property));
+            }
+        }
+        if (sort.isUnsorted()) {
+            sort = DEFAULT_SORT;
+        }
+        return sort.getOrderFor("id") == null ? sort.and(Sort.by(Sort.Direction.DESC, "id")) : sort;
+    }
+
+    /**
+     * Validates a {@code fields=} selection, dropping repeats but keeping the order asked for.
+     */
+    public static List<String> toFields(List<String> fields) {
+        Set<String> selected = new LinkedHashSet<>();
+        for (String field : fields) {
+            String property = field.trim();
+            if (!SELECTABLE_FIELDS.contains(property)) {
+                throw new IllegalArgumentException("Cannot select '" + property + "', expected one of "
+                                                       + SELECTABLE_FIELDS);
+            }
+            selected.add(property);
+        }
+        if (selected.isEmpty()) {
+            throw new IllegalArgumentException("fields must name at least one of " + SELECTABLE_FIELDS);
+        }
+        return List.copyOf(selected);
+    }
+}
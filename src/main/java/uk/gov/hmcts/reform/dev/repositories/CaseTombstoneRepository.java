@@ -0,0 +1,18 @@
+package uk.gov.hmcts.reform.dev.repositories;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import uk.gov.hmcts.reform.dev.models.CaseTombstone;
+
+import java.util.List;
+
+public interface CaseTombstoneRepository extends JpaRepository<CaseTombstone, Long> {
+
+    @Query("select t from CaseTombstone t where t.changeSeq > :changeSeq"
+        + " or (t.changeSeq = :changeSeq and t.id > :afterId) order by t.changeSeq, t.id")
+    List<CaseTombstone> findChangedSince(@Param("changeSeq") long changeSeq,
+                                         @Param("afterId") long afterId,
+                                         Pageable pageable);
+}
@@ -0,0 +1,14 @@
+package uk.gov.hmcts.reform.dev.repositories;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import uk.gov.hmcts.reform.dev.models.WebhookDelivery;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface WebhookDeliveryRepository extends JpaRepository<WebhookDelivery, Long> {
+
+    List<WebhookDelivery> findByDeadLetteredFalseAndNextAttemptDateLessThanEqualOrderByIdAsc(
+        LocalDateTime now, Pageable pageable);
+}
@@ -0,0 +1,14 @@
+package uk.gov.hmcts.reform.dev.repositories;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import uk.gov.hmcts.reform.dev.models.WebhookSubscription;
+
+import java.util.List;
+import java.util.Optional;
+
+public interface WebhookSubscriptionRepository extends JpaRepository<WebhookSubscription, Long> {
+
+    List<WebhookSubscription> findByActiveTrue();
+
+    Optional<WebhookSubscription> findByUrl(String url);
+}
@@ -10,6 +10,11 @@ import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
 import org.springframework.web.filter.OncePerRequestFilter;
+import uk.gov.hmcts.reform.dev.diagnostics.HotKeyTracker;
+import uk.gov.hmcts.reform.dev.diagnostics.JwtAuthenticationEvent;
+import uk.gov.hmcts.reform.dev.tracing.Span;
+import uk.gov.hmcts.reform.dev.tracing.SpanKind;
+import uk.gov.hmcts.reform.dev.tracing.Tracer;
 
 import java.io.IOException;
 
@@ -17,10 +22,15 @@ public class JwtAuthFilter extends OncePerRequestFilter {
 
     private final JwtUtil jwtUtil;
     private final UserDetailsService userDetailsService;
+    private final Tracer tracer;
+    private final HotKeyTracker hotKeyTracker;
 
-    public JwtAuthFilter(JwtUtil jwtUtil, UserDetailsService userDetailsService) {
+    public JwtAuthFilter(JwtUtil jwtUtil, UserDetailsService userDetailsService, Tracer tracer,
+                         HotKeyTracker hotKeyTracker) {
         this.jwtUtil = jwtUtil;
         this.userDetailsService = userDetailsService;
+        this.tracer = tracer;
+        this.hotKeyTracker = hotKeyTracker;
     }
 
     @Override
@@ -31,20 +41,40 @@ public class JwtAuthFilter extends OncePerRequestFilter {
 
         String username = null;
         String jwt = null;
+        long parseNanos = 0;
 
         if (authHeader != null && authHeader.startsWith("Bearer ")) {
             jwt = authHeader.substring(7);
+            long parseStart = System.nanoTime();
             username = jwtUtil.extractUsername(jwt);
+            parseNanos = System.nanoTime() - parseStart;
         }
 
         if (username != null && SecurityContextHolder.getContext().getAuthentication() == null) {
-            UserDetails userDetails = this.userDetailsService.loadUserByUsername(username);
+            JwtAuthenticationEvent event = new JwtAuthenticationEvent();
+            event.begin();
+            Span span = tracer.startSpan("JwtAuthFilter.authenticate", SpanKind.INTERNAL);
+            try {
+                UserDetails userDetails = this.userDetailsService.loadUserByUsername(username);
 
-            if (jwtUtil.validateToken(jwt, userDetails)) {
-                UsernamePasswordAuthenticationToken authToken = new UsernamePasswordAuthenticationToken(
-                    userDetails, null, userDetails.getAuthorities());
-                authToken.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
-                SecurityContextHolder.getContext().setAuthentication(authToken);
+                long validateStart = System.nanoTime();
+                boolean valid = jwtUtil.validateToken(jwt, userDetails);
+                parseNanos += System.nanoTime() - validateStart;
+                if (valid) {
+                    UsernamePasswordAuthenticationToken authToken = new UsernamePasswordAuthenticationToken(
+                        userDetails, null, userDetails.getAuthorities());
+                    authToken.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
+                    SecurityContextHolder.getContext().setAuthentication(authToken);
+                    hotKeyTracker.recordCaller(username);
+                }
+                event.setAuthenticated(valid);
+            } catch (RuntimeException e) {
+                span.recordError(e);
+                throw e;
+            } finally {
+                span.end();
+                event.setTokenParseNanos(parseNanos);
+                event.commit();
             }
         }
         chain.doFilter(request, response);
@@ -12,6 +12,8 @@ import org.springframework.security.config.http.SessionCreationPolicy;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
+import uk.gov.hmcts.reform.dev.diagnostics.HotKeyTracker;
+import uk.gov.hmcts.reform.dev.tracing.Tracer;
 
 @Configuration
 @EnableWebSecurity
@@ -20,15 +22,20 @@ public class SecurityConfig {
 
     private final JwtUtil jwtUtil;
     private final UserDetailsService userDetailsService;
+    private final Tracer tracer;
+    private final HotKeyTracker hotKeyTracker;
 
-    public SecurityConfig(JwtUtil jwtUtil, @Lazy UserDetailsService userDetailsService) {
+    public SecurityConfig(JwtUtil jwtUtil, @Lazy UserDetailsService userDetailsService, Tracer tracer,
+                          HotKeyTracker hotKeyTracker) {
         this.jwtUtil = jwtUtil;
         this.userDetailsService = userDetailsService;
+        this.tracer = tracer;
+        this.hotKeyTracker = hotKeyTracker;
     }
 
     @Bean
     public JwtAuthFilter jwtAuthFilter() {
-        return new JwtAuthFilter(jwtUtil, userDetailsService);
+        return new JwtAuthFilter(jwtUtil, userDetailsService, tracer, hotKeyTracker);
     }
 
     @Bean
@@ -38,6 +45,7 @@ public class SecurityConfig {
             .authorizeHttpRequests(auth -> auth
                 .requestMatchers("/auth/**", "/swagger-ui/**", "/v3/api-docs/**").permitAll()
                 .requestMatchers("/cases/**").authenticated()
+                .requestMatchers("/metrics/**", "/jfr/**", "/hotkeys/**", "/startuptimeline/**").hasRole("ADMIN")
                 .anyRequest().authenticated()
             )
             .sessionManagement(session ->
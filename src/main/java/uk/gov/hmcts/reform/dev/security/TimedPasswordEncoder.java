@@ -0,0 +1,49 @@
+package uk.gov.hmcts.reform.dev.security;
+
+import org.springframework.security.crypto.password.PasswordEncoder;
+import uk.gov.hmcts.reform.dev.diagnostics.PasswordHashEvent;
+
+/**
+ * Emits a {@link PasswordHashEvent} around each hash so BCrypt cost on signup and login is visible in JFR
+ * recordings.
+ */
+public class TimedPasswordEncoder implements PasswordEncoder {
+
+    private final PasswordEncoder delegate;
+
+    public TimedPasswordEncoder(PasswordEncoder delegate) {
+        this.delegate = delegate;
+    }
+
+    @Override
+    public String encode(CharSequence rawPassword) {
+        PasswordHashEvent event = new PasswordHashEvent();
+        event.begin();
+        try {
+            return delegate.encode(rawPassword);
+        } finally {
+            event.setOperation("encode");
+            event.commit();
+        }
+    }
+
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        PasswordHashEvent event = new PasswordHashEvent();
+        event.begin();
+        boolean matched = false;
+        try {
+            matched = delegate.matches(rawPassword, encodedPassword);
+            return matched;
+        } finally {
+            event.setOperation("matches");
+            event.setMatched(matched);
+            event.commit();
+        }
+    }
+
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        return delegate.upgradeEncoding(encodedPassword);
+    }
+}
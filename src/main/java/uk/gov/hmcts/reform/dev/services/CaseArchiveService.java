@@ -0,0 +1,147 @@
+package uk.gov.hmcts.reform.dev.services;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+import uk.gov.hmcts.reform.dev.enums.CaseStatus;
+import uk.gov.hmcts.reform.dev.events.CasesArchivedEvent;
+import uk.gov.hmcts.reform.dev.models.ArchiveCheckpoint;
+import uk.gov.hmcts.reform.dev.models.Case;
+import uk.gov.hmcts.reform.dev.repositories.ArchiveCheckpointRepository;
+import uk.gov.hmcts.reform.dev.repositories.CaseArchiveRepository;
+import uk.gov.hmcts.reform.dev.repositories.CaseRepository;
+import uk.gov.hmcts.reform.dev.utils.CaseMapper;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Moves cases that have been RESOLVED or CLOSED for longer than {@code cases.archive.min-age} from
+ * {@code legal_case} into {@code legal_case_archive}.
+ *
+ * <p>Each chunk is copied, deleted and checkpointed in its own transaction, so an interrupted run
+ * loses nothing and the next run carries on from the last committed chunk.
+ *
+ * <p>Archived cases are tombstoned in the change feed like deletions, since delta sync only reflects
+ * {@code legal_case}; clients that still need them can read them by id.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class CaseArchiveService {
+
+    static final String JOB_NAME = "closed-case-archival";
+
+    private static final List<CaseStatus> TERMINAL_STATUSES = Arrays.stream(CaseStatus.values())
+        .filter(CaseStatus::isTerminal)
+        .toList();
+
+    private final CaseRepository caseRepository;
+    private final CaseArchiveRepository caseArchiveRepository;
+    private final ArchiveCheckpointRepository checkpointRepository;
+    private final CaseChangeTracker caseChangeTracker;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+
+    private final AtomicBoolean running = new AtomicBoolean();
+
+    @Value("${cases.archive.enabled:true}")
+    private boolean enabled;
+
+    @Value("${cases.archive.min-age:90d}")
+    private Duration minAge;
+
+    @Value("${cases.archive.chunk-size:500}")
+    private int chunkSize;
+
+    @Value("${cases.archive.pause-between-chunks:200ms}")
+    private Duration pauseBetweenChunks;
+
+    @Scheduled(cron = "${cases.archive.cron:0 0 2 * * *}")
+    public void archiveClosedCases() {
+        if (!enabled) {
+            return;
+        }
+        if (!running.compareAndSet(false, true)) {
+            log.warn("Case archival is already running, skipping this trigger");
+            return;
+        }
+        try {
+            int total = archiveAll(LocalDateTime.now().minus(minAge));
+            log.info("Case archival finished, archived {} cases", total);
+        } finally {
+            running.set(false);
+        }
+    }
+
+    int archiveAll(LocalDateTime cutoff) {
+        log.info("Archiving cases closed before {}", cutoff);
+        int total = 0;
+        int archived;
+        do {
+            archived = archiveChunk(cutoff);
+            total += archived;
+            if (archived > 0 && !pause()) {
+                log.warn("Case archival interrupted after {} cases", total);
+                break;
+            }
+        } while (archived > 0);
+        return total;
+    }
+
+    /**
+     * Archives the next chunk after the checkpoint. Returns the number of cases moved, 0 once the
+     * pass is complete, at which point the checkpoint is reset for the next run.
+     */
+    int archiveChunk(LocalDateTime cutoff) {
+        Integer archived = transactionTemplate.execute(status -> {
+            ArchiveCheckpoint checkpoint = checkpointRepository.findById(JOB_NAME)
+                .orElseGet(() -> new ArchiveCheckpoint(JOB_NAME, 0L, null));
+
+            List<Case> chunk = caseRepository.findArchivable(
+                TERMINAL_STATUSES, cutoff, checkpoint.getLastCaseId(), PageRequest.of(0, chunkSize));
+
+            LocalDateTime now = LocalDateTime.now();
+            checkpoint.setUpdatedDate(now);
+            if (chunk.isEmpty()) {
+                checkpoint.setLastCaseId(0L);
+                checkpointRepository.save(checkpoint);
+                return 0;
+            }
+
+            caseArchiveRepository.saveAll(chunk.stream().map(c -> CaseMapper.toArchive(c, now)).toList());
+            List<Long> ids = chunk.stream().map(Case::getId).toList();
+            caseRepository.deleteAllByIdInBatch(ids);
+            caseChangeTracker.recordDeletions(ids);
+            eventPublisher.publishEvent(new CasesArchivedEvent(ids));
+
+            checkpoint.setLastCaseId(chunk.get(chunk.size() - 1).getId());
+            checkpointRepository.save(checkpoint);
+            log.debug("Archived {} cases up to id {}", chunk.size(), checkpoint.getLastCaseId());
+            return chunk.size();
+        });
+        return archived == null ? 0 : archived;
+    }
+
+    // Throttles between chunks so archival doesn't starve request traffic of connections and I/O
+    private boolean pause() {
+        if (pauseBetweenChunks.isZero()) {
+            return true;
+        }
+        try {
+            Thread.sleep(pauseBetweenChunks.toMillis());
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+}
@@ -0,0 +1,146 @@
+package uk.gov.hmcts.reform.dev.services;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+import uk.gov.hmcts.reform.dev.dto.BulkOperationResponse;
+import uk.gov.hmcts.reform.dev.dto.CaseSearchCriteria;
+import uk.gov.hmcts.reform.dev.dto.StatusTransitionRequest;
+import uk.gov.hmcts.reform.dev.enums.CaseStatus;
+import uk.gov.hmcts.reform.dev.events.CaseBulkChangeEvent;
+import uk.gov.hmcts.reform.dev.events.CaseChangedEvent;
+import uk.gov.hmcts.reform.dev.models.Case;
+import uk.gov.hmcts.reform.dev.repositories.CaseRepository;
+import uk.gov.hmcts.reform.dev.repositories.CaseSpecifications;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Set-based changes to many cases at once. Matching ids are walked in keyset chunks and each chunk is
+ * changed by a single statement in its own transaction, so no entities are loaded and locks stay short.
+ * Each chunk takes one change sequence number and publishes one {@link CaseBulkChangeEvent}.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class CaseBulkService {
+
+    static final int CHUNK_SIZE = 500;
+    static final int MAX_IDS = 10000;
+
+    private final CaseRepository caseRepository;
+    private final CaseChangeTracker caseChangeTracker;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
+
+    public BulkOperationResponse transitionStatus(StatusTransitionRequest request) {
+        boolean hasStatusFilter = request.getCurrentStatus() != null && !request.getCurrentStatus().isEmpty();
+        boolean hasIdFilter = request.getIds() != null && !request.getIds().isEmpty();
+        if (!hasStatusFilter && !hasIdFilter) {
+            throw new IllegalArgumentException("Either currentStatus or ids is required");
+        }
+        if (hasIdFilter && request.getIds().size() > MAX_IDS) {
+            throw new IllegalArgumentException("ids must not contain more than " + MAX_IDS + " entries");
+        }
+
+        CaseStatus target = request.getTargetStatus();
+        List<Specification<Case>> filters = new ArrayList<>();
+        // Rows already in the target status never match, so the walk cannot revisit a chunk it has moved
+        filters.add(CaseSpecifications.hasStatusOtherThan(target));
+        if (hasStatusFilter) {
+            filters.add(CaseSpecifications.hasStatusIn(request.getCurrentStatus()));
+        }
+        if (hasIdFilter) {
+            filters.add(CaseSpecifications.hasIdIn(request.getIds()));
+        }
+        if (request.getNotModifiedForDays() != null) {
+            filters.add(CaseSpecifications.notModifiedSince(
+                LocalDateTime.now().minusDays(request.getNotModifiedForDays())));
+        }
+        Specification<Case> specification = Specification.allOf(filters);
+        String actor = CaseService.currentActor();
+
+        log.info("Moving cases to {} matching {}", target, request);
+        long total = 0;
+        long afterId = 0;
+        while (true) {
+            long lastId = afterId;
+            ChunkResult chunk = transactionTemplate.execute(status -> {
+                List<Long> ids = caseRepository.findIdsMatching(specification, lastId, CHUNK_SIZE);
+                if (ids.isEmpty()) {
+                    return null;
+                }
+                long changeSeq = caseChangeTracker.nextChangeSeq();
+                LocalDateTime now = LocalDateTime.now();
+                int updated = target.isTerminal()
+                    ? caseRepository.transitionToTerminal(ids, target, now, changeSeq)
+                    : caseRepository.transitionToOpen(ids, target, now, changeSeq);
+                eventPublisher.publishEvent(
+                    new CaseBulkChangeEvent(CaseChangedEvent.Type.UPDATED, ids, target, actor));
+                return new ChunkResult(ids.get(ids.size() - 1), updated);
+            });
+            if (chunk == null) {
+                break;
+            }
+            total += chunk.affected();
+            afterId = chunk.lastId();
+        }
+        log.info("Moved {} cases to {}", total, target);
+        return BulkOperationResponse.builder().affectedCount(total).build();
+    }
+
+    /**
+     * Deletes every case matching both the id list and the criteria filters, whichever are given.
+     */
+    public BulkOperationResponse deleteCases(List<Long> ids, CaseSearchCriteria criteria) {
+        boolean hasIdFilter = ids != null && !ids.isEmpty();
+        if (criteria.getSort() != null || criteria.getLimit() != null) {
+            throw new IllegalArgumentException("sort and limit are not supported when deleting cases");
+        }
+        if (!hasIdFilter && criteria.isUnfiltered()) {
+            throw new IllegalArgumentException("Either ids or a filter is required");
+        }
+        if (hasIdFilter && ids.size() > MAX_IDS) {
+            throw new IllegalArgumentException("ids must not contain more than " + MAX_IDS + " entries");
+        }
+        Specification<Case> specification = CaseSpecifications.matching(criteria);
+        if (hasIdFilter) {
+            specification = specification.and(CaseSpecifications.hasIdIn(ids));
+        }
+        Specification<Case> matching = specification;
+        String actor = CaseService.currentActor();
+
+        log.info("Deleting cases matching ids {} and {}", ids, criteria);
+        long total = 0;
+        long afterId = 0;
+        while (true) {
+            long lastId = afterId;
+            ChunkResult chunk = transactionTemplate.execute(status -> {
+                List<Long> chunkIds = caseRepository.findIdsMatching(matching, lastId, CHUNK_SIZE);
+                if (chunkIds.isEmpty()) {
+                    return null;
+                }
+                int deleted = caseRepository.deleteCasesByIds(chunkIds);
+                caseChangeTracker.recordDeletions(chunkIds);
+                eventPublisher.publishEvent(
+                    new CaseBulkChangeEvent(CaseChangedEvent.Type.DELETED, chunkIds, null, actor));
+                return new ChunkResult(chunkIds.get(chunkIds.size() - 1), deleted);
+            });
+            if (chunk == null) {
+                break;
+            }
+            total += chunk.affected();
+            afterId = chunk.lastId();
+        }
+        log.info("Deleted {} cases", total);
+        return BulkOperationResponse.builder().affectedCount(total).build();
+    }
+
+    private record ChunkResult(long lastId, int affected) {
+    }
+}
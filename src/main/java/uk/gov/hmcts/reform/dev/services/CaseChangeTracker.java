@@ -0,0 +1,127 @@
+package uk.gov.hmcts.reform.dev.services;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import uk.gov.hmcts.reform.dev.models.Case;
+import uk.gov.hmcts.reform.dev.models.CaseTombstone;
+import uk.gov.hmcts.reform.dev.models.ChangeSequence;
+import uk.gov.hmcts.reform.dev.repositories.CaseRepository;
+import uk.gov.hmcts.reform.dev.repositories.CaseTombstoneRepository;
+import uk.gov.hmcts.reform.dev.repositories.ChangeSequenceRepository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Collection;
+
+/**
+ * Hands out change sequence numbers for delta sync.
+ *
+ * <p>The counter row stays locked until the writing transaction commits, so sequence numbers
+ * become visible in the order they were issued. Without that, a client could sync past a number
+ * whose transaction had not committed yet and never see that change.
+ *
+ * <p>The counter row is seeded in a transaction of its own, at startup or on the first write that finds
+ * it missing. Concurrent first writes then race only on that insert, and the loser's case write is not
+ * rolled back by the primary key violation.
+ */
+@Component
+@Slf4j
+public class CaseChangeTracker {
+
+    static final String SEQUENCE_NAME = "legal_case";
+
+    private static final String INSERT_SEQUENCE_SQL =
+        "insert into case_change_sequence (name, current_value) values (?, 0)";
+    private static final String INSERT_TOMBSTONE_SQL =
+        "insert into legal_case_tombstone (case_id, change_seq, deleted_date) values (?, ?, ?)";
+    private static final int BATCH_SIZE = 500;
+
+    private final ChangeSequenceRepository changeSequenceRepository;
+    private final CaseTombstoneRepository caseTombstoneRepository;
+    private final CaseRepository caseRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate seedTransaction;
+
+    public CaseChangeTracker(ChangeSequenceRepository changeSequenceRepository,
+                             CaseTombstoneRepository caseTombstoneRepository,
+                             CaseRepository caseRepository,
+                             JdbcTemplate jdbcTemplate,
+                             PlatformTransactionManager transactionManager) {
+        this.changeSequenceRepository = changeSequenceRepository;
+        this.caseTombstoneRepository = caseTombstoneRepository;
+        this.caseRepository = caseRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.seedTransaction = new TransactionTemplate(transactionManager);
+        this.seedTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public long nextChangeSeq() {
+        ChangeSequence sequence = changeSequenceRepository.findForUpdate(SEQUENCE_NAME)
+            .orElseGet(() -> {
+                seedChangeSequence();
+                return changeSequenceRepository.findForUpdate(SEQUENCE_NAME)
+                    .orElseThrow(() -> new IllegalStateException("Change sequence " + SEQUENCE_NAME + " is missing"));
+            });
+        sequence.setCurrentValue(sequence.getCurrentValue() + 1);
+        return sequence.getCurrentValue();
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void seedChangeSequence() {
+        try {
+            seedTransaction.executeWithoutResult(status -> {
+                if (changeSequenceRepository.existsById(SEQUENCE_NAME)) {
+                    return;
+                }
+                jdbcTemplate.update(INSERT_SEQUENCE_SQL, SEQUENCE_NAME);
+                log.info("Seeded change sequence {}", SEQUENCE_NAME);
+            });
+        } catch (DataIntegrityViolationException e) {
+            // Another instance or request seeded it first, which is all we needed
+            log.debug("Change sequence {} was seeded concurrently", SEQUENCE_NAME);
+        }
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void markChanged(Case caseEntity) {
+        caseEntity.setChangeSeq(nextChangeSeq());
+        caseEntity.setLastModified(LocalDateTime.now());
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void recordDeletion(Long caseId) {
+        caseTombstoneRepository.save(new CaseTombstone(null, caseId, nextChangeSeq(), LocalDateTime.now()));
+    }
+
+    // Bulk deletes share one sequence number, as the delta sync token orders ties by tombstone id
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void recordDeletions(Collection<Long> caseIds) {
+        long changeSeq = nextChangeSeq();
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        jdbcTemplate.batchUpdate(INSERT_TOMBSTONE_SQL, caseIds, BATCH_SIZE, (ps, caseId) -> {
+            ps.setLong(1, caseId);
+            ps.setLong(2, changeSeq);
+            ps.setTimestamp(3, now);
+        });
+    }
+
+    // Cases written before change tracking existed start at sequence 0 so a full sync includes them
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional
+    public void backfillUntrackedCases() {
+        int updated = caseRepository.backfillChangeSeq();
+        if (updated > 0) {
+            log.info("Backfilled change sequence for {} cases", updated);
+        }
+    }
+}
@@ -0,0 +1,202 @@
+package uk.gov.hmcts.reform.dev.services;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import uk.gov.hmcts.reform.dev.dto.CaseEventResponse;
+import uk.gov.hmcts.reform.dev.events.CaseBulkChangeEvent;
+import uk.gov.hmcts.reform.dev.events.CaseChangedEvent;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Pushes committed case changes to SSE subscribers of {@code GET /cases/events}.
+ *
+ * <p>Idle subscribers hold no thread, only an async request. Each one has a bounded queue drained by
+ * a small shared pool; a subscriber whose queue fills up is disconnected and can resume with
+ * {@code Last-Event-ID} from the in-memory replay buffer. Events reach each subscriber in id order,
+ * replayed ones first, and a {@value #RESET_EVENT} event replaces the replay when the buffer no longer
+ * reaches back to the requested id.
+ */
+@Service
+@Slf4j
+public class CaseEventStreamService {
+
+    static final String RESET_EVENT = "reset";
+
+    private final long emitterTimeoutMillis;
+    private final int subscriberQueueSize;
+
+    private final Set<Subscriber> subscribers = ConcurrentHashMap.newKeySet();
+    private final ExecutorService deliveryPool;
+
+    // Ring buffer of recent events for Last-Event-ID resume, guarded by this
+    private final StreamedEvent[] replayBuffer;
+    private long lastEventId;
+
+    public CaseEventStreamService(@Value("${cases.events.timeout-ms:1800000}") long emitterTimeoutMillis,
+                                  @Value("${cases.events.subscriber-queue-size:256}") int subscriberQueueSize,
+                                  @Value("${cases.events.replay-size:1024}") int replaySize,
+                                  @Value("${cases.events.delivery-threads:4}") int deliveryThreads) {
+        this.emitterTimeoutMillis = emitterTimeoutMillis;
+        this.subscriberQueueSize = subscriberQueueSize;
+        this.replayBuffer = new StreamedEvent[replaySize];
+        this.deliveryPool = Executors.newFixedThreadPool(deliveryThreads, runnable -> {
+            Thread thread = new Thread(runnable, "case-events");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    public SseEmitter subscribe(Long lastSeenEventId) {
+        return subscribe(lastSeenEventId, new SseEmitter(emitterTimeoutMillis));
+    }
+
+    /**
+     * Streams to the given emitter, first replaying what came after {@code lastSeenEventId} if given.
+     */
+    public SseEmitter subscribe(Long lastSeenEventId, SseEmitter emitter) {
+        Subscriber subscriber;
+        // Replay is queued and the subscriber registered under the publish lock, so every live event is
+        // queued after the replayed ones and none is missed or sent twice
+        synchronized (this) {
+            List<SseEmitter.SseEventBuilder> replay = lastSeenEventId == null ? List.of() : replay(lastSeenEventId);
+            // Room for the whole replay on top of the usual headroom for live events
+            subscriber = new Subscriber(emitter, subscriberQueueSize + replay.size());
+            replay.forEach(event -> enqueue(subscriber, event));
+            subscribers.add(subscriber);
+        }
+        emitter.onCompletion(() -> subscribers.remove(subscriber));
+        emitter.onTimeout(() -> subscribers.remove(subscriber));
+        emitter.onError(e -> subscribers.remove(subscriber));
+        log.debug("SSE subscriber added, {} active", subscribers.size());
+        return emitter;
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onCaseChanged(CaseChangedEvent event) {
+        publish(CaseEventResponse.builder()
+            .type(event.getType())
+            .caseId(event.getCaseId())
+            .caseDetails(event.getCurrent())
+            .build());
+    }
+
+    // Bulk changes do not load the rows, so each event carries only the id and clients refetch the case
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onCaseBulkChanged(CaseBulkChangeEvent event) {
+        for (Long caseId : event.getCaseIds()) {
+            publish(CaseEventResponse.builder().type(event.getType()).caseId(caseId).build());
+        }
+    }
+
+    // Queueing is non-blocking, so fanning out under the lock is cheap and keeps every queue in id order
+    private synchronized void publish(CaseEventResponse payload) {
+        StreamedEvent streamed = new StreamedEvent(++lastEventId, payload);
+        replayBuffer[(int) (streamed.id() % replayBuffer.length)] = streamed;
+        subscribers.forEach(subscriber -> enqueue(subscriber, toSse(streamed)));
+    }
+
+    @Scheduled(fixedRateString = "${cases.events.heartbeat-interval-ms:15000}")
+    public void sendHeartbeats() {
+        subscribers.forEach(subscriber -> enqueue(subscriber, SseEmitter.event().comment("heartbeat")));
+    }
+
+    public int getSubscriberCount() {
+        return subscribers.size();
+    }
+
+    @PreDestroy
+    void shutdown() {
+        subscribers.forEach(subscriber -> subscriber.emitter.complete());
+        subscribers.clear();
+        deliveryPool.shutdownNow();
+    }
+
+    synchronized List<StreamedEvent> eventsAfter(long eventId) {
+        List<StreamedEvent> events = new ArrayList<>();
+        long oldestRetained = Math.max(1, lastEventId - replayBuffer.length + 1);
+        for (long id = Math.max(eventId + 1, oldestRetained); id <= lastEventId; id++) {
+            events.add(replayBuffer[(int) (id % replayBuffer.length)]);
+        }
+        return events;
+    }
+
+    synchronized boolean canResumeFrom(long eventId) {
+        return eventId >= lastEventId - replayBuffer.length && eventId <= lastEventId;
+    }
+
+    private List<SseEmitter.SseEventBuilder> replay(long lastSeenEventId) {
+        if (!canResumeFrom(lastSeenEventId)) {
+            // Too far behind (or from before a restart): tell the client to reload the full list
+            return List.of(SseEmitter.event().name(RESET_EVENT).data("{}", MediaType.APPLICATION_JSON));
+        }
+        return eventsAfter(lastSeenEventId).stream().map(this::toSse).toList();
+    }
+
+    private SseEmitter.SseEventBuilder toSse(StreamedEvent event) {
+        return SseEmitter.event()
+            .id(Long.toString(event.id()))
+            .name(event.payload().getType().name().toLowerCase())
+            .data(event.payload(), MediaType.APPLICATION_JSON);
+    }
+
+    private void enqueue(Subscriber subscriber, SseEmitter.SseEventBuilder event) {
+        if (!subscriber.queue.offer(event)) {
+            log.warn("Dropping slow SSE subscriber, {} events queued", subscriber.queue.size());
+            subscribers.remove(subscriber);
+            subscriber.emitter.complete();
+            return;
+        }
+        if (subscriber.draining.compareAndSet(false, true)) {
+            deliveryPool.execute(() -> drain(subscriber));
+        }
+    }
+
+    private void drain(Subscriber subscriber) {
+        do {
+            SseEmitter.SseEventBuilder event;
+            while ((event = subscriber.queue.poll()) != null) {
+                try {
+                    subscriber.emitter.send(event);
+                } catch (IOException | IllegalStateException e) {
+                    log.debug("SSE subscriber disconnected: {}", e.getMessage());
+                    subscribers.remove(subscriber);
+                    subscriber.queue.clear();
+                    return;
+                }
+            }
+            subscriber.draining.set(false);
+            // Re-check in case something was queued after the last poll but before the flag cleared
+        } while (!subscriber.queue.isEmpty() && subscriber.draining.compareAndSet(false, true));
+    }
+
+    record StreamedEvent(long id, CaseEventResponse payload) {
+    }
+
+    private static final class Subscriber {
+        private final SseEmitter emitter;
+        private final Queue<SseEmitter.SseEventBuilder> queue;
+        private final AtomicBoolean draining = new AtomicBoolean();
+
+        private Subscriber(SseEmitter emitter, int queueSize) {
+            this.emitter = emitter;
+            this.queue = new ArrayBlockingQueue<>(queueSize);
+        }
+    }
+}
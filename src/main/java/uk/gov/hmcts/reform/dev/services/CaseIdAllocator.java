@@ -0,0 +1,57 @@
+package uk.gov.hmcts.reform.dev.services;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+
+/**
+ * Hands out case ids ahead of the insert, taking them from the {@code legal_case} identity sequence a block
+ * at a time. Ids left unused at shutdown are simply skipped, as with any sequence.
+ *
+ * <p>Only PostgreSQL is supported; on other databases {@link #isSupported()} is false and callers insert
+ * synchronously instead.
+ */
+@Component
+@Slf4j
+public class CaseIdAllocator {
+
+    private static final String BLOCK_SQL =
+        "select nextval(pg_get_serial_sequence('legal_case', 'id')) from generate_series(1, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final int blockSize;
+
+    // Guarded by this
+    private final Deque<Long> block = new ArrayDeque<>();
+    private volatile Boolean supported;
+
+    public CaseIdAllocator(JdbcTemplate jdbcTemplate,
+                           @Value("${cases.write-behind.id-block-size:100}") int blockSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.blockSize = blockSize;
+    }
+
+    public boolean isSupported() {
+        if (supported == null) {
+            String product = jdbcTemplate.execute(
+                (ConnectionCallback<String>) connection -> connection.getMetaData().getDatabaseProductName());
+            supported = "PostgreSQL".equalsIgnoreCase(product);
+            if (!supported) {
+                log.info("Case id pre-allocation is not supported on {}", product);
+            }
+        }
+        return supported;
+    }
+
+    public synchronized long next() {
+        if (block.isEmpty()) {
+            block.addAll(jdbcTemplate.queryForList(BLOCK_SQL, Long.class, blockSize));
+        }
+        return block.removeFirst();
+    }
+}
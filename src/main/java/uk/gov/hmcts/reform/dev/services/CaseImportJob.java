@@ -0,0 +1,102 @@
+package uk.gov.hmcts.reform.dev.services;
+
+import uk.gov.hmcts.reform.dev.dto.CaseImportStatusResponse;
+import uk.gov.hmcts.reform.dev.dto.ImportRowError;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Progress of one CSV import, written by the import thread and read by status requests.
+ */
+class CaseImportJob {
+
+    private final String id;
+    private final int maxErrors;
+    private final LocalDateTime submittedDate = LocalDateTime.now();
+    private final AtomicLong rowsRead = new AtomicLong();
+    private final AtomicLong imported = new AtomicLong();
+    private final AtomicLong duplicates = new AtomicLong();
+    private final AtomicLong rejected = new AtomicLong();
+    private final List<ImportRowError> errors = new ArrayList<>();
+
+    private volatile CaseImportStatusResponse.State state = CaseImportStatusResponse.State.QUEUED;
+    private volatile LocalDateTime startedDate;
+    private volatile LocalDateTime finishedDate;
+    private volatile String failureReason;
+    private boolean errorsTruncated;
+
+    CaseImportJob(String id, int maxErrors) {
+        this.id = id;
+        this.maxErrors = maxErrors;
+    }
+
+    String getId() {
+        return id;
+    }
+
+    boolean isFinished() {
+        return finishedDate != null;
+    }
+
+    void start() {
+        startedDate = LocalDateTime.now();
+        state = CaseImportStatusResponse.State.RUNNING;
+    }
+
+    void complete() {
+        finishedDate = LocalDateTime.now();
+        state = CaseImportStatusResponse.State.COMPLETED;
+    }
+
+    void fail(String reason) {
+        failureReason = reason;
+        finishedDate = LocalDateTime.now();
+        state = CaseImportStatusResponse.State.FAILED;
+    }
+
+    void rowRead() {
+        rowsRead.incrementAndGet();
+    }
+
+    void imported(int count) {
+        imported.addAndGet(count);
+    }
+
+    void duplicate(long row, String caseNumber, String message) {
+        duplicates.incrementAndGet();
+        addError(new ImportRowError(row, caseNumber, message));
+    }
+
+    void reject(long row, String caseNumber, String message) {
+        rejected.incrementAndGet();
+        addError(new ImportRowError(row, caseNumber, message));
+    }
+
+    private synchronized void addError(ImportRowError error) {
+        if (errors.size() < maxErrors) {
+            errors.add(error);
+        } else {
+            errorsTruncated = true;
+        }
+    }
+
+    synchronized CaseImportStatusResponse toResponse() {
+        return CaseImportStatusResponse.builder()
+            .jobId(id)
+            .state(state)
+            .submittedDate(submittedDate)
+            .startedDate(startedDate)
+            .finishedDate(finishedDate)
+            .rowsRead(rowsRead.get())
+            .imported(imported.get())
+            .duplicates(duplicates.get())
+            .rejected(rejected.get())
+            .errors(List.copyOf(errors))
+            .errorsTruncated(errorsTruncated)
+            .failureReason(failureReason)
+            .build();
+    }
+}
@@ -0,0 +1,406 @@
+package uk.gov.hmcts.reform.dev.services;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.unit.DataSize;
+import uk.gov.hmcts.reform.dev.dto.CaseImportStatusResponse;
+import uk.gov.hmcts.reform.dev.dto.CaseRequest;
+import uk.gov.hmcts.reform.dev.enums.CaseStatus;
+import uk.gov.hmcts.reform.dev.events.CaseBulkChangeEvent;
+import uk.gov.hmcts.reform.dev.events.CaseChangedEvent;
+import uk.gov.hmcts.reform.dev.exceptions.ImportCapacityException;
+import uk.gov.hmcts.reform.dev.exceptions.ImportJobNotFoundException;
+import uk.gov.hmcts.reform.dev.exceptions.ImportTooLargeException;
+import uk.gov.hmcts.reform.dev.repositories.CaseArchiveRepository;
+import uk.gov.hmcts.reform.dev.repositories.CaseRepository;
+import uk.gov.hmcts.reform.dev.utils.CaseRequestValidator;
+import uk.gov.hmcts.reform.dev.utils.CsvRecordReader;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Semaphore;
+import java.util.zip.GZIPInputStream;
+
+/**
+ * Bulk CSV import behind {@code POST /cases/import}.
+ *
+ * <p>The request body is copied to a spool file so the upload can finish while the job runs, then read
+ * back as a stream one batch at a time: rows are validated in parallel with the same rules as a single
+ * create, checked against live and archived case numbers with a query per table per batch and inserted
+ * with one JDBC batch. Memory use is bounded by the batch size, whatever the size of the file.
+ */
+@Service
+@Slf4j
+public class CaseImportService {
+
+    static final List<String> REQUIRED_COLUMNS = List.of("casenumber", "title", "status");
+
+    private static final String INSERT_SQL = "insert into legal_case (case_number, title, description, status,"
+        + " created_date, closed_date, last_modified, change_seq) values (?, ?, ?, ?, ?, ?, ?, ?)";
+    private static final int MAX_FIELD_LENGTH = 10000;
+
+    private final CaseRepository caseRepository;
+    private final CaseArchiveRepository caseArchiveRepository;
+    private final CaseChangeTracker caseChangeTracker;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
+    private final JdbcTemplate jdbcTemplate;
+    private final int batchSize;
+    private final int maxErrors;
+    private final long maxBytes;
+    private final int retainedJobs;
+    private final Path spoolDirectory;
+
+    private final Map<String, CaseImportJob> jobs = new ConcurrentHashMap<>();
+    private final ConcurrentLinkedQueue<String> jobOrder = new ConcurrentLinkedQueue<>();
+    private final Semaphore jobPermits;
+    private final ExecutorService importPool;
+    private final ForkJoinPool validationPool;
+
+    public CaseImportService(CaseRepository caseRepository,
+                             CaseArchiveRepository caseArchiveRepository,
+                             CaseChangeTracker caseChangeTracker,
+                             ApplicationEventPublisher eventPublisher,
+                             TransactionTemplate transactionTemplate,
+                             JdbcTemplate jdbcTemplate,
+                             @Value("${cases.import.batch-size:1000}") int batchSize,
+                             @Value("${cases.import.max-errors:1000}") int maxErrors,
+                             @Value("${cases.import.max-bytes:512MB}") DataSize maxBytes,
+                             @Value("${cases.import.concurrent-jobs:2}") int concurrentJobs,
+                             @Value("${cases.import.queued-jobs:8}") int queuedJobs,
+                             @Value("${cases.import.retained-jobs:100}") int retainedJobs,
+                             @Value("${cases.import.validation-parallelism:4}") int validationParallelism,
+                             @Value("${cases.import.spool-directory:${java.io.tmpdir}}") Path spoolDirectory) {
+        this.caseRepository = caseRepository;
+        this.caseArchiveRepository = caseArchiveRepository;
+        this.caseChangeTracker = caseChangeTracker;
+        this.eventPublisher = eventPublisher;
+        this.transactionTemplate = transactionTemplate;
+        this.jdbcTemplate = jdbcTemplate;
+        this.batchSize = batchSize;
+        this.maxErrors = maxErrors;
+        this.maxBytes = maxBytes.toBytes();
+        this.retainedJobs = retainedJobs;
+        this.spoolDirectory = spoolDirectory;
+        this.jobPermits = new Semaphore(concurrentJobs + queuedJobs);
+        this.importPool = Executors.newFixedThreadPool(concurrentJobs, runnable -> {
+            Thread thread = new Thread(runnable, "case-import");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.validationPool = new ForkJoinPool(validationParallelism);
+    }
+
+    /**
+     * Spools the body to disk and queues the import. The body may be plain or gzip compressed CSV, detected
+     * from its first bytes. Throws {@link ImportCapacityException} when too many imports are already queued,
+     * and {@link ImportTooLargeException} once the body passes {@code cases.import.max-bytes}.
+     */
+    public CaseImportStatusResponse startImport(InputStream body) throws IOException {
+        if (!jobPermits.tryAcquire()) {
+            throw new ImportCapacityException("Too many imports in progress, try again later");
+        }
+        Path spoolFile = null;
+        try {
+            spoolFile = Files.createTempFile(spoolDirectory, "case-import-", ".csv");
+            long bytes = spool(body, spoolFile);
+
+            CaseImportJob job = new CaseImportJob(UUID.randomUUID().toString(), maxErrors);
+            register(job);
+            String actor = CaseService.currentActor();
+            Path file = spoolFile;
+            importPool.execute(() -> run(job, file, actor));
+            log.info("Queued case import {} ({} bytes)", job.getId(), bytes);
+            return job.toResponse();
+        } catch (IOException | RuntimeException e) {
+            jobPermits.release();
+            if (spoolFile != null) {
+                Files.deleteIfExists(spoolFile);
+            }
+            throw e;
+        }
+    }
+
+    // Counts as it copies so an oversized upload is cut off rather than filling the spool volume
+    private long spool(InputStream body, Path spoolFile) throws IOException {
+        long total = 0;
+        byte[] buffer = new byte[64 * 1024];
+        try (OutputStream out = Files.newOutputStream(spoolFile)) {
+            int read;
+            while ((read = body.read(buffer)) != -1) {
+                total += read;
+                if (total > maxBytes) {
+                    throw new ImportTooLargeException("Import exceeds the limit of " + maxBytes + " bytes");
+                }
+                out.write(buffer, 0, read);
+            }
+        }
+        return total;
+    }
+
+    public CaseImportStatusResponse getStatus(String jobId) {
+        CaseImportJob job = jobs.get(jobId);
+        if (job == null) {
+            throw new ImportJobNotFoundException(jobId);
+        }
+        return job.toResponse();
+    }
+
+    @PreDestroy
+    void shutdown() {
+        importPool.shutdownNow();
+        validationPool.shutdownNow();
+    }
+
+    private void register(CaseImportJob job) {
+        jobs.put(job.getId(), job);
+        jobOrder.add(job.getId());
+        // Forget the oldest finished jobs; running ones are never dropped
+        for (String oldest : jobOrder) {
+            if (jobs.size() <= retainedJobs) {
+                break;
+            }
+            CaseImportJob candidate = jobs.get(oldest);
+            if (candidate == null || candidate.isFinished()) {
+                jobs.remove(oldest);
+                jobOrder.remove(oldest);
+            }
+        }
+    }
+
+    void run(CaseImportJob job, Path spoolFile, String actor) {
+        job.start();
+        log.info("Starting case import {}", job.getId());
+        try (BufferedReader reader = new BufferedReader(
+            new InputStreamReader(open(spoolFile), StandardCharsets.UTF_8), 64 * 1024)) {
+            CsvRecordReader csv = new CsvRecordReader(reader, MAX_FIELD_LENGTH);
+            Map<String, Integer> columns = readHeader(csv.next());
+
+            List<ImportRow> batch = new ArrayList<>(batchSize);
+            List<String> record;
+            while ((record = csv.next()) != null) {
+                job.rowRead();
+                batch.add(new ImportRow(csv.getRecordNumber(), toRawRow(record, columns)));
+                if (batch.size() == batchSize) {
+                    importBatch(job, batch, actor);
+                    batch = new ArrayList<>(batchSize);
+                }
+            }
+            if (!batch.isEmpty()) {
+                importBatch(job, batch, actor);
+            }
+            job.complete();
+            log.info("Finished case import {}", job.getId());
+        } catch (Exception e) {
+            log.error("Case import {} failed: {}", job.getId(), e.getMessage());
+            job.fail(e.getMessage());
+        } finally {
+            jobPermits.release();
+            try {
+                Files.deleteIfExists(spoolFile);
+            } catch (IOException e) {
+                log.warn("Could not delete import spool file {}: {}", spoolFile, e.getMessage());
+            }
+        }
+    }
+
+    private static InputStream open(Path spoolFile) throws IOException {
+        InputStream in = new BufferedInputStream(Files.newInputStream(spoolFile), 64 * 1024);
+        in.mark(2);
+        int first = in.read();
+        int second = in.read();
+        in.reset();
+        boolean gzip = first == 0x1f && second == 0x8b;
+        return gzip ? new GZIPInputStream(in, 64 * 1024) : in;
+    }
+
+    private static Map<String, Integer> readHeader(List<String> header) {
+        if (header == null) {
+            throw new IllegalArgumentException("File is empty");
+        }
+        Map<String, Integer> columns = new HashMap<>();
+        for (int i = 0; i < header.size(); i++) {
+            // Spreadsheet exports often start with a byte order mark
+            String name = i == 0 ? header.get(i).replace("\uFEFF", "") : header.get(i);
+            columns.putIfAbsent(name.trim().toLowerCase(Locale.ROOT), i);
+        }
+        for (String required : REQUIRED_COLUMNS) {
+            if (!columns.containsKey(required)) {
+                throw new IllegalArgumentException("Missing required column: " + required);
+            }
+        }
+        return columns;
+    }
+
+    private static RawRow toRawRow(List<String> record, Map<String, Integer> columns) {
+        return new RawRow(field(record, columns, "casenumber"), field(record, columns, "title"),
+                          field(record, columns, "description"), field(record, columns, "status"));
+    }
+
+    private static String field(List<String> record, Map<String, Integer> columns, String name) {
+        Integer index = columns.get(name);
+        if (index == null || index >= record.size()) {
+            return null;
+        }
+        String value = record.get(index).trim();
+        return value.isEmpty() ? null : value;
+    }
+
+    private void importBatch(CaseImportJob job, List<ImportRow> batch, String actor) {
+        List<ValidatedRow> validated = validationPool.submit(
+            () -> batch.parallelStream().map(CaseImportService::validate).toList()).join();
+
+        List<ValidatedRow> candidates = new ArrayList<>(validated.size());
+        Set<String> seenInBatch = new HashSet<>();
+        for (ValidatedRow row : validated) {
+            if (row.error() != null) {
+                job.reject(row.rowNumber(), row.caseNumber(), row.error());
+            } else if (!seenInBatch.add(row.caseNumber())) {
+                // Earlier batches are already in the database, so only same-batch repeats need catching here
+                job.duplicate(row.rowNumber(), row.caseNumber(), "Case number appears earlier in the file");
+            } else {
+                candidates.add(row);
+            }
+        }
+        if (candidates.isEmpty()) {
+            return;
+        }
+
+        try {
+            insert(job, candidates, actor);
+        } catch (DuplicateKeyException e) {
+            // A case number was created by someone else between the check and the insert; check again once
+            log.warn("Case import {} hit a concurrent create, retrying batch", job.getId());
+            try {
+                insert(job, candidates, actor);
+            } catch (DuplicateKeyException retryFailure) {
+                candidates.forEach(row -> job.reject(
+                    row.rowNumber(), row.caseNumber(), "Batch rejected after concurrent case number conflicts"));
+            }
+        }
+    }
+
+    private void insert(CaseImportJob job, List<ValidatedRow> candidates, String actor) {
+        BatchResult result = transactionTemplate.execute(status -> {
+            List<String> caseNumbers = candidates.stream().map(ValidatedRow::caseNumber).toList();
+            Set<String> existing = new HashSet<>(caseRepository.findExistingCaseNumbers(caseNumbers));
+            existing.addAll(caseArchiveRepository.findExistingCaseNumbers(caseNumbers));
+            List<ValidatedRow> rows = candidates.stream().filter(row -> !existing.contains(row.caseNumber())).toList();
+            List<ValidatedRow> duplicates = candidates.stream()
+                .filter(row -> existing.contains(row.caseNumber()))
+                .toList();
+            if (rows.isEmpty()) {
+                return new BatchResult(0, duplicates);
+            }
+
+            long changeSeq = caseChangeTracker.nextChangeSeq();
+            Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+            KeyHolder keyHolder = new GeneratedKeyHolder();
+            jdbcTemplate.batchUpdate(
+                con -> con.prepareStatement(INSERT_SQL, new String[] {"id"}),
+                new BatchPreparedStatementSetter() {
+                    @Override
+                    public void setValues(PreparedStatement ps, int i) throws SQLException {
+                        CaseRequest request = rows.get(i).request();
+                        ps.setString(1, request.getCaseNumber());
+                        ps.setString(2, request.getTitle());
+                        if (request.getDescription() == null) {
+                            ps.setNull(3, Types.VARCHAR);
+                        } else {
+                            ps.setString(3, request.getDescription());
+                        }
+                        ps.setString(4, request.getStatus().name());
+                        ps.setTimestamp(5, now);
+                        if (request.getStatus().isTerminal()) {
+                            ps.setTimestamp(6, now);
+                        } else {
+                            ps.setNull(6, Types.TIMESTAMP);
+                        }
+                        ps.setTimestamp(7, now);
+                        ps.setLong(8, changeSeq);
+                    }
+
+                    @Override
+                    public int getBatchSize() {
+                        return rows.size();
+                    }
+                },
+                keyHolder);
+
+            // Key column names differ in case between databases, so take the only value of each key row
+            List<Long> ids = keyHolder.getKeyList().stream()
+                .map(keys -> ((Number) keys.values().iterator().next()).longValue())
+                .toList();
+            eventPublisher.publishEvent(new CaseBulkChangeEvent(CaseChangedEvent.Type.CREATED, ids, null, actor));
+            return new BatchResult(rows.size(), duplicates);
+        });
+        job.imported(result.imported());
+        result.duplicates().forEach(row -> job.duplicate(
+            row.rowNumber(), row.caseNumber(), "Case number already exists: " + row.caseNumber()));
+    }
+
+    private static ValidatedRow validate(ImportRow row) {
+        RawRow raw = row.raw();
+        CaseRequest request = new CaseRequest();
+        request.setCaseNumber(raw.caseNumber());
+        request.setTitle(raw.title());
+        request.setDescription(raw.description());
+        try {
+            if (raw.status() != null) {
+                request.setStatus(CaseStatus.valueOf(raw.status().toUpperCase(Locale.ROOT)));
+            }
+            CaseRequestValidator.validate(request);
+            return new ValidatedRow(row.rowNumber(), raw.caseNumber(), request, null);
+        } catch (IllegalArgumentException e) {
+            String message = request.getStatus() == null && raw.status() != null
+                ? "Invalid status: " + raw.status() : e.getMessage();
+            return new ValidatedRow(row.rowNumber(), raw.caseNumber(), null, message);
+        }
+    }
+
+    private record RawRow(String caseNumber, String title, String description, String status) {
+    }
+
+    private record ImportRow(long rowNumber, RawRow raw) {
+    }
+
+    private record ValidatedRow(long rowNumber, String caseNumber, CaseRequest request, String error) {
+    }
+
+    private record BatchResult(int imported, List<ValidatedRow> duplicates) {
+    }
+}
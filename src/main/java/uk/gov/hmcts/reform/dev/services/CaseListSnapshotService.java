@@ -0,0 +1,145 @@
+package uk.gov.hmcts.reform.dev.services;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import uk.gov.hmcts.reform.dev.dto.CaseResponse;
+import uk.gov.hmcts.reform.dev.events.CaseBulkChangeEvent;
+import uk.gov.hmcts.reform.dev.events.CaseChangedEvent;
+import uk.gov.hmcts.reform.dev.events.CasesArchivedEvent;
+import uk.gov.hmcts.reform.dev.repositories.CaseRepository;
+import uk.gov.hmcts.reform.dev.utils.CaseMapper;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Serves {@code GET /cases} from an immutable, already serialised copy of the full case list.
+ *
+ * <p>Committed changes mark the snapshot dirty and schedule one rebuild after {@code debounce}, so a burst
+ * of writes costs a single query. The new snapshot replaces the old one atomically; readers never see a
+ * partial list and never touch the database. Changes this instance cannot see, such as writes from another
+ * instance, are picked up by a periodic refresh, and a snapshot older than {@code max-staleness} is not
+ * served at all, so callers fall back to the database rather than return data older than that.
+ */
+@Service
+@Slf4j
+public class CaseListSnapshotService {
+
+    private final CaseRepository caseRepository;
+    private final ObjectMapper objectMapper;
+    private final boolean enabled;
+    private final Duration debounce;
+    private final Duration maxStaleness;
+
+    private final AtomicReference<Snapshot> current = new AtomicReference<>();
+    private final AtomicBoolean rebuildScheduled = new AtomicBoolean();
+    private final ScheduledExecutorService rebuilder;
+
+    public CaseListSnapshotService(CaseRepository caseRepository,
+                                   ObjectMapper objectMapper,
+                                   @Value("${cases.list-snapshot.enabled:true}") boolean enabled,
+                                   @Value("${cases.list-snapshot.debounce:200ms}") Duration debounce,
+                                   @Value("${cases.list-snapshot.max-staleness:30s}") Duration maxStaleness) {
+        this.caseRepository = caseRepository;
+        this.objectMapper = objectMapper;
+        this.enabled = enabled;
+        this.debounce = debounce;
+        this.maxStaleness = maxStaleness;
+        this.rebuilder = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "case-list-snapshot");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Returns the serialised case list, or null when there is no snapshot fresh enough to serve.
+     */
+    public byte[] getSnapshot() {
+        Snapshot snapshot = current.get();
+        if (snapshot == null || System.nanoTime() - snapshot.builtAtNanos() > maxStaleness.toNanos()) {
+            return null;
+        }
+        return snapshot.json();
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        if (!enabled) {
+            log.info("Case list snapshot is disabled");
+            return;
+        }
+        // Refresh well inside the staleness bound so a healthy instance always has a servable snapshot
+        long refreshMillis = Math.max(1, maxStaleness.toMillis() / 2);
+        rebuilder.scheduleWithFixedDelay(this::rebuild, 0, refreshMillis, TimeUnit.MILLISECONDS);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onCaseChanged(CaseChangedEvent event) {
+        scheduleRebuild();
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onCaseBulkChanged(CaseBulkChangeEvent event) {
+        scheduleRebuild();
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onCasesArchived(CasesArchivedEvent event) {
+        scheduleRebuild();
+    }
+
+    @PreDestroy
+    void shutdown() {
+        rebuilder.shutdownNow();
+    }
+
+    void scheduleRebuild() {
+        if (!enabled || !rebuildScheduled.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            rebuilder.schedule(this::rebuild, debounce.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (RejectedExecutionException e) {
+            rebuildScheduled.set(false);
+        }
+    }
+
+    /**
+     * Reads the case list and swaps in a new snapshot. Normally run on the snapshot thread.
+     */
+    public void rebuild() {
+        // Cleared before reading so a commit landing mid-rebuild schedules another one
+        rebuildScheduled.set(false);
+        long startedAt = System.nanoTime();
+        try {
+            List<CaseResponse> cases = caseRepository.findAll().stream()
+                .map(CaseMapper::toResponse)
+                .toList();
+            current.set(new Snapshot(objectMapper.writeValueAsBytes(cases), startedAt));
+            log.debug("Rebuilt case list snapshot with {} cases in {} ms",
+                      cases.size(), TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt));
+        } catch (JsonProcessingException | RuntimeException e) {
+            // Keep serving the previous snapshot until it ages out; the next change or refresh retries
+            log.warn("Could not rebuild case list snapshot: {}", e.getMessage());
+        }
+    }
+
+    // Timestamped when the read started, so staleness covers changes made while it ran
+    private record Snapshot(byte[] json, long builtAtNanos) {
+    }
+}
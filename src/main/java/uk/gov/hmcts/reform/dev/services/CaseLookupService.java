@@ -0,0 +1,176 @@
+package uk.gov.hmcts.reform.dev.services;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import uk.gov.hmcts.reform.dev.dto.CaseLookupRequest;
+import uk.gov.hmcts.reform.dev.dto.CaseLookupResult;
+import uk.gov.hmcts.reform.dev.dto.CaseResponse;
+import uk.gov.hmcts.reform.dev.exceptions.CaseNotFoundException;
+import uk.gov.hmcts.reform.dev.exceptions.CaseUpdateException;
+import uk.gov.hmcts.reform.dev.models.Case;
+import uk.gov.hmcts.reform.dev.repositories.CaseArchiveRepository;
+import uk.gov.hmcts.reform.dev.repositories.CaseRepository;
+import uk.gov.hmcts.reform.dev.utils.CaseMapper;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
+
+/**
+ * Resolves many cases per request with a handful of {@code IN (...)} queries instead of one lookup per case.
+ * Results come back in request order, one per requested key, with misses marked as not found.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class CaseLookupService {
+
+    static final int MAX_LOOKUP_SIZE = 10000;
+    // Keeps bind parameter counts well inside what Postgres and H2 accept per statement
+    static final int CHUNK_SIZE = 500;
+
+    private final CaseRepository caseRepository;
+    private final CaseArchiveRepository caseArchiveRepository;
+    private final CaseNumberCache caseNumberCache;
+
+    @Transactional(readOnly = true)
+    public CaseResponse getCaseByNumber(String caseNumber) {
+        log.info("Retrieving case with case number: {}", caseNumber);
+        try {
+            return findLiveByNumber(caseNumber)
+                .map(CaseMapper::toResponse)
+                .or(() -> caseArchiveRepository.findFirstByCaseNumber(caseNumber).map(CaseMapper::toResponse))
+                .orElseThrow(() -> {
+                    log.debug("Case not found with case number: {}", caseNumber);
+                    return new CaseNotFoundException("Case not found with case number: " + caseNumber);
+                });
+        } catch (CaseNotFoundException e) {
+            throw e;
+        } catch (Exception e) {
+            log.error("Error retrieving case with case number {}: {}", caseNumber, e.getMessage());
+            throw new CaseUpdateException("Failed to retrieve case", e);
+        }
+    }
+
+    private Optional<Case> findLiveByNumber(String caseNumber) {
+        Long cachedId = caseNumberCache.get(caseNumber);
+        if (cachedId != null) {
+            Optional<Case> cached = caseRepository.findById(cachedId);
+            if (cached.isPresent() && caseNumber.equals(cached.get().getCaseNumber())) {
+                return cached;
+            }
+            caseNumberCache.evict(caseNumber);
+        }
+        Optional<Case> found = caseRepository.findByCaseNumber(caseNumber);
+        found.ifPresent(c -> caseNumberCache.put(c.getCaseNumber(), c.getId()));
+        return found;
+    }
+
+    @Transactional(readOnly = true)
+    public List<CaseLookupResult> lookup(CaseLookupRequest request) {
+        boolean byIds = request.getIds() != null;
+        boolean byCaseNumbers = request.getCaseNumbers() != null;
+        if (byIds == byCaseNumbers) {
+            throw new IllegalArgumentException("Provide either ids or caseNumbers");
+        }
+        return byIds ? lookupByIds(request.getIds()) : lookupByCaseNumbers(request.getCaseNumbers());
+    }
+
+    @Transactional(readOnly = true)
+    public List<CaseLookupResult> lookupByIds(List<Long> ids) {
+        checkKeys(ids, "ids");
+        log.info("Looking up {} cases by id", ids.size());
+        try {
+            Map<Long, CaseResponse> found = new HashMap<>();
+            List<Long> distinct = ids.stream().distinct().toList();
+            forEachChunk(distinct, chunk -> caseRepository.findAllById(chunk)
+                .forEach(c -> found.put(c.getId(), CaseMapper.toResponse(c))));
+            // Closed cases are moved to the archive table over time, so check there for the misses
+            List<Long> missing = distinct.stream().filter(id -> !found.containsKey(id)).toList();
+            forEachChunk(missing, chunk -> caseArchiveRepository.findAllById(chunk)
+                .forEach(c -> found.put(c.getId(), CaseMapper.toResponse(c))));
+            log.info("Found {} of {} requested cases", found.size(), distinct.size());
+
+            List<CaseLookupResult> results = new ArrayList<>(ids.size());
+            for (Long id : ids) {
+                CaseResponse details = found.get(id);
+                results.add(CaseLookupResult.builder().id(id).found(details != null).caseDetails(details).build());
+            }
+            return results;
+        } catch (Exception e) {
+            log.error("Error looking up cases by id: {}", e.getMessage());
+            throw new CaseUpdateException("Failed to look up cases", e);
+        }
+    }
+
+    @Transactional(readOnly = true)
+    public List<CaseLookupResult> lookupByCaseNumbers(List<String> caseNumbers) {
+        checkKeys(caseNumbers, "caseNumbers");
+        log.info("Looking up {} cases by case number", caseNumbers.size());
+        try {
+            Map<String, CaseResponse> found = new HashMap<>();
+            List<String> distinct = caseNumbers.stream().distinct().toList();
+            // Numbers we already know the id of are fetched by primary key and checked against the row
+            List<Long> cachedIds = new ArrayList<>();
+            for (String caseNumber : distinct) {
+                Long id = caseNumberCache.get(caseNumber);
+                if (id != null) {
+                    cachedIds.add(id);
+                }
+            }
+            Set<String> requested = new HashSet<>(distinct);
+            forEachChunk(cachedIds, chunk -> caseRepository.findAllById(chunk).forEach(c -> {
+                if (requested.contains(c.getCaseNumber())) {
+                    found.putIfAbsent(c.getCaseNumber(), CaseMapper.toResponse(c));
+                }
+            }));
+            List<String> uncached = distinct.stream().filter(number -> !found.containsKey(number)).toList();
+            forEachChunk(uncached, chunk -> caseRepository.findByCaseNumberIn(chunk).forEach(c -> {
+                caseNumberCache.put(c.getCaseNumber(), c.getId());
+                found.putIfAbsent(c.getCaseNumber(), CaseMapper.toResponse(c));
+            }));
+            List<String> missing = distinct.stream().filter(number -> !found.containsKey(number)).toList();
+            forEachChunk(missing, chunk -> caseArchiveRepository.findByCaseNumberIn(chunk)
+                .forEach(c -> found.putIfAbsent(c.getCaseNumber(), CaseMapper.toResponse(c))));
+            log.info("Found {} of {} requested cases", found.size(), distinct.size());
+
+            List<CaseLookupResult> results = new ArrayList<>(caseNumbers.size());
+            for (String caseNumber : caseNumbers) {
+                CaseResponse details = found.get(caseNumber);
+                results.add(CaseLookupResult.builder()
+                                .caseNumber(caseNumber)
+                                .found(details != null)
+                                .caseDetails(details)
+                                .build());
+            }
+            return results;
+        } catch (Exception e) {
+            log.error("Error looking up cases by case number: {}", e.getMessage());
+            throw new CaseUpdateException("Failed to look up cases", e);
+        }
+    }
+
+    private static void checkKeys(Collection<?> keys, String name) {
+        if (keys.isEmpty() || keys.size() > MAX_LOOKUP_SIZE) {
+            throw new IllegalArgumentException(name + " must contain between 1 and " + MAX_LOOKUP_SIZE + " entries");
+        }
+        // contains(null) throws on immutable collections such as List.of
+        if (keys.stream().anyMatch(key -> key == null || key instanceof String text && text.isBlank())) {
+            throw new IllegalArgumentException(name + " must not contain blank entries");
+        }
+    }
+
+    private static <T> void forEachChunk(List<T> keys, Consumer<List<T>> action) {
+        for (int from = 0; from < keys.size(); from += CHUNK_SIZE) {
+            action.accept(keys.subList(from, Math.min(from + CHUNK_SIZE, keys.size())));
+        }
+    }
+}
@@ -0,0 +1,84 @@
+package uk.gov.hmcts.reform.dev.services;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import uk.gov.hmcts.reform.dev.events.CaseBulkChangeEvent;
+import uk.gov.hmcts.reform.dev.events.CaseChangedEvent;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Bounded LRU map from case number to case id. Entries are only hints: readers must check that the row they
+ * load by id still carries the case number, so a stale entry costs one extra query rather than a wrong answer.
+ */
+@Component
+public class CaseNumberCache {
+
+    private final Map<String, Long> idsByCaseNumber;
+    private final Map<Long, String> caseNumbersById = new HashMap<>();
+
+    public CaseNumberCache(@Value("${cases.lookup.case-number-cache-size:10000}") int maxSize) {
+        this.idsByCaseNumber = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Long> eldest) {
+                if (size() > maxSize) {
+                    caseNumbersById.remove(eldest.getValue(), eldest.getKey());
+                    return true;
+                }
+                return false;
+            }
+        };
+    }
+
+    public synchronized Long get(String caseNumber) {
+        return idsByCaseNumber.get(caseNumber);
+    }
+
+    public synchronized void put(String caseNumber, Long id) {
+        String previous = caseNumbersById.put(id, caseNumber);
+        if (previous != null && !previous.equals(caseNumber)) {
+            idsByCaseNumber.remove(previous);
+        }
+        idsByCaseNumber.put(caseNumber, id);
+    }
+
+    public synchronized void evict(String caseNumber) {
+        Long id = idsByCaseNumber.remove(caseNumber);
+        if (id != null) {
+            caseNumbersById.remove(id, caseNumber);
+        }
+    }
+
+    public synchronized void evictId(Long id) {
+        String caseNumber = caseNumbersById.remove(id);
+        if (caseNumber != null) {
+            idsByCaseNumber.remove(caseNumber, id);
+        }
+    }
+
+    public synchronized int size() {
+        return idsByCaseNumber.size();
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onCaseChanged(CaseChangedEvent event) {
+        if (event.getType() == CaseChangedEvent.Type.UPDATED && event.getPrevious() != null
+            && event.getCurrent() != null
+            && !event.getPrevious().getCaseNumber().equals(event.getCurrent().getCaseNumber())) {
+            evict(event.getPrevious().getCaseNumber());
+        } else if (event.getType() == CaseChangedEvent.Type.DELETED) {
+            evictId(event.getCaseId());
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onCaseBulkChanged(CaseBulkChangeEvent event) {
+        if (event.getType() == CaseChangedEvent.Type.DELETED) {
+            event.getCaseIds().forEach(this::evictId);
+        }
+    }
+}
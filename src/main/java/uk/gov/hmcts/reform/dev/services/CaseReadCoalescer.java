@@ -0,0 +1,62 @@
+package uk.gov.hmcts.reform.dev.services;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.stereotype.Component;
+import uk.gov.hmcts.reform.dev.dto.CaseResponse;
+import uk.gov.hmcts.reform.dev.utils.SingleFlight;
+
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * Shares one database load between concurrent identical case reads.
+ *
+ * <p>{@code cases.reads.loads} counts loads that went to the database and {@code cases.reads.coalesced}
+ * counts callers that joined one already running, both tagged by {@code read}; the saving is
+ * coalesced / (loads + coalesced). Callers sharing a load get the same response object and must not
+ * modify it.
+ *
+ * <p>A caller can join a load that started before its own or someone else's write committed, so reads by
+ * id carry the {@link CaseResponseCache} epoch the leader took before querying. Filling that cache with
+ * the joiner's own, later epoch would let a pre-write body pass the cache's invalidation check.
+ */
+@Component
+public class CaseReadCoalescer {
+
+    private static final String ALL_CASES = "all";
+
+    private final SingleFlight<Long, LoadedCase> byId;
+    private final SingleFlight<String, List<CaseResponse>> allCases;
+
+    public CaseReadCoalescer(MeterRegistry meterRegistry) {
+        this.byId = singleFlight(meterRegistry, "by-id");
+        this.allCases = singleFlight(meterRegistry, "all");
+    }
+
+    public LoadedCase getCaseById(Long id, Supplier<LoadedCase> loader) {
+        return byId.load(id, loader);
+    }
+
+    public List<CaseResponse> getAllCases(Supplier<List<CaseResponse>> loader) {
+        return allCases.load(ALL_CASES, loader);
+    }
+
+    /**
+     * A case read by id and the {@link CaseResponseCache#epoch()} taken before its query ran.
+     */
+    public record LoadedCase(CaseResponse response, long cacheEpoch) {
+    }
+
+    private static <K, V> SingleFlight<K, V> singleFlight(MeterRegistry meterRegistry, String read) {
+        Counter loads = Counter.builder("cases.reads.loads")
+            .description("Case reads that went to the database")
+            .tag("read", read)
+            .register(meterRegistry);
+        Counter coalesced = Counter.builder("cases.reads.coalesced")
+            .description("Case reads answered by joining an identical read already in flight")
+            .tag("read", read)
+            .register(meterRegistry);
+        return new SingleFlight<>(loads, coalesced);
+    }
+}
@@ -0,0 +1,142 @@
+package uk.gov.hmcts.reform.dev.services;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import uk.gov.hmcts.reform.dev.dto.CaseResponse;
+import uk.gov.hmcts.reform.dev.events.CaseBulkChangeEvent;
+import uk.gov.hmcts.reform.dev.events.CaseChangedEvent;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Bounded LRU of {@code GET /cases/{id}} bodies, held as ready-to-send JSON and gzip bytes so a hit skips
+ * mapping, serialisation and compression.
+ *
+ * <p>Committed updates and deletes evict the case. Each entry records the invalidation epoch it was
+ * loaded under, and {@link #put} drops a load that an invalidation overtook, so a read racing a write
+ * cannot cache the old body. Entries also expire after {@code ttl} to bound staleness from writes made on
+ * other instances.
+ */
+@Component
+@Slf4j
+public class CaseResponseCache {
+
+    private final ObjectMapper objectMapper;
+    private final long ttlNanos;
+    private final AtomicLong invalidations = new AtomicLong();
+
+    // Access ordered and bounded, guarded by itself
+    private final Map<Long, CachedCaseJson> entries;
+
+    public CaseResponseCache(ObjectMapper objectMapper,
+                             @Value("${cases.response-cache.ttl:60s}") Duration ttl,
+                             @Value("${cases.response-cache.max-entries:10000}") int maxEntries) {
+        this.objectMapper = objectMapper;
+        this.ttlNanos = ttl.toNanos();
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, CachedCaseJson> eldest) {
+                return size() > maxEntries;
+            }
+        };
+    }
+
+    public CachedCaseJson get(Long id) {
+        synchronized (entries) {
+            CachedCaseJson cached = entries.get(id);
+            if (cached != null && cached.expiresAtNanos() - System.nanoTime() < 0) {
+                entries.remove(id);
+                return null;
+            }
+            return cached;
+        }
+    }
+
+    /**
+     * Taken before loading the case that is later passed to {@link #put}.
+     */
+    public long epoch() {
+        return invalidations.get();
+    }
+
+    /**
+     * Serialises and compresses the response. The result is always returned for the caller to send, but
+     * only cached if nothing was invalidated since {@code epoch}.
+     */
+    public CachedCaseJson put(Long id, CaseResponse response, long epoch) {
+        CachedCaseJson cached;
+        try {
+            byte[] json = objectMapper.writeValueAsBytes(response);
+            cached = new CachedCaseJson(epoch, json, gzip(json), System.nanoTime() + ttlNanos);
+        } catch (JsonProcessingException e) {
+            log.warn("Could not serialise case {} for the response cache: {}", id, e.getMessage());
+            return null;
+        }
+        synchronized (entries) {
+            if (invalidations.get() == epoch) {
+                entries.put(id, cached);
+            }
+        }
+        return cached;
+    }
+
+    public void evict(Long id) {
+        synchronized (entries) {
+            invalidations.incrementAndGet();
+            entries.remove(id);
+        }
+    }
+
+    public int size() {
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onCaseChanged(CaseChangedEvent event) {
+        if (event.getType() != CaseChangedEvent.Type.CREATED) {
+            evict(event.getCaseId());
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onCaseBulkChanged(CaseBulkChangeEvent event) {
+        if (event.getType() != CaseChangedEvent.Type.CREATED) {
+            synchronized (entries) {
+                invalidations.incrementAndGet();
+                event.getCaseIds().forEach(entries::remove);
+            }
+        }
+    }
+
+    private static byte[] gzip(byte[] json) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(json.length / 2 + 32);
+        try (GZIPOutputStream out = new GZIPOutputStream(bytes)) {
+            out.write(json);
+        } catch (IOException e) {
+            // Only in-memory streams are involved
+            throw new UncheckedIOException(e);
+        }
+        return bytes.toByteArray();
+    }
+
+    /**
+     * One cached body. {@code version} is the invalidation epoch it was loaded under; the arrays are shared
+     * between requests and must not be modified.
+     */
+    public record CachedCaseJson(long version, byte[] json, byte[] gzip, long expiresAtNanos) {
+    }
+}
@@ -1,19 +1,32 @@
 package uk.gov.hmcts.reform.dev.services;
 
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import lombok.extern.slf4j.Slf4j;
 import uk.gov.hmcts.reform.dev.dto.CaseRequest;
 import uk.gov.hmcts.reform.dev.dto.CaseResponse;
+import uk.gov.hmcts.reform.dev.dto.CaseSearchCriteria;
+import uk.gov.hmcts.reform.dev.events.CaseChangedEvent;
 import uk.gov.hmcts.reform.dev.exceptions.CaseNotFoundException;
 import uk.gov.hmcts.reform.dev.exceptions.CaseUpdateException;
 import uk.gov.hmcts.reform.dev.exceptions.DuplicateCaseException;
 import uk.gov.hmcts.reform.dev.models.Case;
+import uk.gov.hmcts.reform.dev.repositories.CaseArchiveRepository;
 import uk.gov.hmcts.reform.dev.repositories.CaseRepository;
+import uk.gov.hmcts.reform.dev.repositories.CaseSpecifications;
+import uk.gov.hmcts.reform.dev.services.CaseReadCoalescer.LoadedCase;
 import uk.gov.hmcts.reform.dev.utils.CaseMapper;
+import uk.gov.hmcts.reform.dev.utils.CaseRequestValidator;
 
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 @Service
@@ -21,9 +34,21 @@ import java.util.stream.Collectors;
 @Slf4j
 public class CaseService {
 
+    static final int DEFAULT_SEARCH_LIMIT = 100;
+
     private final CaseRepository caseRepository;
+    private final CaseArchiveRepository caseArchiveRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final CaseChangeTracker caseChangeTracker;
+    private final CaseReadCoalescer caseReadCoalescer;
+    private final MissingCaseCache missingCaseCache;
+    private final CaseResponseCache caseResponseCache;
 
     public List<CaseResponse> getAllCases() {
+        return caseReadCoalescer.getAllCases(this::loadAllCases);
+    }
+
+    private List<CaseResponse> loadAllCases() {
         log.info("Retrieving all cases");
         try {
             List<CaseResponse> cases = caseRepository.findAll().stream()
@@ -37,13 +62,105 @@ public class CaseService {
         }
     }
 
+    /**
+     * Filters and sorts in a single query, returning at most {@code criteria.limit} cases.
+     */
+    public List<CaseResponse> searchCases(CaseSearchCriteria criteria) {
+        log.info("Searching cases with criteria: {}", criteria);
+        validateDateRange(criteria);
+        Specification<Case> specification = CaseSpecifications.matching(criteria);
+        Sort sort = CaseSpecifications.toSort(criteria.getSort());
+        int limit = criteria.getLimit() == null ? DEFAULT_SEARCH_LIMIT : criteria.getLimit();
+        try {
+            List<Case> cases = caseRepository.findBy(specification, query -> query.sortBy(sort).limit(limit).all());
+            log.info("Found {} cases", cases.size());
+            return cases.stream()
+                .map(CaseMapper::toResponse)
+                .collect(Collectors.toList());
+        } catch (Exception e) {
+            log.error("Error searching cases: {}", e.getMessage());
+            throw new CaseUpdateException("Failed to search cases", e);
+        }
+    }
+
+    /**
+     * Like {@link #searchCases}, but reads and returns only {@code criteria.fields} of each case. With no
+     * filter, sort or limit given this returns every case, as {@link #getAllCases} does.
+     */
+    public List<Map<String, Object>> searchCaseFields(CaseSearchCriteria criteria) {
+        log.info("Searching case fields with criteria: {}", criteria);
+        validateDateRange(criteria);
+        List<String> fields = CaseSpecifications.toFields(criteria.getFields());
+        Specification<Case> specification = CaseSpecifications.matching(criteria);
+        Sort sort = CaseSpecifications.toSort(criteria.getSort());
+        Integer limit = null;
+        if (!criteria.isUnfiltered()) {
+            limit = criteria.getLimit() == null ? DEFAULT_SEARCH_LIMIT : criteria.getLimit();
+        }
+        try {
+            List<Map<String, Object>> cases = caseRepository.findFieldsMatching(specification, sort, limit, fields);
+            log.info("Found {} cases", cases.size());
+            return cases;
+        } catch (Exception e) {
+            log.error("Error searching case fields: {}", e.getMessage());
+            throw new CaseUpdateException("Failed to search cases", e);
+        }
+    }
+
+    /**
+     * Only {@code fields} of one case, read with a projection from the hot table.
+     */
+    public Map<String, Object> getCaseFields(Long id, List<String> fields) {
+        List<String> selected = CaseSpecifications.toFields(fields);
+        if (missingCaseCache.isMissing(id)) {
+            log.debug("Case not found with id: {} (cached miss)", id);
+            throw new CaseNotFoundException(id);
+        }
+        List<Map<String, Object>> rows;
+        try {
+            rows = caseRepository.findFieldsMatching(
+                CaseSpecifications.hasIdIn(List.of(id)), Sort.unsorted(), 1, selected);
+        } catch (Exception e) {
+            log.error("Error retrieving case with id {}: {}", id, e.getMessage());
+            throw new CaseUpdateException("Failed to retrieve case", e);
+        }
+        if (!rows.isEmpty()) {
+            return rows.get(0);
+        }
+        // Archived cases are rare on this path, so load the full case and trim it rather than project twice
+        return CaseMapper.toFields(getCaseById(id), selected);
+    }
+
     public CaseResponse getCaseById(Long id) {
+        return getCaseByIdForCache(id).response();
+    }
+
+    /**
+     * Like {@link #getCaseById}, along with the {@link CaseResponseCache} epoch to cache the result under.
+     */
+    public LoadedCase getCaseByIdForCache(Long id) {
+        if (missingCaseCache.isMissing(id)) {
+            log.debug("Case not found with id: {} (cached miss)", id);
+            throw new CaseNotFoundException(id);
+        }
+        // Concurrent readers of the same case share one query, and so the epoch taken just before it
+        return caseReadCoalescer.getCaseById(id, () -> {
+            long cacheEpoch = caseResponseCache.epoch();
+            return new LoadedCase(loadCaseById(id), cacheEpoch);
+        });
+    }
+
+    private CaseResponse loadCaseById(Long id) {
         log.info("Retrieving case with id: {}", id);
+        long epoch = missingCaseCache.epoch();
         try {
+            // Closed cases are moved to the archive table over time, so check there on a miss
             return caseRepository.findById(id)
                 .map(CaseMapper::toResponse)
+                .or(() -> caseArchiveRepository.findById(id).map(CaseMapper::toResponse))
                 .orElseThrow(() -> {
-                    log.error("Case not found with id: {}", id);
+                    log.debug("Case not found with id: {}", id);
+                    missingCaseCache.markMissing(id, epoch);
                     return new CaseNotFoundException(id);
                 });
         } catch (CaseNotFoundException e) {
@@ -59,19 +176,27 @@ public class CaseService {
         log.info("Creating new case with case number: {}", caseRequest.getCaseNumber());
         try {
 
-            validateCaseRequest(caseRequest);
+            CaseRequestValidator.validate(caseRequest);
 
-            if (caseRepository.existsByCaseNumber(caseRequest.getCaseNumber())) {
-                log.error("Case number already exists: {}", caseRequest.getCaseNumber());
+            if (isCaseNumberTaken(caseRequest.getCaseNumber())) {
+                log.debug("Case number already exists: {}", caseRequest.getCaseNumber());
                 throw new DuplicateCaseException("Case number already exists: " + caseRequest.getCaseNumber());
             }
 
             Case newCase = CaseMapper.toEntity(caseRequest);
+            caseChangeTracker.markChanged(newCase);
             Case savedCase = caseRepository.save(newCase);
             log.info("Successfully created case with id: {}", savedCase.getId());
-            return CaseMapper.toResponse(savedCase);
+            CaseResponse response = CaseMapper.toResponse(savedCase);
+            eventPublisher.publishEvent(new CaseChangedEvent(
+                CaseChangedEvent.Type.CREATED, savedCase.getId(), null, response, currentActor()));
+            return response;
         } catch (DuplicateCaseException | IllegalArgumentException e) {
             throw e;
+        } catch (DataIntegrityViolationException e) {
+            // A concurrent create won the race past existsByCaseNumber; the unique index has the final say
+            log.debug("Case number already exists: {}", caseRequest.getCaseNumber());
+            throw new DuplicateCaseException("Case number already exists: " + caseRequest.getCaseNumber());
         } catch (Exception e) {
             log.error("Error creating case: {}", e.getMessage());
             throw new CaseUpdateException("Failed to create case", e);
@@ -82,25 +207,30 @@ public class CaseService {
     public CaseResponse updateCase(Long id, CaseRequest caseRequest) {
         log.info("Updating case with id: {}", id);
         try {
-            validateCaseRequest(caseRequest);
+            CaseRequestValidator.validate(caseRequest);
 
             Case existingCase = caseRepository.findById(id)
                 .orElseThrow(() -> {
-                    log.error("Case not found with id: {}", id);
+                    log.debug("Case not found with id: {}", id);
                     return new CaseNotFoundException(id);
                 });
 
             // Check if the new case number conflicts with another case
             if (!existingCase.getCaseNumber().equals(caseRequest.getCaseNumber())
-                && caseRepository.existsByCaseNumber(caseRequest.getCaseNumber())) {
-                log.error("Cannot update case. Case number already exists: {}", caseRequest.getCaseNumber());
+                && isCaseNumberTaken(caseRequest.getCaseNumber())) {
+                log.debug("Cannot update case. Case number already exists: {}", caseRequest.getCaseNumber());
                 throw new DuplicateCaseException("Case number already exists: " + caseRequest.getCaseNumber());
             }
 
+            CaseResponse previous = CaseMapper.toResponse(existingCase);
             CaseMapper.updateEntityFromRequest(existingCase, caseRequest); // Use new mapper method
+            caseChangeTracker.markChanged(existingCase);
             Case updatedCase = caseRepository.save(existingCase);
             log.info("Successfully updated case with id: {}", id);
-            return CaseMapper.toResponse(updatedCase);
+            CaseResponse response = CaseMapper.toResponse(updatedCase);
+            eventPublisher.publishEvent(
+                new CaseChangedEvent(CaseChangedEvent.Type.UPDATED, id, previous, response, currentActor()));
+            return response;
         } catch (CaseNotFoundException | DuplicateCaseException e) {
             throw e;
         } catch (Exception e) {
@@ -109,44 +239,34 @@ public class CaseService {
         }
     }
 
-    // Add validation method
-    private void validateCaseRequest(CaseRequest request) {
-        if (request == null) {
-            throw new IllegalArgumentException("Case request cannot be null");
-        }
-        if (request.getCaseNumber() == null || request.getCaseNumber().trim().isEmpty()) {
-            throw new IllegalArgumentException("Case number is required");
-        }
-        // Add case number format validation
-        if (!request.getCaseNumber().matches("^[A-Z0-9]{2,20}$")) {
-            throw new IllegalArgumentException("Case number must be 2-20 characters long and "
-                                                   + "contain only uppercase letters and numbers");
-        }
-        if (request.getTitle() == null || request.getTitle().trim().isEmpty()) {
-            throw new IllegalArgumentException("Case title is required");
-        }
-        // Add title length validation
-        if (request.getTitle().length() < 3 || request.getTitle().length() > 100) {
-            throw new IllegalArgumentException("Title must be between 3 and 100 characters");
-        }
-        if (request.getStatus() == null) {
-            throw new IllegalArgumentException("Case status is required");
-        }
-        // Add description length validation if description is present
-        if (request.getDescription() != null && request.getDescription().length() > 500) {
-            throw new IllegalArgumentException("Description cannot exceed 500 characters");
+    // Archived cases keep their numbers, so a number is never reused even after its case leaves legal_case
+    private boolean isCaseNumberTaken(String caseNumber) {
+        return caseRepository.existsByCaseNumber(caseNumber) || caseArchiveRepository.existsByCaseNumber(caseNumber);
+    }
+
+    private static void validateDateRange(CaseSearchCriteria criteria) {
+        if (criteria.getCreatedFrom() != null && criteria.getCreatedTo() != null
+            && !criteria.getCreatedFrom().isBefore(criteria.getCreatedTo())) {
+            throw new IllegalArgumentException("createdFrom must be before createdTo");
         }
     }
 
+    static String currentActor() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        return authentication == null ? null : authentication.getName();
+    }
+
     @Transactional
     public void deleteCase(Long id) {
         log.info("Deleting case with id: {}", id);
         try {
-            if (!caseRepository.existsById(id)) {
-                log.error("Case not found with id: {}", id);
+            if (caseRepository.deleteCaseById(id) == 0) {
+                log.debug("Case not found with id: {}", id);
                 throw new CaseNotFoundException(id);
             }
-            caseRepository.deleteById(id);
+            caseChangeTracker.recordDeletion(id);
+            eventPublisher.publishEvent(
+                new CaseChangedEvent(CaseChangedEvent.Type.DELETED, id, null, null, currentActor()));
             log.info("Successfully deleted case with id: {}", id);
         } catch (CaseNotFoundException e) {
             throw e;
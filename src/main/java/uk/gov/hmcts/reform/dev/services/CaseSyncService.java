@@ -0,0 +1,79 @@
+package uk.gov.hmcts.reform.dev.services;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Isolation;
+import org.springframework.transaction.annotation.Transactional;
+import uk.gov.hmcts.reform.dev.dto.CaseChangeResponse;
+import uk.gov.hmcts.reform.dev.dto.CaseChangesResponse;
+import uk.gov.hmcts.reform.dev.models.Case;
+import uk.gov.hmcts.reform.dev.models.CaseTombstone;
+import uk.gov.hmcts.reform.dev.repositories.CaseRepository;
+import uk.gov.hmcts.reform.dev.repositories.CaseTombstoneRepository;
+import uk.gov.hmcts.reform.dev.utils.CaseMapper;
+import uk.gov.hmcts.reform.dev.utils.ChangeToken;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class CaseSyncService {
+
+    public static final int MAX_PAGE_SIZE = 1000;
+
+    private final CaseRepository caseRepository;
+    private final CaseTombstoneRepository caseTombstoneRepository;
+
+    /**
+     * Returns up to {@code limit} cases changed or deleted after the {@code since} token, oldest
+     * first. Both queries read from one snapshot so a commit landing between them can't be skipped.
+     */
+    @Transactional(readOnly = true, isolation = Isolation.REPEATABLE_READ)
+    public CaseChangesResponse getChangesSince(String since, int limit) {
+        if (limit < 1 || limit > MAX_PAGE_SIZE) {
+            throw new IllegalArgumentException("Limit must be between 1 and " + MAX_PAGE_SIZE);
+        }
+        ChangeToken from = ChangeToken.parse(since);
+        log.info("Retrieving up to {} case changes since {}", limit, from);
+
+        PageRequest page = PageRequest.of(0, limit + 1);
+        List<Case> cases = caseRepository.findChangedSince(from.changeSeq(), from.caseIdAfter(), page);
+        List<CaseTombstone> tombstones = caseTombstoneRepository.findChangedSince(
+            from.changeSeq(), from.tombstoneIdAfter(), page);
+
+        List<CaseChangeResponse> changes = new ArrayList<>(Math.min(limit, cases.size() + tombstones.size()));
+        ChangeToken last = from;
+        int caseIndex = 0;
+        int tombstoneIndex = 0;
+        while (changes.size() < limit && (caseIndex < cases.size() || tombstoneIndex < tombstones.size())) {
+            boolean takeCase = tombstoneIndex >= tombstones.size()
+                || (caseIndex < cases.size()
+                    && cases.get(caseIndex).getChangeSeq() <= tombstones.get(tombstoneIndex).getChangeSeq());
+            if (takeCase) {
+                Case changed = cases.get(caseIndex++);
+                changes.add(CaseChangeResponse.builder()
+                    .changeType(CaseChangeResponse.ChangeType.UPSERTED)
+                    .caseId(changed.getId())
+                    .changeSeq(changed.getChangeSeq())
+                    .caseDetails(CaseMapper.toResponse(changed))
+                    .build());
+                last = new ChangeToken(changed.getChangeSeq(), false, changed.getId());
+            } else {
+                CaseTombstone deleted = tombstones.get(tombstoneIndex++);
+                changes.add(CaseChangeResponse.builder()
+                    .changeType(CaseChangeResponse.ChangeType.DELETED)
+                    .caseId(deleted.getCaseId())
+                    .changeSeq(deleted.getChangeSeq())
+                    .build());
+                last = new ChangeToken(deleted.getChangeSeq(), true, deleted.getId());
+            }
+        }
+
+        boolean hasMore = cases.size() + tombstones.size() > changes.size();
+        return new CaseChangesResponse(changes, last.encode(), hasMore);
+    }
+}
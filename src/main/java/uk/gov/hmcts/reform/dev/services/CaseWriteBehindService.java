@@ -0,0 +1,368 @@
+package uk.gov.hmcts.reform.dev.services;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+import uk.gov.hmcts.reform.dev.dto.CaseRequest;
+import uk.gov.hmcts.reform.dev.dto.CaseResponse;
+import uk.gov.hmcts.reform.dev.dto.PendingCaseResponse;
+import uk.gov.hmcts.reform.dev.events.CaseChangedEvent;
+import uk.gov.hmcts.reform.dev.exceptions.CaseNotFoundException;
+import uk.gov.hmcts.reform.dev.exceptions.DuplicateCaseException;
+import uk.gov.hmcts.reform.dev.repositories.CaseArchiveRepository;
+import uk.gov.hmcts.reform.dev.repositories.CaseRepository;
+import uk.gov.hmcts.reform.dev.utils.CaseRequestValidator;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Opt-in asynchronous case creation for {@code POST /cases} with {@code Prefer: respond-async}.
+ *
+ * <p>A request is validated, checked for a duplicate case number, given an id from a pre-allocated block
+ * and journalled to local disk before the client gets {@code 202}. A single writer thread drains the bounded
+ * queue and inserts up to {@code batch-size} cases per transaction. When the queue is full, or the feature is
+ * unavailable, {@link #submit} returns empty and the caller creates the case synchronously instead.
+ */
+@Service
+@Slf4j
+public class CaseWriteBehindService {
+
+    private static final String INSERT_SQL = "insert into legal_case (id, case_number, title, description, status,"
+        + " created_date, closed_date, last_modified, change_seq) values (?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private final CaseRepository caseRepository;
+    private final CaseArchiveRepository caseArchiveRepository;
+    private final CaseChangeTracker caseChangeTracker;
+    private final CaseIdAllocator caseIdAllocator;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
+    private final JdbcTemplate jdbcTemplate;
+    private final ObjectMapper objectMapper;
+    private final boolean enabled;
+    private final int batchSize;
+    private final Duration maxBatchDelay;
+    private final int retainedFailures;
+    private final Path journalPath;
+
+    private final BlockingQueue<PendingWrite> queue;
+    private final Set<String> pendingCaseNumbers = ConcurrentHashMap.newKeySet();
+    private final Map<Long, PendingCaseResponse> states = new ConcurrentHashMap<>();
+    private final ConcurrentLinkedQueue<Long> failedOrder = new ConcurrentLinkedQueue<>();
+
+    private volatile CaseWriteJournal journal;
+    private volatile Thread writer;
+    private volatile boolean running;
+
+    public CaseWriteBehindService(CaseRepository caseRepository,
+                                  CaseArchiveRepository caseArchiveRepository,
+                                  CaseChangeTracker caseChangeTracker,
+                                  CaseIdAllocator caseIdAllocator,
+                                  ApplicationEventPublisher eventPublisher,
+                                  TransactionTemplate transactionTemplate,
+                                  JdbcTemplate jdbcTemplate,
+                                  ObjectMapper objectMapper,
+                                  @Value("${cases.write-behind.enabled:true}") boolean enabled,
+                                  @Value("${cases.write-behind.queue-capacity:10000}") int queueCapacity,
+                                  @Value("${cases.write-behind.batch-size:200}") int batchSize,
+                                  @Value("${cases.write-behind.max-batch-delay:20ms}") Duration maxBatchDelay,
+                                  @Value("${cases.write-behind.retained-failures:1000}") int retainedFailures,
+                                  @Value("${cases.write-behind.journal:data/case-write-journal.log}")
+                                  Path journalPath) {
+        this.caseRepository = caseRepository;
+        this.caseArchiveRepository = caseArchiveRepository;
+        this.caseChangeTracker = caseChangeTracker;
+        this.caseIdAllocator = caseIdAllocator;
+        this.eventPublisher = eventPublisher;
+        this.transactionTemplate = transactionTemplate;
+        this.jdbcTemplate = jdbcTemplate;
+        this.objectMapper = objectMapper;
+        this.enabled = enabled;
+        this.batchSize = batchSize;
+        this.maxBatchDelay = maxBatchDelay;
+        this.retainedFailures = retainedFailures;
+        this.journalPath = journalPath;
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() throws IOException {
+        if (!enabled || !caseIdAllocator.isSupported()) {
+            log.info("Write-behind case creation is disabled");
+            return;
+        }
+        journal = new CaseWriteJournal(journalPath, objectMapper);
+        List<PendingWrite> recovered = journal.recover();
+        for (PendingWrite write : recovered) {
+            // Recovered writes were already acknowledged, so they are queued even beyond capacity
+            pendingCaseNumbers.add(write.request().getCaseNumber());
+            states.put(write.id(), pending(write));
+            if (!queue.offer(write)) {
+                writeBatch(List.of(write));
+            }
+        }
+        if (!recovered.isEmpty()) {
+            log.info("Recovered {} pending case writes from {}", recovered.size(), journalPath);
+        }
+        running = true;
+        writer = new Thread(this::runWriter, "case-write-behind");
+        writer.setDaemon(true);
+        writer.start();
+    }
+
+    @PreDestroy
+    public void stop() throws IOException, InterruptedException {
+        running = false;
+        Thread thread = writer;
+        if (thread != null) {
+            thread.interrupt();
+            thread.join(TimeUnit.SECONDS.toMillis(5));
+        }
+        // Anything still queued stays in the journal and is written on the next start
+        if (journal != null) {
+            journal.close();
+        }
+    }
+
+    /**
+     * Accepts the case for asynchronous creation, or returns empty if the caller should create it synchronously.
+     * Validation failures and duplicate case numbers are thrown straight away, as for a synchronous create.
+     */
+    public Optional<PendingCaseResponse> submit(CaseRequest caseRequest) {
+        if (!running || queue.remainingCapacity() == 0) {
+            return Optional.empty();
+        }
+        CaseRequestValidator.validate(caseRequest);
+        String caseNumber = caseRequest.getCaseNumber();
+        if (caseRepository.existsByCaseNumber(caseNumber) || caseArchiveRepository.existsByCaseNumber(caseNumber)
+            || !pendingCaseNumbers.add(caseNumber)) {
+            log.debug("Case number already exists: {}", caseNumber);
+            throw new DuplicateCaseException("Case number already exists: " + caseNumber);
+        }
+
+        PendingWrite write = new PendingWrite(
+            caseIdAllocator.next(), caseRequest, CaseService.currentActor(), LocalDateTime.now());
+        PendingCaseResponse response = pending(write);
+        states.put(write.id(), response);
+        try {
+            // Hold the journal lock across offer and append so the commit marker cannot precede the entry
+            synchronized (journal) {
+                if (!queue.offer(write)) {
+                    states.remove(write.id());
+                    pendingCaseNumbers.remove(caseNumber);
+                    return Optional.empty();
+                }
+                journal.appendPending(write);
+            }
+        } catch (IOException e) {
+            log.error("Could not journal case write: {}", e.getMessage());
+            if (queue.remove(write)) {
+                states.remove(write.id());
+                pendingCaseNumbers.remove(caseNumber);
+                return Optional.empty();
+            }
+            // Already taken by the writer, so it will be created; only crash durability was lost
+        }
+        log.info("Accepted case {} for write-behind with id {}", caseNumber, write.id());
+        return Optional.of(response);
+    }
+
+    public PendingCaseResponse getStatus(Long id) {
+        PendingCaseResponse state = states.get(id);
+        if (state != null) {
+            return state;
+        }
+        // Created entries are dropped once written, so anything in the table is done
+        if (caseRepository.existsById(id)) {
+            return PendingCaseResponse.builder().id(id).state(PendingCaseResponse.State.CREATED).build();
+        }
+        throw new CaseNotFoundException(id);
+    }
+
+    private void runWriter() {
+        while (running || !queue.isEmpty()) {
+            try {
+                PendingWrite first = queue.poll(1, TimeUnit.SECONDS);
+                if (first == null) {
+                    truncateJournalIfIdle();
+                    continue;
+                }
+                List<PendingWrite> batch = new ArrayList<>(batchSize);
+                batch.add(first);
+                long deadline = System.nanoTime() + maxBatchDelay.toNanos();
+                while (batch.size() < batchSize) {
+                    PendingWrite next = queue.poll(deadline - System.nanoTime(), TimeUnit.NANOSECONDS);
+                    if (next == null) {
+                        break;
+                    }
+                    batch.add(next);
+                }
+                writeBatch(batch);
+            } catch (InterruptedException e) {
+                if (!running) {
+                    return;
+                }
+            } catch (RuntimeException e) {
+                log.error("Write-behind writer error: {}", e.getMessage(), e);
+            }
+        }
+    }
+
+    private void truncateJournalIfIdle() {
+        synchronized (journal) {
+            if (queue.isEmpty()) {
+                try {
+                    journal.truncate();
+                } catch (IOException e) {
+                    log.warn("Could not truncate case write journal: {}", e.getMessage());
+                }
+            }
+        }
+    }
+
+    /**
+     * Inserts the batch in one transaction. If the batch fails as a whole, each case is retried on its own so
+     * one bad row cannot hold back the rest.
+     */
+    private void writeBatch(List<PendingWrite> batch) {
+        try {
+            List<PendingWrite> duplicates = insert(batch);
+            duplicates.forEach(write -> fail(
+                write, "Case number already exists: " + write.request().getCaseNumber()));
+            batch.stream().filter(write -> !duplicates.contains(write)).forEach(this::created);
+        } catch (DataAccessException e) {
+            if (batch.size() == 1) {
+                PendingWrite write = batch.get(0);
+                log.error("Write-behind create of case {} failed: {}", write.id(), e.getMessage());
+                fail(write, e instanceof DuplicateKeyException
+                    ? "Case number already exists: " + write.request().getCaseNumber() : "Failed to create case");
+            } else {
+                log.warn("Write-behind batch of {} failed, retrying one by one: {}", batch.size(), e.getMessage());
+                batch.forEach(write -> writeBatch(List.of(write)));
+                return;
+            }
+        }
+        try {
+            journal.appendCommitted(batch.stream().map(PendingWrite::id).toList());
+        } catch (IOException e) {
+            // Replay skips ids that already exist, so a missing marker only costs a lookup on restart
+            log.warn("Could not journal committed case writes: {}", e.getMessage());
+        }
+    }
+
+    // Returns the writes rejected because their case number was taken in the meantime
+    private List<PendingWrite> insert(List<PendingWrite> batch) {
+        return transactionTemplate.execute(status -> {
+            Set<Long> alreadyWritten = new HashSet<>(
+                caseRepository.findExistingIds(batch.stream().map(PendingWrite::id).toList()));
+            Set<String> takenNumbers = new HashSet<>(caseRepository.findExistingCaseNumbers(
+                batch.stream().map(write -> write.request().getCaseNumber()).toList()));
+            List<PendingWrite> rows = new ArrayList<>();
+            List<PendingWrite> duplicates = new ArrayList<>();
+            for (PendingWrite write : batch) {
+                if (alreadyWritten.contains(write.id())) {
+                    continue;
+                }
+                if (takenNumbers.contains(write.request().getCaseNumber())) {
+                    duplicates.add(write);
+                } else {
+                    rows.add(write);
+                }
+            }
+            if (rows.isEmpty()) {
+                return duplicates;
+            }
+
+            long changeSeq = caseChangeTracker.nextChangeSeq();
+            LocalDateTime now = LocalDateTime.now();
+            Timestamp timestamp = Timestamp.valueOf(now);
+            jdbcTemplate.batchUpdate(INSERT_SQL, rows, rows.size(), (ps, write) -> {
+                CaseRequest request = write.request();
+                ps.setLong(1, write.id());
+                ps.setString(2, request.getCaseNumber());
+                ps.setString(3, request.getTitle());
+                if (request.getDescription() == null) {
+                    ps.setNull(4, Types.VARCHAR);
+                } else {
+                    ps.setString(4, request.getDescription());
+                }
+                ps.setString(5, request.getStatus().name());
+                ps.setTimestamp(6, timestamp);
+                if (request.getStatus().isTerminal()) {
+                    ps.setTimestamp(7, timestamp);
+                } else {
+                    ps.setNull(7, Types.TIMESTAMP);
+                }
+                ps.setTimestamp(8, timestamp);
+                ps.setLong(9, changeSeq);
+            });
+            for (PendingWrite write : rows) {
+                CaseResponse response = CaseResponse.builder()
+                    .id(write.id())
+                    .caseNumber(write.request().getCaseNumber())
+                    .title(write.request().getTitle())
+                    .description(write.request().getDescription())
+                    .status(write.request().getStatus())
+                    .createdDate(now)
+                    .build();
+                eventPublisher.publishEvent(new CaseChangedEvent(
+                    CaseChangedEvent.Type.CREATED, write.id(), null, response, write.actor()));
+            }
+            log.debug("Wrote {} write-behind cases", rows.size());
+            return duplicates;
+        });
+    }
+
+    private void created(PendingWrite write) {
+        states.remove(write.id());
+        pendingCaseNumbers.remove(write.request().getCaseNumber());
+    }
+
+    private void fail(PendingWrite write, String reason) {
+        PendingCaseResponse failed = pending(write);
+        failed.setState(PendingCaseResponse.State.FAILED);
+        failed.setFailureReason(reason);
+        states.put(write.id(), failed);
+        pendingCaseNumbers.remove(write.request().getCaseNumber());
+        failedOrder.add(write.id());
+        while (failedOrder.size() > retainedFailures) {
+            Long oldest = failedOrder.poll();
+            if (oldest != null) {
+                states.remove(oldest);
+            }
+        }
+    }
+
+    private static PendingCaseResponse pending(PendingWrite write) {
+        return PendingCaseResponse.builder()
+            .id(write.id())
+            .caseNumber(write.request().getCaseNumber())
+            .state(PendingCaseResponse.State.PENDING)
+            .acceptedDate(write.acceptedDate())
+            .build();
+    }
+}
@@ -0,0 +1,95 @@
+package uk.gov.hmcts.reform.dev.services;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Append-only file of accepted but not yet written cases, one JSON line each. A write is forced to disk
+ * before the client is told it was accepted; committed ids are appended without forcing, since replaying
+ * an already inserted case is skipped by id. The file is truncated whenever nothing is pending.
+ */
+@Slf4j
+public class CaseWriteJournal implements Closeable {
+
+    private final Path path;
+    private final ObjectMapper objectMapper;
+    private final FileChannel channel;
+
+    public CaseWriteJournal(Path path, ObjectMapper objectMapper) throws IOException {
+        this.path = path;
+        this.objectMapper = objectMapper;
+        if (path.getParent() != null) {
+            Files.createDirectories(path.getParent());
+        }
+        this.channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                                        StandardOpenOption.APPEND);
+    }
+
+    /**
+     * Writes still pending in the journal from a previous run, in the order they were accepted.
+     */
+    public synchronized List<PendingWrite> recover() throws IOException {
+        Map<Long, PendingWrite> pending = new LinkedHashMap<>();
+        try (BufferedReader reader = Files.newBufferedReader(path, StandardCharsets.UTF_8)) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                try {
+                    JournalLine entry = objectMapper.readValue(line, JournalLine.class);
+                    if (entry.write() != null) {
+                        pending.put(entry.write().id(), entry.write());
+                    } else if (entry.committed() != null) {
+                        entry.committed().forEach(pending::remove);
+                    }
+                } catch (IOException e) {
+                    // A torn last line from a crash mid-append was never acknowledged to the client
+                    log.warn("Skipping unreadable case write journal line: {}", e.getMessage());
+                }
+            }
+        }
+        return new ArrayList<>(pending.values());
+    }
+
+    public synchronized void appendPending(PendingWrite write) throws IOException {
+        append(new JournalLine(write, null));
+        channel.force(false);
+    }
+
+    public synchronized void appendCommitted(Collection<Long> ids) throws IOException {
+        append(new JournalLine(null, List.copyOf(ids)));
+    }
+
+    public synchronized void truncate() throws IOException {
+        channel.truncate(0);
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        channel.close();
+    }
+
+    private void append(JournalLine line) throws IOException {
+        byte[] json = objectMapper.writeValueAsBytes(line);
+        ByteBuffer buffer = ByteBuffer.allocate(json.length + 1).put(json).put((byte) '\n').flip();
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+    }
+
+    record JournalLine(PendingWrite write, List<Long> committed) {
+    }
+}
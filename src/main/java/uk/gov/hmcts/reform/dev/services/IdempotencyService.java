@@ -0,0 +1,254 @@
+package uk.gov.hmcts.reform.dev.services;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import uk.gov.hmcts.reform.dev.exceptions.IdempotencyConflictException;
+import uk.gov.hmcts.reform.dev.models.IdempotencyRecord;
+import uk.gov.hmcts.reform.dev.repositories.IdempotencyRecordRepository;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+/**
+ * Makes case writes safe to retry with an {@code Idempotency-Key} header.
+ *
+ * <p>The first request with a key runs; concurrent requests with the same key wait for it and get the same
+ * outcome. Successful responses are kept in a bounded in-memory map and in {@code idempotency_record}, so a
+ * retry within the TTL, even after a restart, is answered from the store without running the write again.
+ * Failed executions are not stored, so a retry after an error runs again. Replays carry the original status,
+ * body and headers, such as {@code Location} and {@code Preference-Applied}, apart from the content headers.
+ */
+@Service
+@Slf4j
+public class IdempotencyService {
+
+    public static final String REPLAYED_HEADER = "Idempotent-Replayed";
+    static final int MAX_KEY_LENGTH = 255;
+
+    private static final TypeReference<Map<String, List<String>>> HEADERS_TYPE = new TypeReference<>() {
+    };
+
+    private final IdempotencyRecordRepository idempotencyRecordRepository;
+    private final ObjectMapper objectMapper;
+    private final Duration ttl;
+    private final Duration waitTimeout;
+
+    // Access ordered and bounded, guarded by itself
+    private final Map<String, Entry> entries;
+
+    public IdempotencyService(IdempotencyRecordRepository idempotencyRecordRepository,
+                              ObjectMapper objectMapper,
+                              @Value("${cases.idempotency.ttl:24h}") Duration ttl,
+                              @Value("${cases.idempotency.wait-timeout:30s}") Duration waitTimeout,
+                              @Value("${cases.idempotency.max-entries:10000}") int maxEntries) {
+        this.idempotencyRecordRepository = idempotencyRecordRepository;
+        this.objectMapper = objectMapper;
+        this.ttl = ttl;
+        this.waitTimeout = waitTimeout;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+                // In-flight entries have waiters and no stored copy yet, so they are never evicted
+                return size() > maxEntries && eldest.getValue().result().isDone();
+            }
+        };
+    }
+
+    /**
+     * Runs the write once per caller and key, replaying its stored response to any retry.
+     *
+     * @param key the client's Idempotency-Key
+     * @param operation what the request does, such as {@code POST /cases}, so a key cannot be reused elsewhere
+     * @param request the request body
+     * @param action performs the write
+     */
+    public ResponseEntity<?> execute(String key, String operation, Object request,
+                                     Supplier<ResponseEntity<?>> action) {
+        if (key.isBlank() || key.length() > MAX_KEY_LENGTH) {
+            throw new IllegalArgumentException("Idempotency-Key must be 1-" + MAX_KEY_LENGTH + " characters");
+        }
+        String scopedKey = CaseService.currentActor() + ":" + key;
+        String fingerprint = fingerprint(operation, request);
+
+        CompletableFuture<StoredResponse> owned = new CompletableFuture<>();
+        Entry existing;
+        synchronized (entries) {
+            existing = entries.get(scopedKey);
+            if (existing != null && existing.isExpired()) {
+                entries.remove(scopedKey);
+                existing = null;
+            }
+            if (existing == null) {
+                entries.put(scopedKey, new Entry(fingerprint, owned, LocalDateTime.now().plus(ttl)));
+            }
+        }
+        if (existing != null) {
+            return replay(existing, fingerprint);
+        }
+
+        // From here on this caller owns the entry and must complete it on every path, or duplicates would
+        // wait out the timeout and the entry, never done, could not be evicted
+        Entry restored;
+        try {
+            restored = restore(scopedKey, owned);
+        } catch (RuntimeException e) {
+            abandon(scopedKey, owned, e);
+            throw e;
+        }
+        if (restored != null) {
+            return replay(restored, fingerprint);
+        }
+
+        ResponseEntity<?> response;
+        try {
+            response = action.get();
+        } catch (RuntimeException e) {
+            abandon(scopedKey, owned, e);
+            throw e;
+        }
+        try {
+            owned.complete(store(scopedKey, fingerprint, response));
+        } catch (RuntimeException e) {
+            // The write went through but cannot be replayed, so a retry runs it again
+            log.error("Could not store response for idempotent request", e);
+            abandon(scopedKey, owned, e);
+        }
+        return response;
+    }
+
+    @Scheduled(cron = "${cases.idempotency.cleanup-cron:0 15 * * * *}")
+    public void deleteExpired() {
+        int deleted = idempotencyRecordRepository.deleteExpired(LocalDateTime.now());
+        if (deleted > 0) {
+            log.info("Deleted {} expired idempotency records", deleted);
+        }
+    }
+
+    // A record from before a restart still counts when the key is not known locally
+    private Entry restore(String scopedKey, CompletableFuture<StoredResponse> owned) {
+        Optional<IdempotencyRecord> persisted = idempotencyRecordRepository.findById(scopedKey)
+            .filter(record -> record.getExpiresDate().isAfter(LocalDateTime.now()));
+        if (persisted.isEmpty()) {
+            return null;
+        }
+        IdempotencyRecord record = persisted.get();
+        Map<String, List<String>> headers;
+        try {
+            headers = record.getResponseHeaders() == null
+                ? Map.of() : objectMapper.readValue(record.getResponseHeaders(), HEADERS_TYPE);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Could not read stored idempotency response headers", e);
+        }
+        Entry restored = new Entry(record.getFingerprint(), owned, record.getExpiresDate());
+        synchronized (entries) {
+            entries.put(scopedKey, restored);
+        }
+        owned.complete(new StoredResponse(record.getStatusCode(), headers, record.getResponseBody()));
+        return restored;
+    }
+
+    private void abandon(String scopedKey, CompletableFuture<StoredResponse> owned, RuntimeException cause) {
+        synchronized (entries) {
+            entries.remove(scopedKey);
+        }
+        owned.completeExceptionally(cause);
+    }
+
+    private StoredResponse store(String scopedKey, String fingerprint, ResponseEntity<?> response) {
+        Map<String, List<String>> headers = new LinkedHashMap<>();
+        response.getHeaders().forEach((name, values) -> {
+            // Replays are always JSON, so the original content headers would be wrong
+            if (!HttpHeaders.CONTENT_TYPE.equalsIgnoreCase(name)
+                && !HttpHeaders.CONTENT_LENGTH.equalsIgnoreCase(name)) {
+                headers.put(name, List.copyOf(values));
+            }
+        });
+        StoredResponse stored;
+        String storedHeaders;
+        try {
+            stored = new StoredResponse(response.getStatusCode().value(), headers,
+                                        objectMapper.writeValueAsString(response.getBody()));
+            storedHeaders = objectMapper.writeValueAsString(headers);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Could not serialise response for idempotency store", e);
+        }
+        LocalDateTime now = LocalDateTime.now();
+        try {
+            idempotencyRecordRepository.save(new IdempotencyRecord(
+                scopedKey, fingerprint, stored.status(), storedHeaders, stored.body(), now, now.plus(ttl)));
+        } catch (RuntimeException e) {
+            // The write itself succeeded; the local copy still covers retries to this instance
+            log.warn("Could not persist idempotency record: {}", e.getMessage());
+        }
+        return stored;
+    }
+
+    private ResponseEntity<?> replay(Entry entry, String fingerprint) {
+        if (!entry.fingerprint().equals(fingerprint)) {
+            throw new IdempotencyConflictException("Idempotency-Key was already used for a different request");
+        }
+        StoredResponse stored;
+        try {
+            stored = entry.result().get(waitTimeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            throw new IdempotencyConflictException("A request with this Idempotency-Key is still in progress");
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IdempotencyConflictException("Interrupted waiting for the original request");
+        } catch (ExecutionException e) {
+            // Concurrent duplicates share the first execution's failure rather than running it again
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+        return ResponseEntity.status(HttpStatus.valueOf(stored.status()))
+            .headers(headers -> stored.headers().forEach(headers::addAll))
+            .header(REPLAYED_HEADER, "true")
+            .contentType(MediaType.APPLICATION_JSON)
+            .body(stored.body());
+    }
+
+    private String fingerprint(String operation, Object request) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            digest.update(operation.getBytes(StandardCharsets.UTF_8));
+            digest.update((byte) 0);
+            digest.update(objectMapper.writeValueAsBytes(request));
+            return HexFormat.of().formatHex(digest.digest());
+        } catch (NoSuchAlgorithmException | JsonProcessingException e) {
+            throw new IllegalStateException("Could not fingerprint request", e);
+        }
+    }
+
+    private record Entry(String fingerprint, CompletableFuture<StoredResponse> result, LocalDateTime expiresDate) {
+        boolean isExpired() {
+            return expiresDate.isBefore(LocalDateTime.now());
+        }
+    }
+
+    private record StoredResponse(int status, Map<String, List<String>> headers, String body) {
+    }
+}
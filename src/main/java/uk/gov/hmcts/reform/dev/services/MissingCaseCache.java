@@ -0,0 +1,93 @@
+package uk.gov.hmcts.reform.dev.services;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import uk.gov.hmcts.reform.dev.events.CaseBulkChangeEvent;
+import uk.gov.hmcts.reform.dev.events.CaseChangedEvent;
+
+import java.time.Duration;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Short-lived record of case ids that were looked up and not found, in either the hot or archive table,
+ * so repeated misses for the same id are answered without a query.
+ *
+ * <p>Creating a case removes its id. A lookup that started before a create committed could otherwise
+ * record the id as missing just after that removal, so {@link #markMissing} only records the miss if no
+ * case was created since the caller took its {@link #epoch()}.
+ */
+@Component
+public class MissingCaseCache {
+
+    private final long ttlNanos;
+    private final int maxEntries;
+    private final ConcurrentMap<Long, Long> expiryById = new ConcurrentHashMap<>();
+    private final AtomicLong creations = new AtomicLong();
+
+    public MissingCaseCache(@Value("${cases.negative-cache.ttl:5s}") Duration ttl,
+                            @Value("${cases.negative-cache.max-entries:100000}") int maxEntries) {
+        this.ttlNanos = ttl.toNanos();
+        this.maxEntries = maxEntries;
+    }
+
+    public boolean isMissing(Long id) {
+        Long expiresAt = expiryById.get(id);
+        if (expiresAt == null) {
+            return false;
+        }
+        if (expiresAt - System.nanoTime() < 0) {
+            expiryById.remove(id, expiresAt);
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * Taken before the lookup whose miss is later passed to {@link #markMissing}.
+     */
+    public long epoch() {
+        return creations.get();
+    }
+
+    public void markMissing(Long id, long epoch) {
+        if (ttlNanos <= 0) {
+            return;
+        }
+        if (expiryById.size() >= maxEntries) {
+            // A scan over ever-new ids would grow this without bound; starting over is cheap and rare
+            expiryById.clear();
+        }
+        expiryById.put(id, System.nanoTime() + ttlNanos);
+        if (creations.get() != epoch) {
+            expiryById.remove(id);
+        }
+    }
+
+    public void evict(Long id) {
+        expiryById.remove(id);
+    }
+
+    public int size() {
+        return expiryById.size();
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onCaseChanged(CaseChangedEvent event) {
+        if (event.getType() == CaseChangedEvent.Type.CREATED) {
+            creations.incrementAndGet();
+            evict(event.getCaseId());
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onCaseBulkChanged(CaseBulkChangeEvent event) {
+        if (event.getType() == CaseChangedEvent.Type.CREATED) {
+            creations.incrementAndGet();
+            event.getCaseIds().forEach(this::evict);
+        }
+    }
+}
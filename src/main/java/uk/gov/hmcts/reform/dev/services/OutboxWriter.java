@@ -0,0 +1,47 @@
+package uk.gov.hmcts.reform.dev.services;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import uk.gov.hmcts.reform.dev.events.CaseBulkChangeEvent;
+import uk.gov.hmcts.reform.dev.events.CaseChangedEvent;
+import uk.gov.hmcts.reform.dev.models.OutboxEvent;
+import uk.gov.hmcts.reform.dev.repositories.OutboxEventRepository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+
+/**
+ * Adds an outbox row for each case change before the write transaction commits, so a
+ * notification is queued if and only if the change itself is committed.
+ */
+@Component
+@RequiredArgsConstructor
+public class OutboxWriter {
+
+    private static final String INSERT_SQL =
+        "insert into case_outbox (case_id, event_type, created_date) values (?, ?, ?)";
+    private static final int BATCH_SIZE = 500;
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final JdbcTemplate jdbcTemplate;
+
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
+    public void onCaseChanged(CaseChangedEvent event) {
+        outboxEventRepository.save(new OutboxEvent(null, event.getCaseId(), event.getType(), LocalDateTime.now()));
+    }
+
+    // Identity ids stop Hibernate from batching inserts, so bulk changes go through JDBC directly
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
+    public void onCaseBulkChanged(CaseBulkChangeEvent event) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        String type = event.getType().name();
+        jdbcTemplate.batchUpdate(INSERT_SQL, event.getCaseIds(), BATCH_SIZE, (ps, caseId) -> {
+            ps.setLong(1, caseId);
+            ps.setString(2, type);
+            ps.setTimestamp(3, now);
+        });
+    }
+}
@@ -0,0 +1,11 @@
+package uk.gov.hmcts.reform.dev.services;
+
+import uk.gov.hmcts.reform.dev.dto.CaseRequest;
+
+import java.time.LocalDateTime;
+
+/**
+ * A validated create waiting for the write-behind writer, with the id it will be inserted under.
+ */
+public record PendingWrite(long id, CaseRequest request, String actor, LocalDateTime acceptedDate) {
+}
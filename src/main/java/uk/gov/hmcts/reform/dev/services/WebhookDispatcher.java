@@ -0,0 +1,288 @@
+package uk.gov.hmcts.reform.dev.services;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import uk.gov.hmcts.reform.dev.dto.WebhookNotification;
+import uk.gov.hmcts.reform.dev.events.CaseChangedEvent;
+import uk.gov.hmcts.reform.dev.exceptions.CaseUpdateException;
+import uk.gov.hmcts.reform.dev.models.Case;
+import uk.gov.hmcts.reform.dev.models.OutboxEvent;
+import uk.gov.hmcts.reform.dev.models.WebhookDelivery;
+import uk.gov.hmcts.reform.dev.models.WebhookSubscription;
+import uk.gov.hmcts.reform.dev.repositories.CaseRepository;
+import uk.gov.hmcts.reform.dev.repositories.OutboxEventRepository;
+import uk.gov.hmcts.reform.dev.repositories.WebhookDeliveryRepository;
+import uk.gov.hmcts.reform.dev.repositories.WebhookSubscriptionRepository;
+import uk.gov.hmcts.reform.dev.utils.CaseMapper;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Semaphore;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Drains the case outbox in batches and POSTs each change to every active webhook.
+ *
+ * <p>Several changes to the same case within a batch are coalesced into one notification carrying
+ * the case's current state. Each notification is tried once per subscriber as the batch is sent; any a
+ * subscriber does not accept is stored as a {@link WebhookDelivery} and retried on later runs with
+ * exponential backoff, so delivery is at least once and one failing endpoint never holds up the outbox.
+ * A retried notification can arrive after a newer one for the same case, so subscribers should order by
+ * {@code occurredAt}. After {@code webhooks.max-attempts} a delivery is dead-lettered and kept for
+ * inspection. This assumes a single dispatching instance; running several would need the batch claimed
+ * with {@code FOR UPDATE SKIP LOCKED}.
+ */
+@Service
+@Slf4j
+public class WebhookDispatcher {
+
+    // Backoff doubles per attempt up to this many times
+    private static final int MAX_BACKOFF_DOUBLINGS = 10;
+    private static final int MAX_ERROR_LENGTH = 500;
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final WebhookSubscriptionRepository webhookSubscriptionRepository;
+    private final WebhookDeliveryRepository webhookDeliveryRepository;
+    private final CaseRepository caseRepository;
+    private final ObjectMapper objectMapper;
+    private final HttpClient httpClient;
+    private final Semaphore permits;
+    private final int batchSize;
+    private final int maxAttempts;
+    private final Duration initialBackoff;
+    private final Duration requestTimeout;
+
+    public WebhookDispatcher(OutboxEventRepository outboxEventRepository,
+                             WebhookSubscriptionRepository webhookSubscriptionRepository,
+                             WebhookDeliveryRepository webhookDeliveryRepository,
+                             CaseRepository caseRepository,
+                             ObjectMapper objectMapper,
+                             @Value("${webhooks.batch-size:200}") int batchSize,
+                             @Value("${webhooks.max-concurrency:16}") int maxConcurrency,
+                             @Value("${webhooks.max-attempts:10}") int maxAttempts,
+                             @Value("${webhooks.initial-backoff:30s}") Duration initialBackoff,
+                             @Value("${webhooks.request-timeout:5s}") Duration requestTimeout) {
+        this.outboxEventRepository = outboxEventRepository;
+        this.webhookSubscriptionRepository = webhookSubscriptionRepository;
+        this.webhookDeliveryRepository = webhookDeliveryRepository;
+        this.caseRepository = caseRepository;
+        this.objectMapper = objectMapper;
+        this.batchSize = batchSize;
+        this.maxAttempts = maxAttempts;
+        this.initialBackoff = initialBackoff;
+        this.requestTimeout = requestTimeout;
+        this.permits = new Semaphore(maxConcurrency);
+        this.httpClient = HttpClient.newBuilder()
+            .connectTimeout(requestTimeout)
+            .build();
+    }
+
+    @Scheduled(fixedDelayString = "${webhooks.dispatch-interval-ms:1000}")
+    public void dispatchPending() {
+        retryDue();
+        int drained;
+        do {
+            drained = dispatchBatch();
+        } while (drained == batchSize);
+    }
+
+    public int dispatchBatch() {
+        List<OutboxEvent> batch = outboxEventRepository.findAllByOrderByIdAsc(PageRequest.of(0, batchSize));
+        if (batch.isEmpty()) {
+            return 0;
+        }
+
+        List<WebhookSubscription> subscriptions = webhookSubscriptionRepository.findByActiveTrue();
+        if (!subscriptions.isEmpty()) {
+            List<WebhookNotification> notifications = coalesce(batch);
+            List<WebhookDelivery> deliveries = new ArrayList<>();
+            List<CompletableFuture<String>> outcomes = new ArrayList<>();
+            for (WebhookNotification notification : notifications) {
+                String payload = serialise(notification);
+                for (WebhookSubscription subscription : subscriptions) {
+                    WebhookDelivery delivery = new WebhookDelivery();
+                    delivery.setSubscriptionId(subscription.getId());
+                    delivery.setUrl(subscription.getUrl());
+                    delivery.setPayload(payload);
+                    delivery.setCreatedDate(LocalDateTime.now());
+                    deliveries.add(delivery);
+                    outcomes.add(send(delivery));
+                }
+            }
+            // One attempt each, bounded by the request timeout; retries wait for later runs
+            CompletableFuture.allOf(outcomes.toArray(CompletableFuture[]::new)).join();
+
+            List<WebhookDelivery> failed = new ArrayList<>();
+            for (int i = 0; i < deliveries.size(); i++) {
+                String error = outcomes.get(i).join();
+                if (error != null) {
+                    recordFailure(deliveries.get(i), error);
+                    failed.add(deliveries.get(i));
+                }
+            }
+            if (!failed.isEmpty()) {
+                // Stored before the outbox rows go, so a crash in between repeats rather than loses them
+                webhookDeliveryRepository.saveAll(failed);
+            }
+            log.info("Dispatched {} case notifications to {} webhooks from {} outbox events, {} to retry",
+                     notifications.size(), subscriptions.size(), batch.size(), failed.size());
+        }
+
+        outboxEventRepository.deleteAllByIdInBatch(batch.stream().map(OutboxEvent::getId).toList());
+        return batch.size();
+    }
+
+    /**
+     * Retries stored deliveries whose backoff has passed, deleting those now accepted and dropping those
+     * whose subscription has since been removed or deactivated.
+     */
+    public int retryDue() {
+        List<WebhookDelivery> due = webhookDeliveryRepository
+            .findByDeadLetteredFalseAndNextAttemptDateLessThanEqualOrderByIdAsc(
+                LocalDateTime.now(), PageRequest.of(0, batchSize));
+        if (due.isEmpty()) {
+            return 0;
+        }
+
+        Set<Long> active = webhookSubscriptionRepository.findByActiveTrue().stream()
+            .map(WebhookSubscription::getId)
+            .collect(Collectors.toSet());
+        List<Long> finished = new ArrayList<>();
+        List<WebhookDelivery> retried = new ArrayList<>();
+        List<CompletableFuture<String>> outcomes = new ArrayList<>();
+        for (WebhookDelivery delivery : due) {
+            if (active.contains(delivery.getSubscriptionId())) {
+                retried.add(delivery);
+                outcomes.add(send(delivery));
+            } else {
+                finished.add(delivery.getId());
+            }
+        }
+        CompletableFuture.allOf(outcomes.toArray(CompletableFuture[]::new)).join();
+
+        List<WebhookDelivery> failed = new ArrayList<>();
+        for (int i = 0; i < retried.size(); i++) {
+            String error = outcomes.get(i).join();
+            if (error == null) {
+                finished.add(retried.get(i).getId());
+            } else {
+                recordFailure(retried.get(i), error);
+                failed.add(retried.get(i));
+            }
+        }
+        if (!finished.isEmpty()) {
+            webhookDeliveryRepository.deleteAllByIdInBatch(finished);
+        }
+        if (!failed.isEmpty()) {
+            webhookDeliveryRepository.saveAll(failed);
+        }
+        log.info("Retried {} webhook deliveries, {} still failing", retried.size(), failed.size());
+        return due.size();
+    }
+
+    List<WebhookNotification> coalesce(List<OutboxEvent> batch) {
+        Map<Long, List<OutboxEvent>> eventsByCase = batch.stream()
+            .collect(Collectors.groupingBy(OutboxEvent::getCaseId, LinkedHashMap::new, Collectors.toList()));
+
+        Map<Long, Case> currentState = caseRepository.findAllById(eventsByCase.keySet()).stream()
+            .collect(Collectors.toMap(Case::getId, Function.identity()));
+
+        List<WebhookNotification> notifications = new ArrayList<>();
+        eventsByCase.forEach((caseId, events) -> {
+            CaseChangedEvent.Type first = events.get(0).getEventType();
+            OutboxEvent last = events.get(events.size() - 1);
+            CaseChangedEvent.Type type;
+            if (last.getEventType() == CaseChangedEvent.Type.DELETED) {
+                if (first == CaseChangedEvent.Type.CREATED) {
+                    return; // created and deleted before anyone was told about it
+                }
+                type = CaseChangedEvent.Type.DELETED;
+            } else {
+                type = first == CaseChangedEvent.Type.CREATED ? CaseChangedEvent.Type.CREATED
+                    : CaseChangedEvent.Type.UPDATED;
+            }
+
+            Case current = currentState.get(caseId);
+            if (type != CaseChangedEvent.Type.DELETED && current == null) {
+                return; // deleted since, a later DELETED event will follow
+            }
+            notifications.add(WebhookNotification.builder()
+                .eventType(type)
+                .caseId(caseId)
+                .caseDetails(type == CaseChangedEvent.Type.DELETED ? null : CaseMapper.toResponse(current))
+                .occurredAt(last.getCreatedDate())
+                .build());
+        });
+        return notifications;
+    }
+
+    /**
+     * Completes with {@code null} once the subscriber accepts the notification, or with the reason it did
+     * not.
+     */
+    private CompletableFuture<String> send(WebhookDelivery delivery) {
+        HttpRequest request;
+        try {
+            request = HttpRequest.newBuilder(URI.create(delivery.getUrl()))
+                .timeout(requestTimeout)
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(delivery.getPayload()))
+                .build();
+        } catch (IllegalArgumentException e) {
+            // Fails like an unreachable subscriber, so one bad URL cannot hold up the rest of the batch
+            return CompletableFuture.completedFuture("Invalid webhook URL: " + e.getMessage());
+        }
+
+        permits.acquireUninterruptibly();
+        return httpClient.sendAsync(request, HttpResponse.BodyHandlers.discarding())
+            .handle((response, error) -> {
+                permits.release();
+                if (error != null) {
+                    return String.valueOf(error.getMessage());
+                }
+                if (response.statusCode() / 100 != 2) {
+                    return "HTTP " + response.statusCode();
+                }
+                return null;
+            });
+    }
+
+    private void recordFailure(WebhookDelivery delivery, String error) {
+        int attempts = delivery.getAttempts() + 1;
+        delivery.setAttempts(attempts);
+        delivery.setLastError(error.length() > MAX_ERROR_LENGTH ? error.substring(0, MAX_ERROR_LENGTH) : error);
+        if (attempts >= maxAttempts) {
+            delivery.setDeadLettered(true);
+            log.error("Giving up on webhook delivery to {} after {} attempts: {}", delivery.getUrl(), attempts, error);
+            return;
+        }
+        Duration backoff = initialBackoff.multipliedBy(1L << Math.min(attempts - 1, MAX_BACKOFF_DOUBLINGS));
+        delivery.setNextAttemptDate(LocalDateTime.now().plus(backoff));
+        log.warn("Webhook delivery to {} failed (attempt {}), retrying in {}: {}",
+                 delivery.getUrl(), attempts, backoff, error);
+    }
+
+    private String serialise(WebhookNotification notification) {
+        try {
+            return objectMapper.writeValueAsString(notification);
+        } catch (JsonProcessingException e) {
+            throw new CaseUpdateException("Failed to serialise webhook notification", e);
+        }
+    }
+}
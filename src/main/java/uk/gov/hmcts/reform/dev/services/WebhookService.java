@@ -0,0 +1,78 @@
+package uk.gov.hmcts.reform.dev.services;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import uk.gov.hmcts.reform.dev.dto.WebhookRequest;
+import uk.gov.hmcts.reform.dev.dto.WebhookResponse;
+import uk.gov.hmcts.reform.dev.exceptions.WebhookNotFoundException;
+import uk.gov.hmcts.reform.dev.models.WebhookSubscription;
+import uk.gov.hmcts.reform.dev.repositories.WebhookSubscriptionRepository;
+
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class WebhookService {
+
+    private final WebhookSubscriptionRepository webhookSubscriptionRepository;
+
+    public List<WebhookResponse> getAllWebhooks() {
+        return webhookSubscriptionRepository.findAll().stream()
+            .map(WebhookService::toResponse)
+            .toList();
+    }
+
+    // Registering a URL that already exists re-activates it rather than failing
+    @Transactional
+    public WebhookResponse registerWebhook(WebhookRequest request) {
+        log.info("Registering webhook: {}", request.getUrl());
+        validateUrl(request.getUrl());
+        WebhookSubscription subscription = webhookSubscriptionRepository.findByUrl(request.getUrl())
+            .orElseGet(() -> {
+                WebhookSubscription created = new WebhookSubscription();
+                created.setUrl(request.getUrl());
+                created.setCreatedDate(LocalDateTime.now());
+                return created;
+            });
+        subscription.setActive(true);
+        return toResponse(webhookSubscriptionRepository.save(subscription));
+    }
+
+    @Transactional
+    public void deleteWebhook(Long id) {
+        log.info("Deleting webhook with id: {}", id);
+        if (!webhookSubscriptionRepository.existsById(id)) {
+            throw new WebhookNotFoundException(id);
+        }
+        webhookSubscriptionRepository.deleteById(id);
+    }
+
+    // The pattern on WebhookRequest lets through URLs the HTTP client cannot send to, such as hosts with '_'
+    private static void validateUrl(String url) {
+        URI uri;
+        try {
+            uri = new URI(url);
+        } catch (URISyntaxException e) {
+            throw new IllegalArgumentException("URL must be an absolute http or https URL");
+        }
+        if (!("http".equalsIgnoreCase(uri.getScheme()) || "https".equalsIgnoreCase(uri.getScheme()))
+            || uri.getHost() == null) {
+            throw new IllegalArgumentException("URL must be an absolute http or https URL with a valid host");
+        }
+    }
+
+    private static WebhookResponse toResponse(WebhookSubscription subscription) {
+        return WebhookResponse.builder()
+            .id(subscription.getId())
+            .url(subscription.getUrl())
+            .active(subscription.isActive())
+            .createdDate(subscription.getCreatedDate())
+            .build();
+    }
+}
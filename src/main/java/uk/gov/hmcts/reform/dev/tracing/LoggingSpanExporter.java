@@ -0,0 +1,35 @@
+package uk.gov.hmcts.reform.dev.tracing;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * Writes each span as one JSON line to the {@code tracing.spans} logger, for use without a collector.
+ * Route that logger to its own file to keep spans out of the application log.
+ */
+@Component
+@ConditionalOnProperty(name = "tracing.exporter", havingValue = "log", matchIfMissing = true)
+@RequiredArgsConstructor
+public class LoggingSpanExporter implements SpanExporter {
+
+    private static final Logger SPANS = LoggerFactory.getLogger("tracing.spans");
+
+    private final ObjectMapper objectMapper;
+
+    @Override
+    public void export(SpanData span) {
+        if (!SPANS.isInfoEnabled()) {
+            return;
+        }
+        try {
+            SPANS.info(objectMapper.writeValueAsString(span));
+        } catch (JsonProcessingException e) {
+            SPANS.warn("Could not serialise span {}: {}", span.name(), e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,32 @@
+package uk.gov.hmcts.reform.dev.tracing;
+
+import java.util.HexFormat;
+
+/**
+ * Parent-based ratio sampling: a trace that arrives with a sampling decision keeps it, so one request is
+ * traced end to end across services or not at all, and new traces are sampled by a hash of the trace id
+ * so every service makes the same call for the same id.
+ */
+public final class Sampler {
+
+    private final long threshold;
+
+    public Sampler(double ratio) {
+        if (ratio < 0 || ratio > 1) {
+            throw new IllegalArgumentException("Sample ratio must be between 0 and 1");
+        }
+        this.threshold = ratio >= 1 ? Long.MAX_VALUE : (long) (ratio * Long.MAX_VALUE);
+    }
+
+    public boolean shouldSample(TraceContext parent, String traceId) {
+        if (parent != null) {
+            return parent.sampled();
+        }
+        if (threshold == Long.MAX_VALUE) {
+            return true;
+        }
+        // Low 63 bits of the trace id, as OpenTelemetry's TraceIdRatioBased sampler does
+        long bits = HexFormat.fromHexDigitsToLong(traceId, 16, 32) & Long.MAX_VALUE;
+        return bits < threshold;
+    }
+}
@@ -0,0 +1,88 @@
+package uk.gov.hmcts.reform.dev.tracing;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * A timed unit of work. Spans are started by {@link Tracer}, become the thread's current span, and must be
+ * ended on the same thread, in reverse order of starting, typically in a finally block.
+ *
+ * <p>Unsampled spans carry their context for propagation but record nothing, and their children are the
+ * shared {@link #NOOP} span, so untraced requests cost a few allocations at most.
+ */
+public final class Span {
+
+    public static final Span NOOP = new Span(null, null, null, null, null, false, null);
+
+    private final Tracer tracer;
+    private final TraceContext context;
+    private final String parentSpanId;
+    private final String name;
+    private final SpanKind kind;
+    private final boolean recording;
+    private final Span previous;
+    private final long startNanos;
+    private final long startEpochMicros;
+    private Map<String, Object> attributes;
+    private boolean error;
+    private boolean ended;
+
+    Span(Tracer tracer, TraceContext context, String parentSpanId, String name, SpanKind kind,
+         boolean recording, Span previous) {
+        this.tracer = tracer;
+        this.context = context;
+        this.parentSpanId = parentSpanId;
+        this.name = name;
+        this.kind = kind;
+        this.recording = recording;
+        this.previous = previous;
+        this.startNanos = recording ? System.nanoTime() : 0;
+        this.startEpochMicros = recording ? Tracer.epochMicros() : 0;
+    }
+
+    public TraceContext getContext() {
+        return context;
+    }
+
+    public boolean isRecording() {
+        return recording;
+    }
+
+    public Span setAttribute(String key, Object value) {
+        if (recording) {
+            if (attributes == null) {
+                attributes = new LinkedHashMap<>();
+            }
+            attributes.put(key, value);
+        }
+        return this;
+    }
+
+    public Span recordError(Throwable throwable) {
+        if (recording) {
+            error = true;
+            setAttribute("exception.type", throwable.getClass().getName());
+            setAttribute("exception.message", throwable.getMessage());
+        }
+        return this;
+    }
+
+    public void end() {
+        if (this == NOOP || ended) {
+            return;
+        }
+        ended = true;
+        tracer.end(this);
+    }
+
+    Span getPrevious() {
+        return previous;
+    }
+
+    SpanData toData() {
+        return new SpanData(context.traceId(), context.spanId(), parentSpanId, name, kind, startEpochMicros,
+                            (System.nanoTime() - startNanos) / 1_000,
+                            error, attributes == null ? Collections.emptyMap() : attributes);
+    }
+}
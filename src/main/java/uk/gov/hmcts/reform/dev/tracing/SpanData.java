@@ -0,0 +1,18 @@
+package uk.gov.hmcts.reform.dev.tracing;
+
+import java.util.Map;
+
+/**
+ * A finished span as handed to a {@link SpanExporter}. Field names follow OpenTelemetry's so exported
+ * spans can be loaded into standard tooling with little mapping.
+ */
+public record SpanData(String traceId,
+                       String spanId,
+                       String parentSpanId,
+                       String name,
+                       SpanKind kind,
+                       long startEpochMicros,
+                       long durationMicros,
+                       boolean error,
+                       Map<String, Object> attributes) {
+}
@@ -0,0 +1,10 @@
+package uk.gov.hmcts.reform.dev.tracing;
+
+/**
+ * Receives each sampled span when it ends, on the thread that ended it, so implementations must be quick
+ * or hand off. Every exporter bean in the context is called.
+ */
+public interface SpanExporter {
+
+    void export(SpanData span);
+}
@@ -0,0 +1,7 @@
+package uk.gov.hmcts.reform.dev.tracing;
+
+public enum SpanKind {
+    SERVER,
+    INTERNAL,
+    CLIENT
+}
@@ -0,0 +1,105 @@
+package uk.gov.hmcts.reform.dev.tracing;
+
+import lombok.extern.slf4j.Slf4j;
+import org.slf4j.MDC;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+
+/**
+ * Starts spans and tracks the current one per thread.
+ *
+ * <p>Only {@link TracingFilter} starts traces. Everything below it, service methods and JDBC statements,
+ * only adds children to an existing sampled trace, so background jobs and unsampled requests pay a
+ * thread-local read per instrumented call and nothing more.
+ */
+@Component
+@Slf4j
+public class Tracer {
+
+    static final String MDC_TRACE_ID = "traceId";
+    static final String MDC_SPAN_ID = "spanId";
+
+    private final ThreadLocal<Span> current = new ThreadLocal<>();
+    private final List<SpanExporter> exporters;
+    private final Sampler sampler;
+    private final boolean enabled;
+
+    public Tracer(ObjectProvider<SpanExporter> exporters,
+                  @Value("${tracing.enabled:true}") boolean enabled,
+                  @Value("${tracing.sample-ratio:0.05}") double sampleRatio) {
+        this.exporters = exporters.orderedStream().toList();
+        this.enabled = enabled;
+        this.sampler = new Sampler(sampleRatio);
+    }
+
+    /**
+     * Starts the root span of this process's part of a trace, continuing {@code remoteParent} if the
+     * caller sent one.
+     */
+    public Span startServerSpan(String name, TraceContext remoteParent) {
+        if (!enabled) {
+            return Span.NOOP;
+        }
+        String traceId = remoteParent == null ? TraceContext.newTraceId() : remoteParent.traceId();
+        boolean sampled = sampler.shouldSample(remoteParent, traceId);
+        TraceContext context = new TraceContext(traceId, TraceContext.newSpanId(), sampled);
+        Span span = new Span(this, context, remoteParent == null ? null : remoteParent.spanId(), name,
+                             SpanKind.SERVER, sampled, current.get());
+        current.set(span);
+        MDC.put(MDC_TRACE_ID, traceId);
+        MDC.put(MDC_SPAN_ID, context.spanId());
+        return span;
+    }
+
+    /**
+     * Starts a child of the current span, or returns {@link Span#NOOP} when there is no sampled trace.
+     */
+    public Span startSpan(String name, SpanKind kind) {
+        Span parent = current.get();
+        if (parent == null || !parent.isRecording()) {
+            return Span.NOOP;
+        }
+        TraceContext parentContext = parent.getContext();
+        TraceContext context = new TraceContext(parentContext.traceId(), TraceContext.newSpanId(), true);
+        Span span = new Span(this, context, parentContext.spanId(), name, kind, true, parent);
+        current.set(span);
+        return span;
+    }
+
+    public Span currentSpan() {
+        Span span = current.get();
+        return span == null ? Span.NOOP : span;
+    }
+
+    void end(Span span) {
+        Span previous = span.getPrevious();
+        if (previous == null) {
+            current.remove();
+            MDC.remove(MDC_TRACE_ID);
+            MDC.remove(MDC_SPAN_ID);
+        } else {
+            current.set(previous);
+        }
+        if (!span.isRecording()) {
+            return;
+        }
+        SpanData data = span.toData();
+        for (SpanExporter exporter : exporters) {
+            try {
+                exporter.export(data);
+            } catch (RuntimeException e) {
+                log.debug("Span exporter {} failed: {}", exporter.getClass().getSimpleName(), e.getMessage());
+            }
+        }
+    }
+
+    static long epochMicros() {
+        Instant now = Instant.now();
+        return ChronoUnit.MICROS.between(Instant.EPOCH, now);
+    }
+}
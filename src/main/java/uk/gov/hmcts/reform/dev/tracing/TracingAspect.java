@@ -0,0 +1,38 @@
+package uk.gov.hmcts.reform.dev.tracing;
+
+import lombok.RequiredArgsConstructor;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.stereotype.Component;
+
+/**
+ * A span per public {@code CaseController} endpoint and {@code CaseService} method, named
+ * {@code Class.method}. Calls made outside a sampled request are not traced.
+ */
+@Aspect
+@Component
+@RequiredArgsConstructor
+public class TracingAspect {
+
+    private final Tracer tracer;
+
+    @Around("execution(public * uk.gov.hmcts.reform.dev.controllers.CaseController.*(..))"
+        + " || execution(public * uk.gov.hmcts.reform.dev.services.CaseService.*(..))")
+    public Object trace(ProceedingJoinPoint joinPoint) throws Throwable {
+        if (!tracer.currentSpan().isRecording()) {
+            return joinPoint.proceed();
+        }
+        String name = joinPoint.getSignature().getDeclaringType().getSimpleName()
+            + "." + joinPoint.getSignature().getName();
+        Span span = tracer.startSpan(name, SpanKind.INTERNAL);
+        try {
+            return joinPoint.proceed();
+        } catch (Throwable e) {
+            span.recordError(e);
+            throw e;
+        } finally {
+            span.end();
+        }
+    }
+}
@@ -0,0 +1,44 @@
+package uk.gov.hmcts.reform.dev.tracing;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+/**
+ * Opens the server span for each request, continuing the caller's trace from its {@code traceparent}
+ * header. Runs just after request diagnostics and ahead of Spring Security, so authentication is inside
+ * the span.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 1)
+@RequiredArgsConstructor
+public class TracingFilter extends OncePerRequestFilter {
+
+    private final Tracer tracer;
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+        throws ServletException, IOException {
+        TraceContext parent = TraceContext.parse(request.getHeader(TraceContext.TRACEPARENT));
+        Span span = tracer.startServerSpan(request.getMethod() + " " + request.getRequestURI(), parent);
+        span.setAttribute("http.method", request.getMethod())
+            .setAttribute("http.target", request.getRequestURI());
+        try {
+            chain.doFilter(request, response);
+        } catch (IOException | ServletException | RuntimeException e) {
+            span.recordError(e);
+            throw e;
+        } finally {
+            span.setAttribute("http.status_code", response.getStatus());
+            span.end();
+        }
+    }
+}
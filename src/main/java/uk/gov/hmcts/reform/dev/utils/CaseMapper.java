@@ -3,9 +3,13 @@ package uk.gov.hmcts.reform.dev.utils;
 import lombok.extern.slf4j.Slf4j;
 import uk.gov.hmcts.reform.dev.dto.CaseRequest;
 import uk.gov.hmcts.reform.dev.dto.CaseResponse;
+import uk.gov.hmcts.reform.dev.models.ArchivedCase;
 import uk.gov.hmcts.reform.dev.models.Case;
 
 import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 
 @Slf4j
@@ -25,6 +29,9 @@ public class CaseMapper {
         caseEntity.setDescription(request.getDescription());
         caseEntity.setStatus(request.getStatus());
         caseEntity.setCreatedDate(LocalDateTime.now());
+        if (request.getStatus() != null && request.getStatus().isTerminal()) {
+            caseEntity.setClosedDate(caseEntity.getCreatedDate());
+        }
         return caseEntity;
     }
 
@@ -42,6 +49,57 @@ public class CaseMapper {
             .build();
     }
 
+    public static CaseResponse toResponse(ArchivedCase archivedCase) {
+        Objects.requireNonNull(archivedCase, "Archived case cannot be null");
+
+        log.debug("Converting Archived Case to Response: {}", archivedCase.getCaseNumber());
+        return CaseResponse.builder()
+            .id(archivedCase.getId())
+            .caseNumber(archivedCase.getCaseNumber())
+            .title(archivedCase.getTitle())
+            .description(archivedCase.getDescription())
+            .status(archivedCase.getStatus())
+            .createdDate(archivedCase.getCreatedDate())
+            .build();
+    }
+
+    /**
+     * The named properties of a response, in the order given, matching what a {@code fields=} projection
+     * returns for a live case.
+     */
+    public static Map<String, Object> toFields(CaseResponse response, List<String> fields) {
+        Objects.requireNonNull(response, "Case response cannot be null");
+
+        Map<String, Object> selected = new LinkedHashMap<>();
+        for (String field : fields) {
+            selected.put(field, switch (field) {
+                case "id" -> response.getId();
+                case "caseNumber" -> response.getCaseNumber();
+                case "title" -> response.getTitle();
+                case "description" -> response.getDescription();
+                case "status" -> response.getStatus();
+                case "createdDate" -> response.getCreatedDate();
+                default -> throw new IllegalArgumentException("Unknown case field: " + field);
+            });
+        }
+        return selected;
+    }
+
+    public static ArchivedCase toArchive(Case caseEntity, LocalDateTime archivedDate) {
+        Objects.requireNonNull(caseEntity, "Case entity cannot be null");
+
+        ArchivedCase archivedCase = new ArchivedCase();
+        archivedCase.setId(caseEntity.getId());
+        archivedCase.setCaseNumber(caseEntity.getCaseNumber());
+        archivedCase.setTitle(caseEntity.getTitle());
+        archivedCase.setDescription(caseEntity.getDescription());
+        archivedCase.setStatus(caseEntity.getStatus());
+        archivedCase.setCreatedDate(caseEntity.getCreatedDate());
+        archivedCase.setClosedDate(caseEntity.getClosedDate());
+        archivedCase.setArchivedDate(archivedDate);
+        return archivedCase;
+    }
+
     public static void updateEntityFromRequest(Case existingCase, CaseRequest request) {
         Objects.requireNonNull(existingCase, "Existing case cannot be null");
         Objects.requireNonNull(request, "CaseRequest cannot be null");
@@ -51,5 +109,10 @@ public class CaseMapper {
         existingCase.setTitle(request.getTitle());
         existingCase.setDescription(request.getDescription());
         existingCase.setStatus(request.getStatus());
+        if (request.getStatus() == null || !request.getStatus().isTerminal()) {
+            existingCase.setClosedDate(null);
+        } else if (existingCase.getClosedDate() == null) {
+            existingCase.setClosedDate(LocalDateTime.now());
+        }
     }
 }
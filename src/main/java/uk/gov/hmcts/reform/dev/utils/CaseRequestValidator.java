@@ -0,0 +1,46 @@
+package uk.gov.hmcts.reform.dev.utils;
+
+import uk.gov.hmcts.reform.dev.dto.CaseRequest;
+
+import java.util.regex.Pattern;
+
+/**
+ * Business rules for a case request, shared by the single-case endpoints and the CSV import.
+ * Throws {@link IllegalArgumentException} describing the first rule broken.
+ */
+public final class CaseRequestValidator {
+
+    private static final Pattern CASE_NUMBER_PATTERN = Pattern.compile("^[A-Z0-9]{2,20}$");
+
+    private CaseRequestValidator() {
+        // Private constructor to prevent instantiation
+    }
+
+    public static void validate(CaseRequest request) {
+        if (request == null) {
+            throw new IllegalArgumentException("Case request cannot be null");
+        }
+        if (request.getCaseNumber() == null || request.getCaseNumber().trim().isEmpty()) {
+            throw new IllegalArgumentException("Case number is required");
+        }
+        // Add case number format validation
+        if (!CASE_NUMBER_PATTERN.matcher(request.getCaseNumber()).matches()) {
+            throw new IllegalArgumentException("Case number must be 2-20 characters long and "
+                                                   + "contain only uppercase letters and numbers");
+        }
+        if (request.getTitle() == null || request.getTitle().trim().isEmpty()) {
+            throw new IllegalArgumentException("Case title is required");
+        }
+        // Add title length validation
+        if (request.getTitle().length() < 3 || request.getTitle().length() > 100) {
+            throw new IllegalArgumentException("Title must be between 3 and 100 characters");
+        }
+        if (request.getStatus() == null) {
+            throw new IllegalArgumentException("Case status is required");
+        }
+        // Add description length validation if description is present
+        if (request.getDescription() != null && request.getDescription().length() > 500) {
+            throw new IllegalArgumentException("Description cannot exceed 500 characters");
+        }
+    }
+}
@@ -0,0 +1,44 @@
+package uk.gov.hmcts.reform.dev.utils;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * Opaque delta sync position: the change sequence, whether the last change returned was a
+ * deletion, and the id it was keyed on. Ordering is (changeSeq, upserts before deletes, id).
+ */
+public record ChangeToken(long changeSeq, boolean deletion, long id) {
+
+    public static final ChangeToken START = new ChangeToken(-1, false, 0);
+
+    public static ChangeToken parse(String token) {
+        if (token == null || token.isBlank()) {
+            return START;
+        }
+        try {
+            String[] parts = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8).split(":");
+            if (parts.length != 3) {
+                throw new IllegalArgumentException("Invalid sync token");
+            }
+            return new ChangeToken(Long.parseLong(parts[0]), "d".equals(parts[1]), Long.parseLong(parts[2]));
+        } catch (IllegalArgumentException e) {
+            // NumberFormatException and bad Base64 both end up here
+            throw new IllegalArgumentException("Invalid sync token", e);
+        }
+    }
+
+    public String encode() {
+        String raw = changeSeq + ":" + (deletion ? "d" : "u") + ":" + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    // Upserts at this token's sequence with a greater id still need returning
+    public long caseIdAfter() {
+        return deletion ? Long.MAX_VALUE : id;
+    }
+
+    // Deletions at this token's sequence with a greater tombstone id still need returning
+    public long tombstoneIdAfter() {
+        return deletion ? id : 0;
+    }
+}
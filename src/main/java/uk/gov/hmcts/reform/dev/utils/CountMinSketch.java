@@ -0,0 +1,77 @@
+package uk.gov.hmcts.reform.dev.utils;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Approximate per-key counts in fixed memory. Each key increments one counter in each of {@code depth}
+ * rows and its estimate is the smallest of those, so estimates never undercount and overcount by at most
+ * about {@code 2 * total / width} with high probability. Counters are updated with CAS rather than locks,
+ * so concurrent increments on different keys rarely contend.
+ */
+public final class CountMinSketch {
+
+    private final int depth;
+    private final int mask;
+    private final AtomicLongArray counters;
+
+    public CountMinSketch(int width, int depth) {
+        if (width <= 0 || depth <= 0) {
+            throw new IllegalArgumentException("width and depth must be positive");
+        }
+        this.depth = depth;
+        int rowWidth = Integer.highestOneBit(width - 1) << 1;
+        this.mask = Math.max(rowWidth, 1) - 1;
+        this.counters = new AtomicLongArray(depth * (mask + 1));
+    }
+
+    /**
+     * Counts one occurrence of {@code key} and returns its new estimate.
+     */
+    public long increment(Object key) {
+        long hash = mix(key.hashCode());
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32);
+        long estimate = Long.MAX_VALUE;
+        for (int row = 0; row < depth; row++) {
+            long count = counters.incrementAndGet(index(row, h1, h2));
+            estimate = Math.min(estimate, count);
+        }
+        return estimate;
+    }
+
+    public long estimate(Object key) {
+        long hash = mix(key.hashCode());
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32);
+        long estimate = Long.MAX_VALUE;
+        for (int row = 0; row < depth; row++) {
+            estimate = Math.min(estimate, counters.get(index(row, h1, h2)));
+        }
+        return estimate;
+    }
+
+    /**
+     * Halves every counter, so counts from earlier windows fade rather than dominate forever.
+     */
+    public void decay() {
+        for (int i = 0; i < counters.length(); i++) {
+            counters.updateAndGet(i, count -> count >>> 1);
+        }
+    }
+
+    private int index(int row, int h1, int h2) {
+        // Row hashes derived from two halves of one hash (Kirsch-Mitzenmacher)
+        return row * (mask + 1) + ((h1 + row * h2) & mask);
+    }
+
+    private static long mix(long value) {
+        // MurmurHash3 fmix64, so sequential ids spread across the row
+        long h = value;
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb9fe1a85ec53L;
+        h ^= h >>> 33;
+        return h;
+    }
+}
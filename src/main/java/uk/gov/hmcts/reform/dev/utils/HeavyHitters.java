@@ -0,0 +1,69 @@
+package uk.gov.hmcts.reform.dev.utils;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Tracks the {@code capacity} keys with the highest {@link CountMinSketch} estimates. Recording a key that
+ * is neither tracked nor above the smallest tracked estimate, which is most keys, takes no lock.
+ */
+public final class HeavyHitters<K> {
+
+    private final CountMinSketch sketch;
+    private final int capacity;
+    private final Map<K, Long> top = new ConcurrentHashMap<>();
+    // Smallest tracked estimate once full, 0 until then
+    private volatile long threshold;
+
+    public HeavyHitters(CountMinSketch sketch, int capacity) {
+        this.sketch = sketch;
+        this.capacity = capacity;
+    }
+
+    public void record(K key) {
+        long estimate = sketch.increment(key);
+        if (top.computeIfPresent(key, (k, previous) -> Math.max(previous, estimate)) != null
+            || estimate <= threshold) {
+            return;
+        }
+        synchronized (this) {
+            top.merge(key, estimate, Math::max);
+            if (top.size() > capacity) {
+                top.entrySet().stream()
+                    .min(Map.Entry.comparingByValue())
+                    .ifPresent(smallest -> top.remove(smallest.getKey()));
+            }
+            updateThreshold();
+        }
+    }
+
+    /**
+     * Tracked keys, hottest first.
+     */
+    public List<Entry<K>> top(int limit) {
+        return top.entrySet().stream()
+            .map(entry -> new Entry<>(entry.getKey(), entry.getValue()))
+            .sorted(Comparator.comparingLong(Entry<K>::estimate).reversed())
+            .limit(limit)
+            .toList();
+    }
+
+    /**
+     * Halves every count, dropping tracked keys that fall to zero.
+     */
+    public synchronized void decay() {
+        sketch.decay();
+        top.replaceAll((key, estimate) -> estimate >>> 1);
+        top.values().removeIf(estimate -> estimate == 0);
+        updateThreshold();
+    }
+
+    private void updateThreshold() {
+        threshold = top.size() < capacity ? 0 : top.values().stream().mapToLong(Long::longValue).min().orElse(0);
+    }
+
+    public record Entry<K>(K key, long estimate) {
+    }
+}
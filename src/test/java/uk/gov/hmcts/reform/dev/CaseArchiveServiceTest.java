@@ -0,0 +1,82 @@
+package uk.gov.hmcts.reform.dev;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+import uk.gov.hmcts.reform.dev.enums.CaseStatus;
+import uk.gov.hmcts.reform.dev.models.Case;
+import uk.gov.hmcts.reform.dev.repositories.ArchiveCheckpointRepository;
+import uk.gov.hmcts.reform.dev.repositories.CaseArchiveRepository;
+import uk.gov.hmcts.reform.dev.repositories.CaseRepository;
+import uk.gov.hmcts.reform.dev.services.CaseArchiveService;
+import uk.gov.hmcts.reform.dev.services.CaseChangeTracker;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class CaseArchiveServiceTest {
+
+    @Mock
+    private CaseRepository caseRepository;
+
+    @Mock
+    private CaseArchiveRepository caseArchiveRepository;
+
+    @Mock
+    private ArchiveCheckpointRepository checkpointRepository;
+
+    @Mock
+    private CaseChangeTracker caseChangeTracker;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @InjectMocks
+    private CaseArchiveService caseArchiveService;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(caseArchiveService, "enabled", true);
+        ReflectionTestUtils.setField(caseArchiveService, "minAge", Duration.ofDays(90));
+        ReflectionTestUtils.setField(caseArchiveService, "chunkSize", 500);
+        ReflectionTestUtils.setField(caseArchiveService, "pauseBetweenChunks", Duration.ZERO);
+        when(transactionTemplate.execute(any())).thenAnswer(invocation ->
+            invocation.<TransactionCallback<Integer>>getArgument(0).doInTransaction(null));
+    }
+
+    @Test
+    void shouldTombstoneArchivedCasesForDeltaSync() {
+        when(caseRepository.findArchivable(any(), any(), anyLong(), any()))
+            .thenReturn(List.of(closedCase(3L), closedCase(7L)), List.of());
+
+        caseArchiveService.archiveClosedCases();
+
+        verify(caseRepository).deleteAllByIdInBatch(List.of(3L, 7L));
+        verify(caseChangeTracker).recordDeletions(List.of(3L, 7L));
+    }
+
+    private static Case closedCase(Long id) {
+        Case caseEntity = new Case();
+        caseEntity.setId(id);
+        caseEntity.setStatus(CaseStatus.CLOSED);
+        caseEntity.setClosedDate(LocalDateTime.now().minusYears(1));
+        return caseEntity;
+    }
+}
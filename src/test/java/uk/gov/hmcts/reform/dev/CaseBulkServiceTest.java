@@ -0,0 +1,177 @@
+package uk.gov.hmcts.reform.dev;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+import uk.gov.hmcts.reform.dev.dto.BulkOperationResponse;
+import uk.gov.hmcts.reform.dev.dto.CaseSearchCriteria;
+import uk.gov.hmcts.reform.dev.dto.StatusTransitionRequest;
+import uk.gov.hmcts.reform.dev.enums.CaseStatus;
+import uk.gov.hmcts.reform.dev.events.CaseBulkChangeEvent;
+import uk.gov.hmcts.reform.dev.events.CaseChangedEvent;
+import uk.gov.hmcts.reform.dev.repositories.CaseRepository;
+import uk.gov.hmcts.reform.dev.services.CaseBulkService;
+import uk.gov.hmcts.reform.dev.services.CaseChangeTracker;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.LongStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class CaseBulkServiceTest {
+
+    // Matches CaseBulkService.CHUNK_SIZE
+    private static final int CHUNK_SIZE = 500;
+
+    @Mock
+    private CaseRepository caseRepository;
+
+    @Mock
+    private CaseChangeTracker caseChangeTracker;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    @InjectMocks
+    private CaseBulkService caseBulkService;
+
+    @Test
+    void shouldTransitionMatchingCasesChunkByChunk() {
+        runTransactionsInline();
+        List<Long> firstChunk = ids(1, CHUNK_SIZE);
+        List<Long> secondChunk = List.of(501L, 502L);
+        when(caseRepository.findIdsMatching(any(), eq(0L), eq(CHUNK_SIZE))).thenReturn(firstChunk);
+        when(caseRepository.findIdsMatching(any(), eq(500L), eq(CHUNK_SIZE))).thenReturn(secondChunk);
+        when(caseRepository.findIdsMatching(any(), eq(502L), eq(CHUNK_SIZE))).thenReturn(List.of());
+        when(caseChangeTracker.nextChangeSeq()).thenReturn(7L, 8L);
+        when(caseRepository.transitionToTerminal(eq(firstChunk), eq(CaseStatus.CLOSED), any(), eq(7L)))
+            .thenReturn(CHUNK_SIZE);
+        when(caseRepository.transitionToTerminal(eq(secondChunk), eq(CaseStatus.CLOSED), any(), eq(8L)))
+            .thenReturn(2);
+        StatusTransitionRequest request = new StatusTransitionRequest();
+        request.setCurrentStatus(List.of(CaseStatus.RESOLVED));
+        request.setTargetStatus(CaseStatus.CLOSED);
+
+        BulkOperationResponse response = caseBulkService.transitionStatus(request);
+
+        assertEquals(502, response.getAffectedCount());
+        ArgumentCaptor<CaseBulkChangeEvent> events = ArgumentCaptor.forClass(CaseBulkChangeEvent.class);
+        verify(eventPublisher, times(2)).publishEvent(events.capture());
+        assertEquals(List.of(firstChunk, secondChunk),
+                     events.getAllValues().stream().map(CaseBulkChangeEvent::getCaseIds).toList());
+        assertEquals(CaseStatus.CLOSED, events.getValue().getTargetStatus());
+        verify(caseChangeTracker, times(2)).nextChangeSeq();
+    }
+
+    @Test
+    void shouldUseOpenTransitionForNonTerminalTarget() {
+        runTransactionsInline();
+        when(caseRepository.findIdsMatching(any(), eq(0L), eq(CHUNK_SIZE))).thenReturn(List.of(4L));
+        when(caseRepository.findIdsMatching(any(), eq(4L), eq(CHUNK_SIZE))).thenReturn(List.of());
+        when(caseChangeTracker.nextChangeSeq()).thenReturn(3L);
+        when(caseRepository.transitionToOpen(eq(List.of(4L)), eq(CaseStatus.IN_PROGRESS), any(), eq(3L)))
+            .thenReturn(1);
+        StatusTransitionRequest request = new StatusTransitionRequest();
+        request.setIds(List.of(4L));
+        request.setTargetStatus(CaseStatus.IN_PROGRESS);
+
+        assertEquals(1, caseBulkService.transitionStatus(request).getAffectedCount());
+    }
+
+    @Test
+    void shouldRejectTransitionWithoutFilter() {
+        StatusTransitionRequest request = new StatusTransitionRequest();
+        request.setTargetStatus(CaseStatus.CLOSED);
+
+        assertThrows(IllegalArgumentException.class, () -> caseBulkService.transitionStatus(request));
+        verifyNoInteractions(transactionTemplate);
+    }
+
+    @Test
+    void shouldRejectTransitionWithTooManyIds() {
+        StatusTransitionRequest request = new StatusTransitionRequest();
+        request.setIds(ids(1, 10001));
+        request.setTargetStatus(CaseStatus.CLOSED);
+
+        assertThrows(IllegalArgumentException.class, () -> caseBulkService.transitionStatus(request));
+        verifyNoInteractions(transactionTemplate);
+    }
+
+    @Test
+    void shouldDeleteMatchingCasesChunkByChunkWithTombstones() {
+        runTransactionsInline();
+        List<Long> firstChunk = ids(1, CHUNK_SIZE);
+        List<Long> secondChunk = List.of(600L);
+        when(caseRepository.findIdsMatching(any(), eq(0L), eq(CHUNK_SIZE))).thenReturn(firstChunk);
+        when(caseRepository.findIdsMatching(any(), eq(500L), eq(CHUNK_SIZE))).thenReturn(secondChunk);
+        when(caseRepository.findIdsMatching(any(), eq(600L), eq(CHUNK_SIZE))).thenReturn(List.of());
+        when(caseRepository.deleteCasesByIds(firstChunk)).thenReturn(CHUNK_SIZE);
+        when(caseRepository.deleteCasesByIds(secondChunk)).thenReturn(1);
+        CaseSearchCriteria criteria = new CaseSearchCriteria();
+        criteria.setStatus(List.of(CaseStatus.CLOSED));
+
+        BulkOperationResponse response = caseBulkService.deleteCases(null, criteria);
+
+        assertEquals(501, response.getAffectedCount());
+        verify(caseChangeTracker).recordDeletions(firstChunk);
+        verify(caseChangeTracker).recordDeletions(secondChunk);
+        ArgumentCaptor<CaseBulkChangeEvent> events = ArgumentCaptor.forClass(CaseBulkChangeEvent.class);
+        verify(eventPublisher, times(2)).publishEvent(events.capture());
+        assertEquals(CaseChangedEvent.Type.DELETED, events.getValue().getType());
+    }
+
+    @Test
+    void shouldRejectDeleteWithoutFilter() {
+        assertThrows(IllegalArgumentException.class, () ->
+            caseBulkService.deleteCases(Collections.emptyList(), new CaseSearchCriteria()));
+        verifyNoInteractions(transactionTemplate);
+    }
+
+    @Test
+    void shouldRejectDeleteWithTooManyIds() {
+        assertThrows(IllegalArgumentException.class, () ->
+            caseBulkService.deleteCases(ids(1, 10001), new CaseSearchCriteria()));
+        verifyNoInteractions(transactionTemplate);
+    }
+
+    @Test
+    void shouldRejectDeleteWithSortOrLimit() {
+        CaseSearchCriteria sorted = new CaseSearchCriteria();
+        sorted.setSort(List.of("createdDate"));
+        CaseSearchCriteria limited = new CaseSearchCriteria();
+        limited.setLimit(10);
+
+        assertThrows(IllegalArgumentException.class, () -> caseBulkService.deleteCases(List.of(1L), sorted));
+        assertThrows(IllegalArgumentException.class, () -> caseBulkService.deleteCases(List.of(1L), limited));
+        verify(caseRepository, never()).findIdsMatching(any(), anyLong(), eq(CHUNK_SIZE));
+    }
+
+    private void runTransactionsInline() {
+        when(transactionTemplate.execute(any())).thenAnswer(invocation ->
+            invocation.<TransactionCallback<Object>>getArgument(0).doInTransaction(null));
+    }
+
+    private static List<Long> ids(long from, long to) {
+        return LongStream.rangeClosed(from, to).boxed().toList();
+    }
+}
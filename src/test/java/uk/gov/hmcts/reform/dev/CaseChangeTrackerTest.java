@@ -0,0 +1,61 @@
+package uk.gov.hmcts.reform.dev;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import uk.gov.hmcts.reform.dev.models.ChangeSequence;
+import uk.gov.hmcts.reform.dev.repositories.ChangeSequenceRepository;
+import uk.gov.hmcts.reform.dev.services.CaseChangeTracker;
+
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class CaseChangeTrackerTest {
+
+    @Mock
+    private ChangeSequenceRepository changeSequenceRepository;
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @InjectMocks
+    private CaseChangeTracker caseChangeTracker;
+
+    @Test
+    void shouldSeedMissingSequenceInItsOwnTransaction() {
+        when(changeSequenceRepository.findForUpdate("legal_case"))
+            .thenReturn(Optional.empty(), Optional.of(new ChangeSequence("legal_case", 0L)));
+
+        assertEquals(1L, caseChangeTracker.nextChangeSeq());
+        verify(jdbcTemplate).update(anyString(), eq("legal_case"));
+        verify(transactionManager).getTransaction(argThat(definition ->
+            definition.getPropagationBehavior() == TransactionDefinition.PROPAGATION_REQUIRES_NEW));
+    }
+
+    @Test
+    void shouldUseSequenceSeededConcurrently() {
+        when(changeSequenceRepository.findForUpdate("legal_case"))
+            .thenReturn(Optional.empty(), Optional.of(new ChangeSequence("legal_case", 4L)));
+        doThrow(new DataIntegrityViolationException("duplicate key"))
+            .when(jdbcTemplate).update(anyString(), eq("legal_case"));
+
+        assertEquals(5L, caseChangeTracker.nextChangeSeq());
+    }
+}
@@ -0,0 +1,138 @@
+package uk.gov.hmcts.reform.dev;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import uk.gov.hmcts.reform.dev.events.CaseChangedEvent;
+import uk.gov.hmcts.reform.dev.services.CaseEventStreamService;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class CaseEventStreamServiceTest {
+
+    private static final Pattern EVENT_ID = Pattern.compile("^id:(\\d+)$", Pattern.MULTILINE);
+
+    @Test
+    void shouldReplayMissedEventsBeforeLiveOnes() throws Exception {
+        CaseEventStreamService service = new CaseEventStreamService(60_000, 16, 8, 2);
+        publish(service, 3);
+        RecordingEmitter emitter = new RecordingEmitter(null);
+
+        service.subscribe(1L, emitter);
+        publish(service, 2);
+
+        awaitTrue(() -> emitter.events.size() == 4);
+        assertEquals(List.of(2L, 3L, 4L, 5L), emitter.eventIds());
+    }
+
+    @Test
+    void shouldSendResetWhenReplayBufferHasRolledPastLastSeenEvent() throws Exception {
+        CaseEventStreamService service = new CaseEventStreamService(60_000, 16, 4, 2);
+        publish(service, 10);
+        RecordingEmitter emitter = new RecordingEmitter(null);
+
+        service.subscribe(2L, emitter);
+        publish(service, 1);
+
+        awaitTrue(() -> emitter.events.size() == 2);
+        assertTrue(emitter.events.get(0).contains("event:reset"));
+        assertEquals(List.of(11L), emitter.eventIds());
+    }
+
+    @Test
+    void shouldDisconnectSubscriberWhoseQueueFillsUp() {
+        CaseEventStreamService service = new CaseEventStreamService(60_000, 2, 8, 2);
+        CountDownLatch release = new CountDownLatch(1);
+        RecordingEmitter slow = new RecordingEmitter(release);
+        service.subscribe(null, slow);
+
+        // One event is held by the blocked send and two fill the queue, so the rest overflow it
+        publish(service, 5);
+        release.countDown();
+
+        assertTrue(slow.completed);
+        assertEquals(0, service.getSubscriberCount());
+    }
+
+    @Test
+    void shouldSendHeartbeatComments() throws Exception {
+        CaseEventStreamService service = new CaseEventStreamService(60_000, 16, 8, 2);
+        RecordingEmitter emitter = new RecordingEmitter(null);
+        service.subscribe(null, emitter);
+
+        service.sendHeartbeats();
+
+        awaitTrue(() -> emitter.events.size() == 1);
+        assertEquals(":heartbeat", emitter.events.get(0).trim());
+    }
+
+    private static void publish(CaseEventStreamService service, int count) {
+        for (int i = 0; i < count; i++) {
+            service.onCaseChanged(new CaseChangedEvent(CaseChangedEvent.Type.UPDATED, (long) i, null, null, null));
+        }
+    }
+
+    private static void awaitTrue(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (!condition.getAsBoolean()) {
+            assertTrue(System.nanoTime() < deadline, "Timed out waiting for SSE delivery");
+            Thread.sleep(5);
+        }
+    }
+
+    /**
+     * Keeps the text of each event sent instead of writing it to a response, optionally blocking the first
+     * send until released.
+     */
+    private static final class RecordingEmitter extends SseEmitter {
+
+        private final List<String> events = new CopyOnWriteArrayList<>();
+        private final CountDownLatch release;
+        private volatile boolean completed;
+
+        private RecordingEmitter(CountDownLatch release) {
+            this.release = release;
+        }
+
+        @Override
+        public void send(SseEventBuilder builder) {
+            if (release != null) {
+                try {
+                    release.await(5, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            StringBuilder text = new StringBuilder();
+            for (ResponseBodyEmitter.DataWithMediaType part : builder.build()) {
+                if (part.getData() instanceof String string) {
+                    text.append(string);
+                }
+            }
+            events.add(text.toString());
+        }
+
+        @Override
+        public void complete() {
+            completed = true;
+            super.complete();
+        }
+
+        private List<Long> eventIds() {
+            return events.stream()
+                .map(EVENT_ID::matcher)
+                .filter(Matcher::find)
+                .map(matcher -> Long.parseLong(matcher.group(1)))
+                .toList();
+        }
+    }
+}
@@ -0,0 +1,83 @@
+package uk.gov.hmcts.reform.dev;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.util.unit.DataSize;
+import uk.gov.hmcts.reform.dev.dto.CaseHistoryEntry;
+import uk.gov.hmcts.reform.dev.events.CaseChangedEvent;
+import uk.gov.hmcts.reform.dev.history.CaseHistoryStore;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class CaseHistoryStoreTest {
+
+    @TempDir
+    private Path directory;
+
+    @Test
+    void shouldReturnEachCasesHistoryInOrderAcrossSegments() throws Exception {
+        // Small segments so the records roll over several files
+        CaseHistoryStore store = openStore(DataSize.ofBytes(256));
+        for (int i = 0; i < 20; i++) {
+            store.append(entry(1L, CaseChangedEvent.Type.UPDATED, "title", "Title " + i, "Title " + (i + 1)));
+            store.append(entry(2L, CaseChangedEvent.Type.UPDATED, "status", "NEW", "IN_PROGRESS"));
+        }
+        store.stop();
+
+        List<CaseHistoryEntry> history = store.getHistory(1L);
+        assertEquals(20, history.size());
+        assertEquals("Title 0", history.get(0).getChanges().get(0).getOldValue());
+        assertEquals("Title 20", history.get(19).getChanges().get(0).getNewValue());
+        assertEquals("alice", history.get(19).getActor());
+        assertEquals(20, store.getHistory(2L).size());
+        assertTrue(store.getHistory(3L).isEmpty());
+    }
+
+    @Test
+    void shouldRecoverIndexFromSnapshotAndLogAfterRestart() throws Exception {
+        CaseHistoryStore first = openStore(DataSize.ofKilobytes(64));
+        first.append(entry(1L, CaseChangedEvent.Type.CREATED, "caseNumber", null, "HIST1"));
+        first.stop();
+
+        CaseHistoryStore second = openStore(DataSize.ofKilobytes(64));
+        second.append(entry(1L, CaseChangedEvent.Type.DELETED, null, null, null));
+        second.stop();
+
+        CaseHistoryStore third = openStore(DataSize.ofKilobytes(64));
+        List<CaseHistoryEntry> history = third.getHistory(1L);
+        third.stop();
+
+        assertEquals(2, history.size());
+        assertEquals(CaseChangedEvent.Type.CREATED, history.get(0).getType());
+        assertNull(history.get(0).getChanges().get(0).getOldValue());
+        assertEquals("HIST1", history.get(0).getChanges().get(0).getNewValue());
+        assertEquals(CaseChangedEvent.Type.DELETED, history.get(1).getType());
+        assertTrue(history.get(1).getChanges().isEmpty());
+    }
+
+    private CaseHistoryStore openStore(DataSize segmentSize) throws Exception {
+        CaseHistoryStore store = new CaseHistoryStore(true, directory.toString(), segmentSize, 64,
+                                                      Duration.ofSeconds(60), Duration.ofSeconds(1));
+        store.start();
+        return store;
+    }
+
+    private CaseHistoryEntry entry(Long caseId, CaseChangedEvent.Type type, String field,
+                                   String oldValue, String newValue) {
+        return CaseHistoryEntry.builder()
+            .caseId(caseId)
+            .timestamp(LocalDateTime.now().truncatedTo(ChronoUnit.MILLIS))
+            .type(type)
+            .actor("alice")
+            .changes(field == null ? List.of() : List.of(new CaseHistoryEntry.FieldChange(field, oldValue, newValue)))
+            .build();
+    }
+}
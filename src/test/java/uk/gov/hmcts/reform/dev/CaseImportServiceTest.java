@@ -0,0 +1,244 @@
+package uk.gov.hmcts.reform.dev;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.PreparedStatementCreator;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.unit.DataSize;
+import uk.gov.hmcts.reform.dev.dto.CaseImportStatusResponse;
+import uk.gov.hmcts.reform.dev.dto.ImportRowError;
+import uk.gov.hmcts.reform.dev.events.CaseBulkChangeEvent;
+import uk.gov.hmcts.reform.dev.exceptions.ImportCapacityException;
+import uk.gov.hmcts.reform.dev.exceptions.ImportTooLargeException;
+import uk.gov.hmcts.reform.dev.repositories.CaseArchiveRepository;
+import uk.gov.hmcts.reform.dev.repositories.CaseRepository;
+import uk.gov.hmcts.reform.dev.services.CaseChangeTracker;
+import uk.gov.hmcts.reform.dev.services.CaseImportService;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+import java.util.zip.GZIPOutputStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class CaseImportServiceTest {
+
+    private static final String HEADER = "caseNumber,title,description,status\n";
+
+    @Mock
+    private CaseRepository caseRepository;
+
+    @Mock
+    private CaseArchiveRepository caseArchiveRepository;
+
+    @Mock
+    private CaseChangeTracker caseChangeTracker;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @TempDir
+    private Path spoolDirectory;
+
+    private final AtomicLong nextId = new AtomicLong(1);
+
+    @Test
+    void shouldImportGzipFileWithByteOrderMarkAndMixedCaseHeaders() throws Exception {
+        stubDatabase(List.of(), List.of());
+        CaseImportService service = service(100, 2, DataSize.ofMegabytes(1));
+        String csv = "\uFEFFCaseNumber, TITLE ,Status\nIMPORT1,Imported Case,new\n";
+
+        CaseImportStatusResponse status = awaitFinished(service, service.startImport(
+            new ByteArrayInputStream(gzip(csv))));
+
+        assertEquals(CaseImportStatusResponse.State.COMPLETED, status.getState());
+        assertEquals(1, status.getRowsRead());
+        assertEquals(1, status.getImported());
+        verify(eventPublisher).publishEvent(any(CaseBulkChangeEvent.class));
+    }
+
+    @Test
+    void shouldReportRepeatsInFileAndCaseNumbersTakenLiveOrArchived() throws Exception {
+        stubDatabase(List.of("LIVE1"), List.of("ARCHIVED1"));
+        CaseImportService service = service(100, 2, DataSize.ofMegabytes(1));
+        String csv = HEADER
+            + "NEW1,New Case,,NEW\n"
+            + "NEW1,New Case Again,,NEW\n"
+            + "LIVE1,Live Case,,NEW\n"
+            + "ARCHIVED1,Archived Case,,CLOSED\n";
+
+        CaseImportStatusResponse status = awaitFinished(service, service.startImport(stream(csv)));
+
+        assertEquals(1, status.getImported());
+        assertEquals(3, status.getDuplicates());
+        assertEquals(List.of("Case number appears earlier in the file", "Case number already exists: LIVE1",
+                             "Case number already exists: ARCHIVED1"),
+                     status.getErrors().stream().map(ImportRowError::getMessage).toList());
+    }
+
+    @Test
+    void shouldRetryBatchOnceAfterConcurrentCreateThenRejectIt() throws Exception {
+        runTransactionsInline();
+        when(caseRepository.findExistingCaseNumbers(anyCollection())).thenReturn(List.of());
+        when(caseArchiveRepository.findExistingCaseNumbers(anyCollection())).thenReturn(List.of());
+        when(jdbcTemplate.batchUpdate(any(PreparedStatementCreator.class), any(BatchPreparedStatementSetter.class),
+                                      any(KeyHolder.class)))
+            .thenThrow(new DuplicateKeyException("uk_legal_case_case_number"));
+        CaseImportService service = service(100, 2, DataSize.ofMegabytes(1));
+
+        CaseImportStatusResponse status = awaitFinished(service, service.startImport(
+            stream(HEADER + "RACE1,Raced Case,,NEW\nRACE2,Raced Case,,NEW\n")));
+
+        assertEquals(CaseImportStatusResponse.State.COMPLETED, status.getState());
+        assertEquals(0, status.getImported());
+        assertEquals(2, status.getRejected());
+        assertEquals("Batch rejected after concurrent case number conflicts", status.getErrors().get(0).getMessage());
+        verify(jdbcTemplate, times(2)).batchUpdate(any(PreparedStatementCreator.class),
+                                                   any(BatchPreparedStatementSetter.class), any(KeyHolder.class));
+    }
+
+    @Test
+    void shouldKeepOnlyMaxErrorsRowErrors() throws Exception {
+        CaseImportService service = service(2, 2, DataSize.ofMegabytes(1));
+        StringBuilder csv = new StringBuilder(HEADER);
+        for (int i = 0; i < 5; i++) {
+            csv.append("BAD").append(i).append(",Bad Case,,UNKNOWN\n");
+        }
+
+        CaseImportStatusResponse status = awaitFinished(service, service.startImport(stream(csv.toString())));
+
+        assertEquals(5, status.getRejected());
+        assertEquals(2, status.getErrors().size());
+        assertEquals("Invalid status: UNKNOWN", status.getErrors().get(0).getMessage());
+        assertTrue(status.isErrorsTruncated());
+    }
+
+    @Test
+    void shouldFailJobWhenRequiredColumnIsMissing() throws Exception {
+        CaseImportService service = service(100, 2, DataSize.ofMegabytes(1));
+
+        CaseImportStatusResponse status = awaitFinished(service, service.startImport(
+            stream("caseNumber,title\nNOSTATUS1,No Status\n")));
+
+        assertEquals(CaseImportStatusResponse.State.FAILED, status.getState());
+        assertEquals("Missing required column: status", status.getFailureReason());
+    }
+
+    @Test
+    void shouldRejectImportWhenNoJobPermitsAreLeft() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        when(transactionTemplate.execute(any())).thenAnswer(invocation -> {
+            release.await(5, TimeUnit.SECONDS);
+            return invocation.<TransactionCallback<Object>>getArgument(0).doInTransaction(null);
+        });
+        when(caseRepository.findExistingCaseNumbers(anyCollection())).thenReturn(List.of("SLOW1"));
+        when(caseArchiveRepository.findExistingCaseNumbers(anyCollection())).thenReturn(List.of());
+        // One running job and no queue
+        CaseImportService service = service(100, 1, DataSize.ofMegabytes(1));
+        CaseImportStatusResponse first = service.startImport(stream(HEADER + "SLOW1,Slow Case,,NEW\n"));
+
+        assertThrows(ImportCapacityException.class, () -> service.startImport(stream(HEADER)));
+
+        release.countDown();
+        assertEquals(CaseImportStatusResponse.State.COMPLETED, awaitFinished(service, first).getState());
+    }
+
+    @Test
+    void shouldRejectOversizedUploadAndDeleteItsSpoolFile() throws Exception {
+        CaseImportService service = service(100, 1, DataSize.ofBytes(64));
+        String csv = HEADER + "BIG1,Big Case,A description long enough to pass the limit,NEW\n";
+
+        assertThrows(ImportTooLargeException.class, () -> service.startImport(stream(csv)));
+
+        try (Stream<Path> files = Files.list(spoolDirectory)) {
+            assertEquals(0, files.count());
+        }
+        // The permit was handed back, so the next import is accepted
+        CaseImportStatusResponse next = awaitFinished(service, service.startImport(stream(HEADER)));
+        assertEquals(CaseImportStatusResponse.State.COMPLETED, next.getState());
+    }
+
+    private CaseImportService service(int maxErrors, int permits, DataSize maxBytes) {
+        return new CaseImportService(caseRepository, caseArchiveRepository, caseChangeTracker, eventPublisher,
+                                     transactionTemplate, jdbcTemplate, 100, maxErrors, maxBytes, 1,
+                                     permits - 1, 100, 2, spoolDirectory);
+    }
+
+    private void stubDatabase(List<String> liveCaseNumbers, List<String> archivedCaseNumbers) {
+        runTransactionsInline();
+        when(caseRepository.findExistingCaseNumbers(anyCollection())).thenReturn(liveCaseNumbers);
+        when(caseArchiveRepository.findExistingCaseNumbers(anyCollection())).thenReturn(archivedCaseNumbers);
+        when(jdbcTemplate.batchUpdate(any(PreparedStatementCreator.class), any(BatchPreparedStatementSetter.class),
+                                      any(KeyHolder.class))).thenAnswer(invocation -> {
+            int rows = invocation.<BatchPreparedStatementSetter>getArgument(1).getBatchSize();
+            KeyHolder keyHolder = invocation.getArgument(2);
+            for (int i = 0; i < rows; i++) {
+                keyHolder.getKeyList().add(Map.of("id", nextId.getAndIncrement()));
+            }
+            return new int[rows];
+        });
+    }
+
+    private void runTransactionsInline() {
+        when(transactionTemplate.execute(any())).thenAnswer(invocation ->
+            invocation.<TransactionCallback<Object>>getArgument(0).doInTransaction(null));
+    }
+
+    private static CaseImportStatusResponse awaitFinished(CaseImportService service, CaseImportStatusResponse started)
+        throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        CaseImportStatusResponse status = service.getStatus(started.getJobId());
+        while (status.getFinishedDate() == null) {
+            assertTrue(System.nanoTime() < deadline, "Timed out waiting for the import to finish");
+            Thread.sleep(10);
+            status = service.getStatus(started.getJobId());
+        }
+        return status;
+    }
+
+    private static InputStream stream(String csv) {
+        return new ByteArrayInputStream(csv.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static byte[] gzip(String csv) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (GZIPOutputStream out = new GZIPOutputStream(bytes)) {
+            out.write(csv.getBytes(StandardCharsets.UTF_8));
+        }
+        return bytes.toByteArray();
+    }
+}
@@ -0,0 +1,67 @@
+package uk.gov.hmcts.reform.dev;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import uk.gov.hmcts.reform.dev.enums.CaseStatus;
+import uk.gov.hmcts.reform.dev.models.Case;
+import uk.gov.hmcts.reform.dev.repositories.CaseRepository;
+import uk.gov.hmcts.reform.dev.services.CaseListSnapshotService;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class CaseListSnapshotServiceTest {
+
+    @Mock
+    private CaseRepository caseRepository;
+
+    @Test
+    void shouldServeSerialisedListAfterRebuild() {
+        when(caseRepository.findAll()).thenReturn(List.of(testCase()));
+        CaseListSnapshotService service = snapshotService(Duration.ofMinutes(1));
+
+        assertNull(service.getSnapshot());
+        service.rebuild();
+
+        byte[] snapshot = service.getSnapshot();
+        assertNotNull(snapshot);
+        assertTrue(new String(snapshot, StandardCharsets.UTF_8).contains("\"caseNumber\":\"SNAP1\""));
+    }
+
+    @Test
+    void shouldNotServeSnapshotOlderThanMaxStaleness() throws Exception {
+        when(caseRepository.findAll()).thenReturn(List.of(testCase()));
+        CaseListSnapshotService service = snapshotService(Duration.ofNanos(1));
+
+        service.rebuild();
+        Thread.sleep(1);
+
+        assertNull(service.getSnapshot());
+    }
+
+    private CaseListSnapshotService snapshotService(Duration maxStaleness) {
+        return new CaseListSnapshotService(
+            caseRepository, new ObjectMapper().findAndRegisterModules(), true, Duration.ZERO, maxStaleness);
+    }
+
+    private static Case testCase() {
+        Case testCase = new Case();
+        testCase.setId(1L);
+        testCase.setCaseNumber("SNAP1");
+        testCase.setTitle("Test Case");
+        testCase.setStatus(CaseStatus.NEW);
+        testCase.setCreatedDate(LocalDateTime.now());
+        return testCase;
+    }
+}
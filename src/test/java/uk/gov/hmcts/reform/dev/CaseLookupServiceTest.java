@@ -0,0 +1,157 @@
+package uk.gov.hmcts.reform.dev;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import uk.gov.hmcts.reform.dev.dto.CaseLookupRequest;
+import uk.gov.hmcts.reform.dev.dto.CaseLookupResult;
+import uk.gov.hmcts.reform.dev.enums.CaseStatus;
+import uk.gov.hmcts.reform.dev.models.ArchivedCase;
+import uk.gov.hmcts.reform.dev.models.Case;
+import uk.gov.hmcts.reform.dev.repositories.CaseArchiveRepository;
+import uk.gov.hmcts.reform.dev.repositories.CaseRepository;
+import uk.gov.hmcts.reform.dev.exceptions.CaseNotFoundException;
+import uk.gov.hmcts.reform.dev.services.CaseLookupService;
+import uk.gov.hmcts.reform.dev.services.CaseNumberCache;
+import uk.gov.hmcts.reform.dev.utils.CaseMapper;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.LongStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyIterable;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class CaseLookupServiceTest {
+
+    @Mock
+    private CaseRepository caseRepository;
+
+    @Mock
+    private CaseArchiveRepository caseArchiveRepository;
+
+    @Spy
+    private CaseNumberCache caseNumberCache = new CaseNumberCache(100);
+
+    @InjectMocks
+    private CaseLookupService caseLookupService;
+
+    @Test
+    void shouldServeRepeatLookupByNumberThroughPrimaryKey() {
+        when(caseRepository.findByCaseNumber("CASE1")).thenReturn(Optional.of(testCase(1L)));
+        when(caseRepository.findById(1L)).thenReturn(Optional.of(testCase(1L)));
+
+        caseLookupService.getCaseByNumber("CASE1");
+        caseLookupService.getCaseByNumber("CASE1");
+
+        verify(caseRepository, times(1)).findByCaseNumber("CASE1");
+        verify(caseRepository, times(1)).findById(1L);
+    }
+
+    @Test
+    void shouldIgnoreCachedIdWhoseCaseNumberChanged() {
+        caseNumberCache.put("CASE1", 1L);
+        Case renumbered = testCase(1L);
+        renumbered.setCaseNumber("RENAMED");
+        when(caseRepository.findById(1L)).thenReturn(Optional.of(renumbered));
+        when(caseRepository.findByCaseNumber("CASE1")).thenReturn(Optional.empty());
+        when(caseArchiveRepository.findFirstByCaseNumber("CASE1")).thenReturn(Optional.empty());
+
+        assertThrows(CaseNotFoundException.class, () -> caseLookupService.getCaseByNumber("CASE1"));
+        assertNull(caseNumberCache.get("CASE1"));
+    }
+
+    @Test
+    void shouldUseCachedIdsForBatchLookupByNumber() {
+        caseNumberCache.put("CASE1", 1L);
+        when(caseRepository.findAllById(List.of(1L))).thenReturn(List.of(testCase(1L)));
+
+        List<CaseLookupResult> results = caseLookupService.lookupByCaseNumbers(List.of("CASE1"));
+
+        assertTrue(results.get(0).isFound());
+        verify(caseRepository, never()).findByCaseNumberIn(any());
+    }
+
+    @Test
+    void shouldReturnResultsInRequestOrderWithArchiveFallbackAndMisses() {
+        when(caseRepository.findAllById(List.of(3L, 1L, 2L))).thenReturn(List.of(testCase(1L), testCase(3L)));
+        ArchivedCase archived = CaseMapper.toArchive(testCase(2L), LocalDateTime.now());
+        when(caseArchiveRepository.findAllById(List.of(2L))).thenReturn(List.of(archived));
+
+        List<CaseLookupResult> results = caseLookupService.lookupByIds(List.of(3L, 1L, 2L, 3L));
+
+        assertEquals(List.of(3L, 1L, 2L, 3L), results.stream().map(CaseLookupResult::getId).toList());
+        assertTrue(results.stream().allMatch(CaseLookupResult::isFound));
+        assertEquals("CASE2", results.get(2).getCaseDetails().getCaseNumber());
+    }
+
+    @Test
+    void shouldMarkMissingCaseNumbersAsNotFound() {
+        when(caseRepository.findByCaseNumberIn(List.of("CASE1", "NOPE"))).thenReturn(List.of(testCase(1L)));
+        when(caseArchiveRepository.findByCaseNumberIn(List.of("NOPE"))).thenReturn(List.of());
+
+        CaseLookupRequest request = new CaseLookupRequest();
+        request.setCaseNumbers(List.of("CASE1", "NOPE"));
+        List<CaseLookupResult> results = caseLookupService.lookup(request);
+
+        assertTrue(results.get(0).isFound());
+        assertFalse(results.get(1).isFound());
+        assertEquals("NOPE", results.get(1).getCaseNumber());
+    }
+
+    @Test
+    void shouldQueryInChunks() {
+        List<Long> ids = LongStream.rangeClosed(1, 1200).boxed().toList();
+        when(caseRepository.findAllById(anyIterable())).thenReturn(List.of());
+        when(caseArchiveRepository.findAllById(anyIterable())).thenReturn(List.of());
+
+        caseLookupService.lookupByIds(ids);
+
+        verify(caseRepository, times(3)).findAllById(any());
+        verify(caseArchiveRepository, times(3)).findAllById(any());
+    }
+
+    @Test
+    void shouldRejectRequestWithBothOrNeitherKey() {
+        CaseLookupRequest request = new CaseLookupRequest();
+        assertThrows(IllegalArgumentException.class, () -> caseLookupService.lookup(request));
+
+        request.setIds(List.of(1L));
+        request.setCaseNumbers(List.of("CASE1"));
+        assertThrows(IllegalArgumentException.class, () -> caseLookupService.lookup(request));
+    }
+
+    @Test
+    void shouldRejectNullAndBlankKeys() {
+        assertThrows(IllegalArgumentException.class, () -> caseLookupService.lookupByIds(Arrays.asList(1L, null)));
+        assertThrows(IllegalArgumentException.class,
+                     () -> caseLookupService.lookupByCaseNumbers(List.of("CASE1", " ")));
+        verify(caseRepository, never()).findAllById(any());
+    }
+
+    private static Case testCase(Long id) {
+        Case testCase = new Case();
+        testCase.setId(id);
+        testCase.setCaseNumber("CASE" + id);
+        testCase.setTitle("Test Case");
+        testCase.setStatus(CaseStatus.CLOSED);
+        testCase.setCreatedDate(LocalDateTime.now());
+        testCase.setClosedDate(LocalDateTime.now());
+        return testCase;
+    }
+}
@@ -0,0 +1,70 @@
+package uk.gov.hmcts.reform.dev;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import uk.gov.hmcts.reform.dev.dto.CaseResponse;
+import uk.gov.hmcts.reform.dev.enums.CaseStatus;
+import uk.gov.hmcts.reform.dev.events.CaseChangedEvent;
+import uk.gov.hmcts.reform.dev.services.CaseResponseCache;
+import uk.gov.hmcts.reform.dev.services.CaseResponseCache.CachedCaseJson;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.zip.GZIPInputStream;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class CaseResponseCacheTest {
+
+    private final CaseResponseCache cache =
+        new CaseResponseCache(new ObjectMapper().findAndRegisterModules(), Duration.ofMinutes(1), 100);
+
+    @Test
+    void shouldServeJsonAndGzipBytesAfterPut() throws IOException {
+        CachedCaseJson cached = cache.put(1L, testResponse(), cache.epoch());
+
+        assertSame(cached, cache.get(1L));
+        assertTrue(new String(cached.json(), StandardCharsets.UTF_8).contains("\"caseNumber\":\"HOT1\""));
+        try (InputStream in = new GZIPInputStream(new ByteArrayInputStream(cached.gzip()))) {
+            assertArrayEquals(cached.json(), in.readAllBytes());
+        }
+    }
+
+    @Test
+    void shouldEvictOnCommittedUpdate() {
+        cache.put(1L, testResponse(), cache.epoch());
+
+        cache.onCaseChanged(new CaseChangedEvent(CaseChangedEvent.Type.UPDATED, 1L, null, null, null));
+
+        assertNull(cache.get(1L));
+    }
+
+    @Test
+    void shouldNotCacheLoadOvertakenByInvalidation() {
+        long epoch = cache.epoch();
+        cache.onCaseChanged(new CaseChangedEvent(CaseChangedEvent.Type.DELETED, 1L, null, null, null));
+
+        CachedCaseJson stale = cache.put(1L, testResponse(), epoch);
+
+        assertNotNull(stale);
+        assertNull(cache.get(1L));
+    }
+
+    private static CaseResponse testResponse() {
+        return CaseResponse.builder()
+            .id(1L)
+            .caseNumber("HOT1")
+            .title("Test Case")
+            .status(CaseStatus.NEW)
+            .createdDate(LocalDateTime.now())
+            .build();
+    }
+}
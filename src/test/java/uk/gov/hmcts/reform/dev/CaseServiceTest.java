@@ -1,32 +1,54 @@
 package uk.gov.hmcts.reform.dev;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import uk.gov.hmcts.reform.dev.dto.CaseRequest;
 import uk.gov.hmcts.reform.dev.dto.CaseResponse;
 import uk.gov.hmcts.reform.dev.enums.CaseStatus;
+import uk.gov.hmcts.reform.dev.events.CaseChangedEvent;
 import uk.gov.hmcts.reform.dev.exceptions.CaseNotFoundException;
 import uk.gov.hmcts.reform.dev.exceptions.DuplicateCaseException;
+import uk.gov.hmcts.reform.dev.models.ArchivedCase;
 import uk.gov.hmcts.reform.dev.models.Case;
+import uk.gov.hmcts.reform.dev.repositories.CaseArchiveRepository;
 import uk.gov.hmcts.reform.dev.repositories.CaseRepository;
+import uk.gov.hmcts.reform.dev.services.CaseChangeTracker;
+import uk.gov.hmcts.reform.dev.services.CaseReadCoalescer;
+import uk.gov.hmcts.reform.dev.services.CaseReadCoalescer.LoadedCase;
+import uk.gov.hmcts.reform.dev.services.CaseResponseCache;
 import uk.gov.hmcts.reform.dev.services.CaseService;
+import uk.gov.hmcts.reform.dev.services.MissingCaseCache;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
 
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.Mockito.when;
 import static org.mockito.Mockito.anyString;
 import static org.mockito.Mockito.anyLong;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
 @ExtendWith(MockitoExtension.class)
@@ -35,6 +57,27 @@ class CaseServiceTest {
     @Mock
     private CaseRepository caseRepository;
 
+    @Mock
+    private CaseArchiveRepository caseArchiveRepository;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private CaseChangeTracker caseChangeTracker;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Spy
+    private CaseReadCoalescer caseReadCoalescer = new CaseReadCoalescer(meterRegistry);
+
+    @Spy
+    private MissingCaseCache missingCaseCache = new MissingCaseCache(Duration.ofMinutes(1), 100);
+
+    @Spy
+    private CaseResponseCache caseResponseCache =
+        new CaseResponseCache(new ObjectMapper().findAndRegisterModules(), Duration.ofMinutes(1), 100);
+
     @InjectMocks
     private CaseService caseService;
 
@@ -69,6 +112,8 @@ class CaseServiceTest {
         assertEquals(testCase.getCaseNumber(), response.getCaseNumber());
         assertEquals(testCase.getStatus(), response.getStatus());
         verify(caseRepository).save(any(Case.class));
+        verify(eventPublisher).publishEvent(argThat((Object event) -> event instanceof CaseChangedEvent changed
+            && changed.getType() == CaseChangedEvent.Type.CREATED && changed.getCaseId().equals(1L)));
     }
 
     @Test
@@ -91,6 +136,16 @@ class CaseServiceTest {
             caseService.createCase(testRequest));
     }
 
+    @Test
+    void shouldThrowDuplicateCaseExceptionWhenCaseNumberWasArchived() {
+        when(caseRepository.existsByCaseNumber(anyString())).thenReturn(false);
+        when(caseArchiveRepository.existsByCaseNumber(testRequest.getCaseNumber())).thenReturn(true);
+
+        assertThrows(DuplicateCaseException.class, () ->
+            caseService.createCase(testRequest));
+        verify(caseRepository, never()).save(any(Case.class));
+    }
+
     @Test
     void shouldThrowCaseNotFoundExceptionWhenCaseDoesNotExist() {
         when(caseRepository.findById(anyLong())).thenReturn(Optional.empty());
@@ -99,6 +154,92 @@ class CaseServiceTest {
             caseService.getCaseById(1L));
     }
 
+    @Test
+    void shouldAnswerRepeatedMissWithoutQuerying() {
+        when(caseRepository.findById(1L)).thenReturn(Optional.empty());
+        when(caseArchiveRepository.findById(1L)).thenReturn(Optional.empty());
+
+        assertThrows(CaseNotFoundException.class, () -> caseService.getCaseById(1L));
+        assertThrows(CaseNotFoundException.class, () -> caseService.getCaseById(1L));
+
+        verify(caseRepository, times(1)).findById(1L);
+    }
+
+    @Test
+    void shouldForgetMissOnceCaseIsCreated() {
+        when(caseRepository.findById(1L)).thenReturn(Optional.empty(), Optional.of(testCase));
+        when(caseArchiveRepository.findById(1L)).thenReturn(Optional.empty());
+        assertThrows(CaseNotFoundException.class, () -> caseService.getCaseById(1L));
+
+        missingCaseCache.onCaseChanged(new CaseChangedEvent(CaseChangedEvent.Type.CREATED, 1L, null, null, null));
+
+        assertEquals("TEST123", caseService.getCaseById(1L).getCaseNumber());
+    }
+
+    @Test
+    void shouldNotCacheSharedLoadThatStartedBeforeAnEviction() throws Exception {
+        CountDownLatch querying = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        when(caseRepository.findById(1L)).thenAnswer(invocation -> {
+            querying.countDown();
+            assertTrue(release.await(5, TimeUnit.SECONDS));
+            return Optional.of(testCase);
+        });
+
+        CompletableFuture<LoadedCase> leader = CompletableFuture.supplyAsync(() -> caseService.getCaseByIdForCache(1L));
+        assertTrue(querying.await(5, TimeUnit.SECONDS));
+        // An update commits while the leader's query is running, then a reader joins that query
+        caseResponseCache.evict(1L);
+        CompletableFuture<LoadedCase> joiner = CompletableFuture.supplyAsync(() -> caseService.getCaseByIdForCache(1L));
+        Counter coalesced = meterRegistry.get("cases.reads.coalesced").tag("read", "by-id").counter();
+        while (coalesced.count() < 1) {
+            Thread.sleep(5);
+        }
+        release.countDown();
+
+        LoadedCase joined = joiner.get(5, TimeUnit.SECONDS);
+        leader.get(5, TimeUnit.SECONDS);
+        caseResponseCache.put(1L, joined.response(), joined.cacheEpoch());
+
+        assertNull(caseResponseCache.get(1L));
+        verify(caseRepository, times(1)).findById(1L);
+    }
+
+    @Test
+    void shouldDeleteCaseWithSingleStatement() {
+        when(caseRepository.deleteCaseById(1L)).thenReturn(1);
+
+        caseService.deleteCase(1L);
+
+        verify(caseChangeTracker).recordDeletion(1L);
+        verify(eventPublisher).publishEvent(argThat((Object event) -> event instanceof CaseChangedEvent changed
+            && changed.getType() == CaseChangedEvent.Type.DELETED));
+    }
+
+    @Test
+    void shouldThrowCaseNotFoundExceptionWhenDeletingMissingCase() {
+        when(caseRepository.deleteCaseById(1L)).thenReturn(0);
+
+        assertThrows(CaseNotFoundException.class, () -> caseService.deleteCase(1L));
+        verify(caseChangeTracker, never()).recordDeletion(anyLong());
+    }
+
+    @Test
+    void shouldFallBackToArchiveWhenCaseNotInHotTable() {
+        ArchivedCase archivedCase = new ArchivedCase();
+        archivedCase.setId(1L);
+        archivedCase.setCaseNumber("OLD001");
+        archivedCase.setStatus(CaseStatus.CLOSED);
+
+        when(caseRepository.findById(1L)).thenReturn(Optional.empty());
+        when(caseArchiveRepository.findById(1L)).thenReturn(Optional.of(archivedCase));
+
+        CaseResponse response = caseService.getCaseById(1L);
+
+        assertEquals("OLD001", response.getCaseNumber());
+        assertEquals(CaseStatus.CLOSED, response.getStatus());
+    }
+
     @Test
     void shouldUpdateCaseSuccessfully() {
         when(caseRepository.findById(1L)).thenReturn(Optional.of(testCase));
@@ -131,6 +272,26 @@ class CaseServiceTest {
             caseService.updateCase(1L, updateRequest));
     }
 
+    @Test
+    void shouldThrowExceptionWhenUpdatingToArchivedCaseNumber() {
+        Case existingCase = new Case();
+        existingCase.setId(1L);
+        existingCase.setCaseNumber("OLD123");
+        existingCase.setStatus(CaseStatus.NEW);
+
+        CaseRequest updateRequest = new CaseRequest();
+        updateRequest.setCaseNumber("ARCHIVED123");
+        updateRequest.setTitle("Test Case");
+        updateRequest.setStatus(CaseStatus.IN_PROGRESS);
+
+        when(caseRepository.findById(1L)).thenReturn(Optional.of(existingCase));
+        when(caseRepository.existsByCaseNumber("ARCHIVED123")).thenReturn(false);
+        when(caseArchiveRepository.existsByCaseNumber("ARCHIVED123")).thenReturn(true);
+
+        assertThrows(DuplicateCaseException.class, () ->
+            caseService.updateCase(1L, updateRequest));
+    }
+
     @Test
     void shouldHandleNullStatus() {
         testRequest.setStatus(null);
@@ -0,0 +1,85 @@
+package uk.gov.hmcts.reform.dev;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import uk.gov.hmcts.reform.dev.dto.CaseChangeResponse;
+import uk.gov.hmcts.reform.dev.dto.CaseChangesResponse;
+import uk.gov.hmcts.reform.dev.enums.CaseStatus;
+import uk.gov.hmcts.reform.dev.models.Case;
+import uk.gov.hmcts.reform.dev.models.CaseTombstone;
+import uk.gov.hmcts.reform.dev.repositories.CaseRepository;
+import uk.gov.hmcts.reform.dev.repositories.CaseTombstoneRepository;
+import uk.gov.hmcts.reform.dev.services.CaseSyncService;
+import uk.gov.hmcts.reform.dev.utils.ChangeToken;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class CaseSyncServiceTest {
+
+    @Mock
+    private CaseRepository caseRepository;
+
+    @Mock
+    private CaseTombstoneRepository caseTombstoneRepository;
+
+    @InjectMocks
+    private CaseSyncService caseSyncService;
+
+    @Test
+    void shouldMergeUpdatesAndDeletionsInSequenceOrder() {
+        when(caseRepository.findChangedSince(eq(-1L), eq(0L), any()))
+            .thenReturn(List.of(trackedCase(1L, 1L), trackedCase(2L, 3L)));
+        when(caseTombstoneRepository.findChangedSince(eq(-1L), eq(0L), any()))
+            .thenReturn(List.of(new CaseTombstone(10L, 5L, 2L, LocalDateTime.now())));
+
+        CaseChangesResponse response = caseSyncService.getChangesSince(null, 2);
+
+        assertEquals(List.of(1L, 5L), response.getChanges().stream().map(CaseChangeResponse::getCaseId).toList());
+        assertEquals(CaseChangeResponse.ChangeType.DELETED, response.getChanges().get(1).getChangeType());
+        assertTrue(response.isHasMore());
+        assertEquals(new ChangeToken(2L, true, 10L), ChangeToken.parse(response.getNextToken()));
+    }
+
+    @Test
+    void shouldReturnSameTokenWhenNothingChanged() {
+        String since = new ChangeToken(7L, false, 3L).encode();
+        when(caseRepository.findChangedSince(eq(7L), eq(3L), any())).thenReturn(List.of());
+        when(caseTombstoneRepository.findChangedSince(eq(7L), eq(0L), any())).thenReturn(List.of());
+
+        CaseChangesResponse response = caseSyncService.getChangesSince(since, 100);
+
+        assertTrue(response.getChanges().isEmpty());
+        assertFalse(response.isHasMore());
+        assertEquals(since, response.getNextToken());
+    }
+
+    @Test
+    void shouldRejectMalformedToken() {
+        assertThrows(IllegalArgumentException.class, () ->
+            caseSyncService.getChangesSince("not-a-token", 100));
+    }
+
+    private Case trackedCase(Long id, Long changeSeq) {
+        Case trackedCase = new Case();
+        trackedCase.setId(id);
+        trackedCase.setCaseNumber("SYNC" + id);
+        trackedCase.setTitle("Sync Case");
+        trackedCase.setStatus(CaseStatus.NEW);
+        trackedCase.setCreatedDate(LocalDateTime.now());
+        trackedCase.setChangeSeq(changeSeq);
+        return trackedCase;
+    }
+}
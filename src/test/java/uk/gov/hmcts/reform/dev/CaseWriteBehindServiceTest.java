@@ -0,0 +1,242 @@
+package uk.gov.hmcts.reform.dev;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+import uk.gov.hmcts.reform.dev.dto.CaseRequest;
+import uk.gov.hmcts.reform.dev.dto.PendingCaseResponse;
+import uk.gov.hmcts.reform.dev.enums.CaseStatus;
+import uk.gov.hmcts.reform.dev.events.CaseChangedEvent;
+import uk.gov.hmcts.reform.dev.exceptions.CaseNotFoundException;
+import uk.gov.hmcts.reform.dev.repositories.CaseArchiveRepository;
+import uk.gov.hmcts.reform.dev.repositories.CaseRepository;
+import uk.gov.hmcts.reform.dev.services.CaseChangeTracker;
+import uk.gov.hmcts.reform.dev.services.CaseIdAllocator;
+import uk.gov.hmcts.reform.dev.services.CaseWriteBehindService;
+import uk.gov.hmcts.reform.dev.services.CaseWriteJournal;
+import uk.gov.hmcts.reform.dev.services.PendingWrite;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class CaseWriteBehindServiceTest {
+
+    @Mock
+    private CaseRepository caseRepository;
+
+    @Mock
+    private CaseArchiveRepository caseArchiveRepository;
+
+    @Mock
+    private CaseChangeTracker caseChangeTracker;
+
+    @Mock
+    private CaseIdAllocator caseIdAllocator;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+    private final List<Long> insertedIds = new CopyOnWriteArrayList<>();
+
+    @TempDir
+    private Path directory;
+
+    private CaseWriteBehindService service;
+
+    @AfterEach
+    void tearDown() throws Exception {
+        if (service != null) {
+            service.stop();
+        }
+    }
+
+    @Test
+    void shouldNotAcceptWritesBeforeStart() {
+        service = service(10);
+
+        assertTrue(service.submit(request("ASYNC1")).isEmpty());
+    }
+
+    @Test
+    void shouldFallBackToSynchronousCreateWhenQueueIsFull() throws Exception {
+        CountDownLatch writing = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        when(transactionTemplate.execute(any())).thenAnswer(invocation -> {
+            writing.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            return invocation.<TransactionCallback<Object>>getArgument(0).doInTransaction(null);
+        });
+        stubInsert();
+        when(caseIdAllocator.isSupported()).thenReturn(true);
+        when(caseIdAllocator.next()).thenReturn(1L, 2L);
+        service = service(1);
+        service.start();
+
+        assertTrue(service.submit(request("ASYNC1")).isPresent());
+        // The writer holds the first case, so the second fills the queue and the third is turned away
+        assertTrue(writing.await(5, TimeUnit.SECONDS));
+        PendingCaseResponse second = service.submit(request("ASYNC2")).orElseThrow();
+        boolean thirdAccepted = service.submit(request("ASYNC3")).isPresent();
+        PendingCaseResponse.State secondState = service.getStatus(second.getId()).getState();
+        release.countDown();
+
+        assertFalse(thirdAccepted);
+        assertEquals(PendingCaseResponse.State.PENDING, secondState);
+        verify(eventPublisher, timeout(5000).times(2)).publishEvent(any(CaseChangedEvent.class));
+        verify(caseIdAllocator, times(2)).next();
+        assertEquals(List.of(1L, 2L), insertedIds);
+    }
+
+    @Test
+    void shouldRetryFailedBatchOneCaseAtATime() throws Exception {
+        journal(write(1L, "FIRST1"), write(2L, "SECOND2"));
+        runTransactionsInline();
+        when(caseRepository.findExistingIds(anyCollection())).thenReturn(List.of());
+        when(caseRepository.findExistingCaseNumbers(anyCollection())).thenReturn(List.of());
+        when(jdbcTemplate.batchUpdate(anyString(), anyCollection(), anyInt(), any())).thenAnswer(invocation -> {
+            Collection<PendingWrite> rows = invocation.getArgument(1);
+            if (rows.size() > 1) {
+                throw new DataIntegrityViolationException("batch failed");
+            }
+            PendingWrite row = rows.iterator().next();
+            if (row.id() == 2L) {
+                throw new DuplicateKeyException("uk_legal_case_case_number");
+            }
+            insertedIds.add(row.id());
+            return new int[][] {{1}};
+        });
+        when(caseRepository.existsById(1L)).thenReturn(true);
+        when(caseIdAllocator.isSupported()).thenReturn(true);
+        service = service(10);
+        service.start();
+
+        awaitTrue(() -> service.getStatus(2L).getState() == PendingCaseResponse.State.FAILED);
+
+        assertEquals("Case number already exists: SECOND2", service.getStatus(2L).getFailureReason());
+        assertEquals(PendingCaseResponse.State.CREATED, service.getStatus(1L).getState());
+        assertEquals(List.of(1L), insertedIds);
+        verify(eventPublisher, timeout(5000)).publishEvent(any(CaseChangedEvent.class));
+    }
+
+    @Test
+    void shouldReplayJournalSkippingCasesAlreadyInsertedAndTruncateOnceIdle() throws Exception {
+        Path path = journal(write(1L, "FIRST1"), write(2L, "SECOND2"));
+        runTransactionsInline();
+        stubInsert();
+        when(caseRepository.findExistingIds(anyCollection())).thenReturn(List.of(1L));
+        when(caseIdAllocator.isSupported()).thenReturn(true);
+        service = service(10);
+        service.start();
+
+        verify(eventPublisher, timeout(5000)).publishEvent(any(CaseChangedEvent.class));
+        awaitTrue(() -> size(path) == 0);
+
+        assertEquals(List.of(2L), insertedIds);
+    }
+
+    @Test
+    void shouldReportUnknownIdAsNotFound() {
+        service = service(10);
+        when(caseRepository.existsById(99L)).thenReturn(false);
+
+        assertThrows(CaseNotFoundException.class, () -> service.getStatus(99L));
+    }
+
+    private CaseWriteBehindService service(int queueCapacity) {
+        return new CaseWriteBehindService(caseRepository, caseArchiveRepository, caseChangeTracker, caseIdAllocator,
+                                          eventPublisher, transactionTemplate, jdbcTemplate, objectMapper, true,
+                                          queueCapacity, 10, Duration.ofMillis(50), 100,
+                                          directory.resolve("journal.log"));
+    }
+
+    private void runTransactionsInline() {
+        when(transactionTemplate.execute(any())).thenAnswer(invocation ->
+            invocation.<TransactionCallback<Object>>getArgument(0).doInTransaction(null));
+    }
+
+    private void stubInsert() {
+        when(jdbcTemplate.batchUpdate(anyString(), anyCollection(), anyInt(), any())).thenAnswer(invocation -> {
+            Collection<PendingWrite> rows = invocation.getArgument(1);
+            rows.forEach(row -> insertedIds.add(row.id()));
+            return new int[][] {new int[rows.size()]};
+        });
+    }
+
+    // Leaves the writes pending in the journal, as after a crash before the writer got to them
+    private Path journal(PendingWrite... writes) throws Exception {
+        Path path = directory.resolve("journal.log");
+        try (CaseWriteJournal journal = new CaseWriteJournal(path, objectMapper)) {
+            for (PendingWrite write : writes) {
+                journal.appendPending(write);
+            }
+        }
+        return path;
+    }
+
+    private static long size(Path path) {
+        try {
+            return Files.size(path);
+        } catch (Exception e) {
+            return -1;
+        }
+    }
+
+    private static void awaitTrue(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (!condition.getAsBoolean()) {
+            assertTrue(System.nanoTime() < deadline, "Timed out waiting for the write-behind writer");
+            Thread.sleep(10);
+        }
+    }
+
+    private static PendingWrite write(long id, String caseNumber) {
+        return new PendingWrite(id, request(caseNumber), "alice", LocalDateTime.now());
+    }
+
+    private static CaseRequest request(String caseNumber) {
+        CaseRequest request = new CaseRequest();
+        request.setCaseNumber(caseNumber);
+        request.setTitle("Write-behind Case");
+        request.setStatus(CaseStatus.NEW);
+        return request;
+    }
+}
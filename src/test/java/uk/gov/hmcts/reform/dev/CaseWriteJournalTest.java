@@ -0,0 +1,98 @@
+package uk.gov.hmcts.reform.dev;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import uk.gov.hmcts.reform.dev.dto.CaseRequest;
+import uk.gov.hmcts.reform.dev.enums.CaseStatus;
+import uk.gov.hmcts.reform.dev.services.CaseWriteJournal;
+import uk.gov.hmcts.reform.dev.services.PendingWrite;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class CaseWriteJournalTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+
+    @TempDir
+    private Path directory;
+
+    @Test
+    void shouldHavePendingWriteOnDiskBeforeAppendReturns() throws Exception {
+        Path path = directory.resolve("journal.log");
+        try (CaseWriteJournal journal = new CaseWriteJournal(path, objectMapper)) {
+            journal.appendPending(write(1L, "JOURNAL1"));
+
+            // Read back while the journal is still open, as a restarted process would after a crash
+            String contents = Files.readString(path);
+            assertTrue(contents.endsWith("\n"));
+            assertTrue(contents.contains("\"JOURNAL1\""));
+        }
+    }
+
+    @Test
+    void shouldRecoverOnlyWritesWithoutCommitMarkerInAcceptedOrder() throws Exception {
+        Path path = directory.resolve("journal.log");
+        CaseWriteJournal journal = new CaseWriteJournal(path, objectMapper);
+        journal.appendPending(write(3L, "JOURNAL3"));
+        journal.appendPending(write(1L, "JOURNAL1"));
+        journal.appendPending(write(2L, "JOURNAL2"));
+        journal.appendCommitted(List.of(1L));
+        // Simulates a crash: nothing more is written and the file is reopened by a new instance
+        journal.close();
+
+        try (CaseWriteJournal restarted = new CaseWriteJournal(path, objectMapper)) {
+            List<PendingWrite> recovered = restarted.recover();
+
+            assertEquals(List.of(3L, 2L), recovered.stream().map(PendingWrite::id).toList());
+            assertEquals("JOURNAL3", recovered.get(0).request().getCaseNumber());
+            assertEquals(CaseStatus.NEW, recovered.get(0).request().getStatus());
+        }
+    }
+
+    @Test
+    void shouldSkipTornLastLine() throws Exception {
+        Path path = directory.resolve("journal.log");
+        try (CaseWriteJournal journal = new CaseWriteJournal(path, objectMapper)) {
+            journal.appendPending(write(1L, "JOURNAL1"));
+        }
+        // A crash part way through appending the next entry
+        Files.writeString(path, "{\"write\":{\"id\":2,\"request\":{\"caseNum", StandardCharsets.UTF_8,
+                          StandardOpenOption.APPEND);
+
+        try (CaseWriteJournal restarted = new CaseWriteJournal(path, objectMapper)) {
+            assertEquals(List.of(1L), restarted.recover().stream().map(PendingWrite::id).toList());
+        }
+    }
+
+    @Test
+    void shouldStartEmptyAfterTruncateAndKeepLaterAppends() throws Exception {
+        Path path = directory.resolve("journal.log");
+        try (CaseWriteJournal journal = new CaseWriteJournal(path, objectMapper)) {
+            journal.appendPending(write(1L, "JOURNAL1"));
+            journal.appendCommitted(List.of(1L));
+            journal.truncate();
+            assertTrue(journal.recover().isEmpty());
+
+            journal.appendPending(write(2L, "JOURNAL2"));
+
+            assertEquals(List.of(2L), journal.recover().stream().map(PendingWrite::id).toList());
+        }
+    }
+
+    private static PendingWrite write(long id, String caseNumber) {
+        CaseRequest request = new CaseRequest();
+        request.setCaseNumber(caseNumber);
+        request.setTitle("Journalled Case");
+        request.setStatus(CaseStatus.NEW);
+        return new PendingWrite(id, request, "alice", LocalDateTime.now());
+    }
+}
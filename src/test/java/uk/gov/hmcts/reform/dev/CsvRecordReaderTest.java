@@ -0,0 +1,36 @@
+package uk.gov.hmcts.reform.dev;
+
+import org.junit.jupiter.api.Test;
+import uk.gov.hmcts.reform.dev.utils.CsvRecordReader;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class CsvRecordReaderTest {
+
+    @Test
+    void shouldReadQuotedFieldsWithCommasQuotesAndLineBreaks() throws IOException {
+        CsvRecordReader reader = new CsvRecordReader(new StringReader(
+            "caseNumber,title,description,status\r\n"
+                + "ABC1,\"Smith, J\",\"Said \"\"no\"\"\nthen left\",NEW\n"
+                + "\n"
+                + "ABC2,Jones,,CLOSED"), 1000);
+
+        assertEquals(List.of("caseNumber", "title", "description", "status"), reader.next());
+        assertEquals(List.of("ABC1", "Smith, J", "Said \"no\"\nthen left", "NEW"), reader.next());
+        assertEquals(List.of("ABC2", "Jones", "", "CLOSED"), reader.next());
+        assertEquals(3, reader.getRecordNumber());
+        assertNull(reader.next());
+    }
+
+    @Test
+    void shouldRejectUnterminatedQuoteAndOversizedField() {
+        assertThrows(IOException.class, () -> new CsvRecordReader(new StringReader("\"open"), 100).next());
+        assertThrows(IOException.class, () -> new CsvRecordReader(new StringReader("abcdef"), 3).next());
+    }
+}
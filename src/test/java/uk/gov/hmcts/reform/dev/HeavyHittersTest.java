@@ -0,0 +1,59 @@
+package uk.gov.hmcts.reform.dev;
+
+import org.junit.jupiter.api.Test;
+import uk.gov.hmcts.reform.dev.utils.CountMinSketch;
+import uk.gov.hmcts.reform.dev.utils.HeavyHitters;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class HeavyHittersTest {
+
+    @Test
+    void shouldNeverUndercount() {
+        CountMinSketch sketch = new CountMinSketch(64, 4);
+        for (long id = 0; id < 1000; id++) {
+            sketch.increment(id);
+        }
+        for (int i = 0; i < 50; i++) {
+            sketch.increment(7L);
+        }
+
+        assertTrue(sketch.estimate(7L) >= 51);
+        assertTrue(sketch.estimate(999L) >= 1);
+    }
+
+    @Test
+    void shouldRankHotKeysAboveLongTail() {
+        HeavyHitters<Long> heavyHitters = new HeavyHitters<>(new CountMinSketch(1024, 4), 3);
+        for (int round = 0; round < 100; round++) {
+            heavyHitters.record(1L);
+            if (round % 2 == 0) {
+                heavyHitters.record(2L);
+            }
+            heavyHitters.record(1000L + round);
+        }
+
+        List<HeavyHitters.Entry<Long>> top = heavyHitters.top(2);
+
+        assertEquals(List.of(1L, 2L), top.stream().map(HeavyHitters.Entry::key).toList());
+        assertTrue(top.get(0).estimate() >= 100);
+    }
+
+    @Test
+    void shouldHalveCountsOnDecay() {
+        CountMinSketch sketch = new CountMinSketch(1024, 4);
+        HeavyHitters<String> heavyHitters = new HeavyHitters<>(sketch, 10);
+        for (int i = 0; i < 8; i++) {
+            heavyHitters.record("alice");
+        }
+        heavyHitters.record("bob");
+
+        heavyHitters.decay();
+
+        assertEquals(List.of(new HeavyHitters.Entry<>("alice", 4L)), heavyHitters.top(10));
+        assertEquals(4, sketch.estimate("alice"));
+    }
+}
@@ -0,0 +1,200 @@
+package uk.gov.hmcts.reform.dev;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.ResponseEntity;
+import uk.gov.hmcts.reform.dev.dto.CaseRequest;
+import uk.gov.hmcts.reform.dev.enums.CaseStatus;
+import uk.gov.hmcts.reform.dev.exceptions.IdempotencyConflictException;
+import uk.gov.hmcts.reform.dev.models.IdempotencyRecord;
+import uk.gov.hmcts.reform.dev.repositories.IdempotencyRecordRepository;
+import uk.gov.hmcts.reform.dev.services.IdempotencyService;
+
+import java.net.URI;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class IdempotencyServiceTest {
+
+    @Mock
+    private IdempotencyRecordRepository idempotencyRecordRepository;
+
+    private IdempotencyService idempotencyService;
+    private CaseRequest request;
+
+    @BeforeEach
+    void setUp() {
+        idempotencyService = new IdempotencyService(
+            idempotencyRecordRepository, new ObjectMapper(), Duration.ofHours(1), Duration.ofSeconds(5), 100);
+        request = new CaseRequest();
+        request.setCaseNumber("IDEM1");
+        request.setTitle("Test Case");
+        request.setStatus(CaseStatus.NEW);
+    }
+
+    @Test
+    void shouldReplayStoredResponseWithoutRunningAgain() {
+        when(idempotencyRecordRepository.findById(anyString())).thenReturn(Optional.empty());
+        AtomicInteger runs = new AtomicInteger();
+
+        ResponseEntity<?> first = idempotencyService.execute("key-1", "POST /cases", request,
+            () -> ResponseEntity.ok(Map.of("id", runs.incrementAndGet())));
+        ResponseEntity<?> second = idempotencyService.execute("key-1", "POST /cases", request,
+            () -> ResponseEntity.ok(Map.of("id", runs.incrementAndGet())));
+
+        assertEquals(1, runs.get());
+        assertNull(first.getHeaders().getFirst(IdempotencyService.REPLAYED_HEADER));
+        assertEquals("true", second.getHeaders().getFirst(IdempotencyService.REPLAYED_HEADER));
+        assertEquals("{\"id\":1}", second.getBody());
+        verify(idempotencyRecordRepository).save(any(IdempotencyRecord.class));
+    }
+
+    @Test
+    void shouldRejectKeyReusedForDifferentRequest() {
+        when(idempotencyRecordRepository.findById(anyString())).thenReturn(Optional.empty());
+        idempotencyService.execute("key-2", "POST /cases", request, () -> ResponseEntity.ok("created"));
+
+        request.setTitle("Something else");
+
+        assertThrows(IdempotencyConflictException.class, () ->
+            idempotencyService.execute("key-2", "POST /cases", request, () -> ResponseEntity.ok("created")));
+    }
+
+    @Test
+    void shouldMakeConcurrentDuplicateWaitForFirstExecution() throws Exception {
+        when(idempotencyRecordRepository.findById(anyString())).thenReturn(Optional.empty());
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicInteger runs = new AtomicInteger();
+
+        CompletableFuture<ResponseEntity<?>> first = CompletableFuture.supplyAsync(() ->
+            idempotencyService.execute("key-3", "POST /cases", request, () -> {
+                runs.incrementAndGet();
+                started.countDown();
+                await(release);
+                return ResponseEntity.ok("created");
+            }));
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+        CompletableFuture<ResponseEntity<?>> duplicate = CompletableFuture.supplyAsync(() ->
+            idempotencyService.execute("key-3", "POST /cases", request, () -> {
+                runs.incrementAndGet();
+                return ResponseEntity.ok("created");
+            }));
+        release.countDown();
+
+        assertEquals(200, first.get(5, TimeUnit.SECONDS).getStatusCode().value());
+        assertEquals("\"created\"", duplicate.get(5, TimeUnit.SECONDS).getBody());
+        assertEquals(1, runs.get());
+    }
+
+    @Test
+    void shouldNotStoreFailedExecution() {
+        when(idempotencyRecordRepository.findById(anyString())).thenReturn(Optional.empty());
+
+        assertThrows(IllegalStateException.class, () ->
+            idempotencyService.execute("key-4", "POST /cases", request, () -> {
+                throw new IllegalStateException("boom");
+            }));
+        ResponseEntity<?> retry = idempotencyService.execute(
+            "key-4", "POST /cases", request, () -> ResponseEntity.ok("created"));
+
+        assertEquals("created", retry.getBody());
+        verify(idempotencyRecordRepository).save(any(IdempotencyRecord.class));
+    }
+
+    @Test
+    void shouldReplayRecordPersistedBeforeRestart() {
+        when(idempotencyRecordRepository.findById(anyString())).thenReturn(Optional.empty());
+        idempotencyService.execute("key-5", "POST /cases", request, () -> ResponseEntity.ok("created"));
+        ArgumentCaptor<IdempotencyRecord> saved = ArgumentCaptor.forClass(IdempotencyRecord.class);
+        verify(idempotencyRecordRepository).save(saved.capture());
+
+        IdempotencyService restarted = new IdempotencyService(
+            idempotencyRecordRepository, new ObjectMapper(), Duration.ofHours(1), Duration.ofSeconds(5), 100);
+        when(idempotencyRecordRepository.findById(saved.getValue().getScopedKey()))
+            .thenReturn(Optional.of(saved.getValue()));
+        ResponseEntity<?> replayed = restarted.execute("key-5", "POST /cases", request, () -> {
+            throw new IllegalStateException("should not run again");
+        });
+
+        assertEquals("true", replayed.getHeaders().getFirst(IdempotencyService.REPLAYED_HEADER));
+        assertEquals("\"created\"", replayed.getBody());
+    }
+
+    @Test
+    void shouldReplayResponseHeaders() {
+        when(idempotencyRecordRepository.findById(anyString())).thenReturn(Optional.empty());
+        idempotencyService.execute("key-6", "POST /cases", request, () -> ResponseEntity.accepted()
+            .location(URI.create("/cases/pending/1"))
+            .header("Preference-Applied", "respond-async")
+            .body("queued"));
+        ArgumentCaptor<IdempotencyRecord> saved = ArgumentCaptor.forClass(IdempotencyRecord.class);
+        verify(idempotencyRecordRepository).save(saved.capture());
+
+        ResponseEntity<?> replayed = idempotencyService.execute(
+            "key-6", "POST /cases", request, () -> ResponseEntity.ok("created"));
+        IdempotencyService restarted = new IdempotencyService(
+            idempotencyRecordRepository, new ObjectMapper(), Duration.ofHours(1), Duration.ofSeconds(5), 100);
+        when(idempotencyRecordRepository.findById(saved.getValue().getScopedKey()))
+            .thenReturn(Optional.of(saved.getValue()));
+        ResponseEntity<?> replayedAfterRestart = restarted.execute(
+            "key-6", "POST /cases", request, () -> ResponseEntity.ok("created"));
+
+        for (ResponseEntity<?> response : List.of(replayed, replayedAfterRestart)) {
+            assertEquals(202, response.getStatusCode().value());
+            assertEquals(URI.create("/cases/pending/1"), response.getHeaders().getLocation());
+            assertEquals("respond-async", response.getHeaders().getFirst("Preference-Applied"));
+        }
+    }
+
+    @Test
+    void shouldReleaseKeyWhenResponseCannotBeStored() {
+        when(idempotencyRecordRepository.findById(anyString())).thenReturn(Optional.empty());
+        AtomicInteger runs = new AtomicInteger();
+        // Jackson refuses to serialise an object with no properties
+        Object unserialisable = new Object();
+
+        ResponseEntity<?> first = idempotencyService.execute("key-7", "POST /cases", request, () -> {
+            runs.incrementAndGet();
+            return ResponseEntity.ok(unserialisable);
+        });
+        ResponseEntity<?> retry = idempotencyService.execute("key-7", "POST /cases", request, () -> {
+            runs.incrementAndGet();
+            return ResponseEntity.ok("created");
+        });
+
+        assertSame(unserialisable, first.getBody());
+        assertEquals("created", retry.getBody());
+        assertEquals(2, runs.get());
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,62 @@
+package uk.gov.hmcts.reform.dev;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.actuate.endpoint.InvalidEndpointRequestException;
+import org.springframework.core.io.Resource;
+import org.springframework.util.unit.DataSize;
+import uk.gov.hmcts.reform.dev.diagnostics.JfrRecordingEndpoint;
+import uk.gov.hmcts.reform.dev.diagnostics.JfrRecordingEndpoint.RecordingDescriptor;
+
+import java.io.InputStream;
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class JfrRecordingEndpointTest {
+
+    private final JfrRecordingEndpoint endpoint = new JfrRecordingEndpoint(
+        Duration.ofSeconds(30), Duration.ofMinutes(1), DataSize.ofMegabytes(16), 1);
+
+    @AfterEach
+    void tearDown() {
+        endpoint.closeAll();
+    }
+
+    @Test
+    void shouldCapDurationAndDownloadRunningRecording() throws Exception {
+        RecordingDescriptor started = endpoint.start(3600L, null);
+
+        assertEquals(Duration.ofMinutes(1), started.duration());
+        assertEquals("RUNNING", started.state());
+        assertEquals(1, endpoint.recordings().size());
+
+        Resource resource = endpoint.download(started.id());
+        assertNotNull(resource);
+        try (InputStream stream = resource.getInputStream()) {
+            assertTrue(stream.readAllBytes().length > 0);
+        }
+    }
+
+    @Test
+    void shouldRejectUnknownSettingsAndTooManyRunningRecordings() {
+        assertThrows(InvalidEndpointRequestException.class, () -> endpoint.start(10L, "everything"));
+
+        endpoint.start(10L, "profile");
+
+        assertThrows(InvalidEndpointRequestException.class, () -> endpoint.start(10L, null));
+    }
+
+    @Test
+    void shouldDiscardRecording() {
+        RecordingDescriptor started = endpoint.start(null, null);
+
+        assertNotNull(endpoint.discard(started.id()));
+        assertNull(endpoint.download(started.id()));
+        assertTrue(endpoint.recordings().isEmpty());
+    }
+}
@@ -0,0 +1,54 @@
+package uk.gov.hmcts.reform.dev;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.core.spi.FilterReply;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import uk.gov.hmcts.reform.dev.logging.RateLimitingTurboFilter;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class RateLimitingTurboFilterTest {
+
+    private final LoggerContext context = new LoggerContext();
+    private final RateLimitingTurboFilter filter = new RateLimitingTurboFilter();
+
+    @BeforeEach
+    void setUp() {
+        context.getLogger(Logger.ROOT_LOGGER_NAME).setLevel(Level.INFO);
+        filter.setLoggers("uk.gov.hmcts.reform.dev.services.CaseService");
+        filter.setMaxPerInterval(2);
+        filter.setIntervalMillis(60_000);
+        filter.start();
+    }
+
+    @Test
+    void shouldDenyRepeatedMessagesPastTheLimit() {
+        Logger logger = context.getLogger("uk.gov.hmcts.reform.dev.services.CaseService");
+
+        assertEquals(FilterReply.NEUTRAL, decide(logger, Level.INFO, "Retrieving case with id: {}"));
+        assertEquals(FilterReply.NEUTRAL, decide(logger, Level.INFO, "Retrieving case with id: {}"));
+        assertEquals(FilterReply.DENY, decide(logger, Level.INFO, "Retrieving case with id: {}"));
+        assertEquals(FilterReply.NEUTRAL, decide(logger, Level.INFO, "Deleting case with id: {}"));
+        assertEquals(1, filter.getSuppressedCount());
+    }
+
+    @Test
+    void shouldAlwaysPassWarningsOtherLoggersAndDisabledLevels() {
+        Logger sampled = context.getLogger("uk.gov.hmcts.reform.dev.services.CaseService");
+        Logger other = context.getLogger("uk.gov.hmcts.reform.dev.services.CaseServiceHelper");
+
+        for (int i = 0; i < 5; i++) {
+            assertEquals(FilterReply.NEUTRAL, decide(sampled, Level.WARN, "Slow query"));
+            assertEquals(FilterReply.NEUTRAL, decide(sampled, Level.DEBUG, "Converting case"));
+            assertEquals(FilterReply.NEUTRAL, decide(other, Level.INFO, "Retrieving case"));
+        }
+        assertEquals(0, filter.getSuppressedCount());
+    }
+
+    private FilterReply decide(Logger logger, Level level, String format) {
+        return filter.decide(null, logger, level, format, null, null);
+    }
+}
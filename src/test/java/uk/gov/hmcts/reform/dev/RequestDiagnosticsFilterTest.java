@@ -0,0 +1,75 @@
+package uk.gov.hmcts.reform.dev;
+
+import org.h2.jdbcx.JdbcDataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import uk.gov.hmcts.reform.dev.diagnostics.RequestDiagnosticsFilter;
+import uk.gov.hmcts.reform.dev.diagnostics.RequestSqlStats;
+import uk.gov.hmcts.reform.dev.diagnostics.StatementTimingDataSourcePostProcessor;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.List;
+import javax.sql.DataSource;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class RequestDiagnosticsFilterTest {
+
+    @AfterEach
+    void tearDown() {
+        RequestSqlStats.end();
+    }
+
+    @Test
+    void shouldCountStatementsRunThroughWrappedDataSource() throws Exception {
+        DataSource dataSource = StatementTimingDataSourcePostProcessor.wrap(h2DataSource());
+        RequestSqlStats stats = RequestSqlStats.begin();
+
+        try (Connection connection = dataSource.getConnection()) {
+            try (Statement statement = connection.createStatement()) {
+                statement.execute("create table if not exists item (id int)");
+            }
+            for (int i = 0; i < 3; i++) {
+                try (PreparedStatement statement = connection.prepareStatement("select * from item where id = ?")) {
+                    statement.setInt(1, i);
+                    try (ResultSet ignored = statement.executeQuery()) {
+                        // Only the execution is of interest
+                    }
+                }
+            }
+        }
+
+        assertEquals(4, stats.getStatementCount());
+        List<RequestSqlStats.StatementStats> repeated = stats.getRepeatedStatements(3);
+        assertEquals(1, repeated.size());
+        assertEquals("select * from item where id = ?", repeated.get(0).getSql());
+        assertEquals(3, repeated.get(0).getCount());
+    }
+
+    @Test
+    void shouldAddServerTimingHeader() throws Exception {
+        RequestDiagnosticsFilter filter = new RequestDiagnosticsFilter(Duration.ofSeconds(10), 5);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        filter.doFilter(new MockHttpServletRequest("GET", "/cases"), response, new MockFilterChain());
+
+        String serverTiming = response.getHeader("Server-Timing");
+        assertNotNull(serverTiming);
+        assertTrue(serverTiming.startsWith("db;dur=0.00;desc=\"0 statements\", app;dur="));
+    }
+
+    private static DataSource h2DataSource() {
+        JdbcDataSource dataSource = new JdbcDataSource();
+        dataSource.setURL("jdbc:h2:mem:diagnostics;DB_CLOSE_DELAY=-1");
+        return dataSource;
+    }
+}
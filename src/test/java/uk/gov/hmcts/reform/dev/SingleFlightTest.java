@@ -0,0 +1,83 @@
+package uk.gov.hmcts.reform.dev;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import uk.gov.hmcts.reform.dev.exceptions.CaseNotFoundException;
+import uk.gov.hmcts.reform.dev.utils.SingleFlight;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class SingleFlightTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final Counter loads = meterRegistry.counter("loads");
+    private final Counter coalesced = meterRegistry.counter("coalesced");
+    private final SingleFlight<Long, String> singleFlight = new SingleFlight<>(loads, coalesced);
+
+    @Test
+    void shouldShareOneLoadBetweenConcurrentCallers() throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicInteger calls = new AtomicInteger();
+
+        CompletableFuture<String> leader = CompletableFuture.supplyAsync(() -> singleFlight.load(1L, () -> {
+            calls.incrementAndGet();
+            started.countDown();
+            await(release);
+            return "case-1";
+        }));
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+        CompletableFuture<String> follower = CompletableFuture.supplyAsync(() -> singleFlight.load(1L, () -> {
+            calls.incrementAndGet();
+            return "other";
+        }));
+        while (coalesced.count() < 1) {
+            Thread.onSpinWait();
+        }
+        release.countDown();
+
+        assertEquals("case-1", leader.get(5, TimeUnit.SECONDS));
+        assertEquals("case-1", follower.get(5, TimeUnit.SECONDS));
+        assertEquals(1, calls.get());
+        assertEquals(1.0, loads.count());
+        assertEquals(0, singleFlight.inFlightCount());
+    }
+
+    @Test
+    void shouldLoadAgainOnceFlightHasLanded() {
+        singleFlight.load(1L, () -> "first");
+
+        assertEquals("second", singleFlight.load(1L, () -> "second"));
+        assertEquals(2.0, loads.count());
+    }
+
+    @Test
+    void shouldRethrowLoaderExceptionToCaller() {
+        CaseNotFoundException notFound = new CaseNotFoundException(1L);
+
+        CaseNotFoundException thrown = assertThrows(CaseNotFoundException.class, () ->
+            singleFlight.load(1L, () -> {
+                throw notFound;
+            }));
+
+        assertSame(notFound, thrown);
+        assertEquals(0, singleFlight.inFlightCount());
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
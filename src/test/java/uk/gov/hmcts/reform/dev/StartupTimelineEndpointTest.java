@@ -0,0 +1,47 @@
+package uk.gov.hmcts.reform.dev;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.context.metrics.buffering.BufferingApplicationStartup;
+import org.springframework.core.metrics.DefaultApplicationStartup;
+import org.springframework.core.metrics.StartupStep;
+import uk.gov.hmcts.reform.dev.diagnostics.StartupTimelineEndpoint;
+import uk.gov.hmcts.reform.dev.diagnostics.StartupTimelineEndpoint.Timeline;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class StartupTimelineEndpointTest {
+
+    @Test
+    void shouldListStepsInStartOrderAndSlowestFirst() throws Exception {
+        BufferingApplicationStartup startup = new BufferingApplicationStartup(100);
+        startup.startRecording();
+        StartupStep context = startup.start("spring.context.refresh");
+        StartupStep bean = startup.start("spring.beans.instantiate").tag("beanName", "caseService");
+        bean.end();
+        StartupStep slow = startup.start("spring.data.repository.scanning");
+        Thread.sleep(20);
+        slow.end();
+        context.end();
+
+        Timeline timeline = new StartupTimelineEndpoint(startup).timeline(null, 1);
+
+        assertEquals(List.of("spring.context.refresh", "spring.beans.instantiate", "spring.data.repository.scanning"),
+                     timeline.steps().stream().map(StartupTimelineEndpoint.Step::name).toList());
+        assertEquals(Map.of("beanName", "caseService"), timeline.steps().get(1).tags());
+        assertEquals(timeline.steps().get(0).id(), timeline.steps().get(1).parentId());
+        assertEquals("spring.context.refresh", timeline.slowest().get(0).name());
+        assertEquals(1, timeline.slowest().size());
+        assertEquals(2, new StartupTimelineEndpoint(startup).timeline(20L, null).steps().size());
+    }
+
+    @Test
+    void shouldBeEmptyWhenStartupIsNotBuffered() {
+        Timeline timeline = new StartupTimelineEndpoint(new DefaultApplicationStartup()).timeline(null, null);
+
+        assertTrue(timeline.steps().isEmpty());
+    }
+}
@@ -0,0 +1,81 @@
+package uk.gov.hmcts.reform.dev;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import uk.gov.hmcts.reform.dev.tracing.Span;
+import uk.gov.hmcts.reform.dev.tracing.SpanData;
+import uk.gov.hmcts.reform.dev.tracing.SpanExporter;
+import uk.gov.hmcts.reform.dev.tracing.SpanKind;
+import uk.gov.hmcts.reform.dev.tracing.TraceContext;
+import uk.gov.hmcts.reform.dev.tracing.Tracer;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class TracerTest {
+
+    private static final String TRACEPARENT = "00-4bf92f3577b34da6a3ce929d0e0e4736-00f067aa0ba902b7-01";
+
+    private final List<SpanData> exported = new ArrayList<>();
+
+    @Test
+    void shouldParseAndFormatTraceparent() {
+        TraceContext context = TraceContext.parse(TRACEPARENT);
+
+        assertEquals("4bf92f3577b34da6a3ce929d0e0e4736", context.traceId());
+        assertEquals("00f067aa0ba902b7", context.spanId());
+        assertTrue(context.sampled());
+        assertEquals(TRACEPARENT, context.toTraceparent());
+        assertNull(TraceContext.parse("00-00000000000000000000000000000000-00f067aa0ba902b7-01"));
+        assertNull(TraceContext.parse("00-4BF92F3577B34DA6A3CE929D0E0E4736-00f067aa0ba902b7-01"));
+        assertNull(TraceContext.parse("garbage"));
+    }
+
+    @Test
+    void shouldContinueIncomingTraceAndExportChildrenFirst() {
+        Tracer tracer = tracer(0.0);
+
+        Span server = tracer.startServerSpan("GET /cases/1", TraceContext.parse(TRACEPARENT));
+        Span service = tracer.startSpan("CaseService.getCaseById", SpanKind.INTERNAL);
+        Span jdbc = tracer.startSpan("jdbc", SpanKind.CLIENT);
+        jdbc.end();
+        service.end();
+        server.end();
+
+        assertEquals(List.of("jdbc", "CaseService.getCaseById", "GET /cases/1"),
+                     exported.stream().map(SpanData::name).toList());
+        SpanData root = exported.get(2);
+        assertEquals("4bf92f3577b34da6a3ce929d0e0e4736", root.traceId());
+        assertEquals("00f067aa0ba902b7", root.parentSpanId());
+        assertEquals(root.spanId(), exported.get(1).parentSpanId());
+        assertEquals(exported.get(1).spanId(), exported.get(0).parentSpanId());
+        assertSame(Span.NOOP, tracer.currentSpan());
+    }
+
+    @Test
+    void shouldRecordNothingForUnsampledTrace() {
+        Tracer tracer = tracer(0.0);
+
+        Span server = tracer.startServerSpan("GET /cases", null);
+        Span child = tracer.startSpan("CaseService.getAllCases", SpanKind.INTERNAL);
+        child.end();
+        server.end();
+
+        assertFalse(server.isRecording());
+        assertSame(Span.NOOP, child);
+        assertTrue(exported.isEmpty());
+    }
+
+    private Tracer tracer(double sampleRatio) {
+        SpanExporter exporter = exported::add;
+        StaticListableBeanFactory beanFactory = new StaticListableBeanFactory(Map.of("exporter", exporter));
+        return new Tracer(beanFactory.getBeanProvider(SpanExporter.class), true, sampleRatio);
+    }
+}
@@ -0,0 +1,206 @@
+package uk.gov.hmcts.reform.dev;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+import uk.gov.hmcts.reform.dev.enums.CaseStatus;
+import uk.gov.hmcts.reform.dev.events.CaseChangedEvent;
+import uk.gov.hmcts.reform.dev.models.Case;
+import uk.gov.hmcts.reform.dev.models.OutboxEvent;
+import uk.gov.hmcts.reform.dev.models.WebhookDelivery;
+import uk.gov.hmcts.reform.dev.models.WebhookSubscription;
+import uk.gov.hmcts.reform.dev.repositories.CaseRepository;
+import uk.gov.hmcts.reform.dev.repositories.OutboxEventRepository;
+import uk.gov.hmcts.reform.dev.repositories.WebhookDeliveryRepository;
+import uk.gov.hmcts.reform.dev.repositories.WebhookSubscriptionRepository;
+import uk.gov.hmcts.reform.dev.services.WebhookDispatcher;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyIterable;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class WebhookDispatcherTest {
+
+    @Mock
+    private OutboxEventRepository outboxEventRepository;
+
+    @Mock
+    private WebhookSubscriptionRepository webhookSubscriptionRepository;
+
+    @Mock
+    private WebhookDeliveryRepository webhookDeliveryRepository;
+
+    @Mock
+    private CaseRepository caseRepository;
+
+    private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+    private final List<JsonNode> received = new CopyOnWriteArrayList<>();
+    private final AtomicInteger failuresToSimulate = new AtomicInteger();
+
+    @Captor
+    private ArgumentCaptor<List<WebhookDelivery>> deliveriesCaptor;
+
+    private final List<WebhookSubscription> subscriptions = new ArrayList<>();
+
+    private HttpServer partner;
+    private WebhookDispatcher dispatcher;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        // Local stand-in for a partner system
+        partner = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        partner.createContext("/hooks", exchange -> {
+            byte[] body = exchange.getRequestBody().readAllBytes();
+            int status = failuresToSimulate.getAndDecrement() > 0 ? 503 : 204;
+            if (status == 204) {
+                received.add(objectMapper.readTree(body));
+            }
+            exchange.sendResponseHeaders(status, -1);
+            exchange.close();
+        });
+        partner.start();
+
+        dispatcher = new WebhookDispatcher(outboxEventRepository, webhookSubscriptionRepository,
+                                           webhookDeliveryRepository, caseRepository, objectMapper,
+                                           100, 4, 3, Duration.ofMinutes(1), Duration.ofSeconds(2));
+
+        WebhookSubscription subscription = new WebhookSubscription();
+        subscription.setId(1L);
+        subscription.setUrl("http://localhost:" + partner.getAddress().getPort() + "/hooks");
+        subscription.setActive(true);
+        subscriptions.add(subscription);
+        when(webhookSubscriptionRepository.findByActiveTrue()).thenReturn(subscriptions);
+    }
+
+    @AfterEach
+    void tearDown() {
+        partner.stop(0);
+    }
+
+    @Test
+    void shouldCoalesceChangesToTheSameCaseIntoOneNotification() {
+        when(outboxEventRepository.findAllByOrderByIdAsc(any(Pageable.class))).thenReturn(List.of(
+            new OutboxEvent(1L, 7L, CaseChangedEvent.Type.CREATED, LocalDateTime.now()),
+            new OutboxEvent(2L, 7L, CaseChangedEvent.Type.UPDATED, LocalDateTime.now()),
+            new OutboxEvent(3L, 8L, CaseChangedEvent.Type.CREATED, LocalDateTime.now()),
+            new OutboxEvent(4L, 8L, CaseChangedEvent.Type.DELETED, LocalDateTime.now())
+        ));
+        when(caseRepository.findAllById(anyIterable())).thenReturn(List.of(caseWithId(7L)));
+
+        int drained = dispatcher.dispatchBatch();
+
+        assertEquals(4, drained);
+        assertEquals(1, received.size());
+        assertEquals("CREATED", received.get(0).get("eventType").asText());
+        assertEquals(7L, received.get(0).get("caseId").asLong());
+        assertEquals("IN_PROGRESS", received.get(0).get("caseDetails").get("status").asText());
+        verify(outboxEventRepository).deleteAllByIdInBatch(List.of(1L, 2L, 3L, 4L));
+        verify(webhookDeliveryRepository, never()).saveAll(any());
+    }
+
+    @Test
+    void shouldKeepFailedDeliveryAndRetryItOnALaterRun() {
+        failuresToSimulate.set(1);
+        when(outboxEventRepository.findAllByOrderByIdAsc(any(Pageable.class))).thenReturn(List.of(
+            new OutboxEvent(1L, 7L, CaseChangedEvent.Type.UPDATED, LocalDateTime.now())
+        ));
+        when(caseRepository.findAllById(anyIterable())).thenReturn(List.of(caseWithId(7L)));
+
+        dispatcher.dispatchBatch();
+
+        assertTrue(received.isEmpty());
+        verify(outboxEventRepository).deleteAllByIdInBatch(List.of(1L));
+        verify(webhookDeliveryRepository).saveAll(deliveriesCaptor.capture());
+        WebhookDelivery stored = deliveriesCaptor.getValue().get(0);
+        assertEquals(1, stored.getAttempts());
+        assertEquals("HTTP 503", stored.getLastError());
+        assertTrue(stored.getNextAttemptDate().isAfter(LocalDateTime.now()));
+
+        stored.setId(5L);
+        when(webhookDeliveryRepository.findByDeadLetteredFalseAndNextAttemptDateLessThanEqualOrderByIdAsc(
+            any(LocalDateTime.class), any(Pageable.class))).thenReturn(List.of(stored));
+
+        assertEquals(1, dispatcher.retryDue());
+        assertEquals(1, received.size());
+        assertEquals("UPDATED", received.get(0).get("eventType").asText());
+        verify(webhookDeliveryRepository).deleteAllByIdInBatch(List.of(5L));
+    }
+
+    @Test
+    void shouldDeadLetterDeliveryAfterMaxAttempts() {
+        failuresToSimulate.set(1);
+        WebhookDelivery delivery = new WebhookDelivery();
+        delivery.setId(5L);
+        delivery.setSubscriptionId(1L);
+        delivery.setUrl("http://localhost:" + partner.getAddress().getPort() + "/hooks");
+        delivery.setPayload("{}");
+        delivery.setAttempts(2);
+        when(webhookDeliveryRepository.findByDeadLetteredFalseAndNextAttemptDateLessThanEqualOrderByIdAsc(
+            any(LocalDateTime.class), any(Pageable.class))).thenReturn(List.of(delivery));
+
+        dispatcher.retryDue();
+
+        assertEquals(3, delivery.getAttempts());
+        assertTrue(delivery.isDeadLettered());
+        verify(webhookDeliveryRepository).saveAll(List.of(delivery));
+        verify(webhookDeliveryRepository, never()).deleteAllByIdInBatch(any());
+    }
+
+    @Test
+    void shouldRecordUnsendableUrlAsFailureWithoutBlockingTheBatch() {
+        // Passes the registration pattern, but the underscore leaves URI without a host
+        WebhookSubscription broken = new WebhookSubscription();
+        broken.setId(2L);
+        broken.setUrl("http://partner_service:8080/hook");
+        broken.setActive(true);
+        subscriptions.add(0, broken);
+        when(outboxEventRepository.findAllByOrderByIdAsc(any(Pageable.class))).thenReturn(List.of(
+            new OutboxEvent(1L, 7L, CaseChangedEvent.Type.UPDATED, LocalDateTime.now())
+        ));
+        when(caseRepository.findAllById(anyIterable())).thenReturn(List.of(caseWithId(7L)));
+
+        assertEquals(1, dispatcher.dispatchBatch());
+
+        assertEquals(1, received.size());
+        verify(outboxEventRepository).deleteAllByIdInBatch(List.of(1L));
+        verify(webhookDeliveryRepository).saveAll(deliveriesCaptor.capture());
+        WebhookDelivery stored = deliveriesCaptor.getValue().get(0);
+        assertEquals(1, deliveriesCaptor.getValue().size());
+        assertEquals(2L, stored.getSubscriptionId());
+        assertEquals(1, stored.getAttempts());
+        assertTrue(stored.getLastError().startsWith("Invalid webhook URL"));
+    }
+
+    private Case caseWithId(Long id) {
+        Case existing = new Case();
+        existing.setId(id);
+        existing.setCaseNumber("HOOK" + id);
+        existing.setTitle("Webhook Case");
+        existing.setStatus(CaseStatus.IN_PROGRESS);
+        existing.setCreatedDate(LocalDateTime.now());
+        return existing;
+    }
+}